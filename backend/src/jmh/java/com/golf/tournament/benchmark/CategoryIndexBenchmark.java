@@ -0,0 +1,128 @@
+package com.golf.tournament.benchmark;
+
+import com.golf.tournament.model.TournamentCategory;
+import com.golf.tournament.service.CategoryIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Categoría de cada jugador de un torneo: el recorrido de todas las categorías con comparaciones de
+ * {@code BigDecimal} y normalización de sexo que tenían los servicios, contra {@link CategoryIndex}.
+ * El armado del índice se mide aparte: se hace una vez por torneo y queda cacheado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryIndexBenchmark {
+
+    @Param({"150", "500"})
+    int players;
+
+    /** Categorías por sexo, más una mixta que cubre todo el rango al final. */
+    @Param({"4", "16"})
+    int categoriesPerSex;
+
+    private List<TournamentCategory> categories;
+    private CategoryIndex index;
+    private BigDecimal[] handicaps;
+    private String[] sexes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        categories = new ArrayList<>();
+        long id = 1;
+        for (String sex : new String[]{"M", "F"}) {
+            for (int c = 0; c < categoriesPerSex; c++) {
+                BigDecimal min = BigDecimal.valueOf(540L * c / categoriesPerSex, 1);
+                BigDecimal max = BigDecimal.valueOf(540L * (c + 1) / categoriesPerSex - 1, 1);
+                categories.add(category(id++, sex + (c + 1), sex, min, max));
+            }
+        }
+        categories.add(category(id, "General", "X", new BigDecimal("-10.0"), new BigDecimal("54.0")));
+        index = CategoryIndex.of(categories);
+
+        Random random = new Random(42);
+        handicaps = new BigDecimal[players];
+        sexes = new String[players];
+        for (int p = 0; p < players; p++) {
+            handicaps[p] = BigDecimal.valueOf(random.nextInt(600) - 50, 1);
+            sexes[p] = switch (random.nextInt(10)) {
+                case 0 -> null;
+                case 1, 2, 3 -> "f";
+                default -> "M ";
+            };
+        }
+
+        for (int p = 0; p < players; p++) {
+            if (!Objects.equals(linearScan(handicaps[p], sexes[p]), index.resolve(handicaps[p], sexes[p]))) {
+                throw new IllegalStateException("El índice no resuelve lo mismo que el recorrido para " + handicaps[p]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole bh) {
+        for (int p = 0; p < players; p++) {
+            bh.consume(linearScan(handicaps[p], sexes[p]));
+        }
+    }
+
+    @Benchmark
+    public void categoryIndex(Blackhole bh) {
+        for (int p = 0; p < players; p++) {
+            bh.consume(index.resolve(handicaps[p], sexes[p]));
+        }
+    }
+
+    @Benchmark
+    public CategoryIndex buildIndex() {
+        return CategoryIndex.of(categories);
+    }
+
+    /** Lo que hacía cada servicio antes del índice. */
+    private TournamentCategory linearScan(BigDecimal handicapIndex, String playerSex) {
+        String sex = (playerSex == null || playerSex.isBlank()) ? "X" : playerSex.trim().toUpperCase();
+        if (!"M".equals(sex) && !"F".equals(sex)) sex = "X";
+        for (TournamentCategory cat : categories) {
+            String catSex = (cat.getSexoCategoria() == null || cat.getSexoCategoria().isBlank())
+                    ? "X" : cat.getSexoCategoria().trim().toUpperCase();
+            if (!"X".equals(catSex) && !catSex.equals(sex)) continue;
+            if (handicapIndex.compareTo(cat.getHandicapMin()) >= 0
+                    && handicapIndex.compareTo(cat.getHandicapMax()) <= 0) {
+                return cat;
+            }
+        }
+        return null;
+    }
+
+    private static TournamentCategory category(long id, String nombre, String sex, BigDecimal min, BigDecimal max) {
+        return TournamentCategory.builder()
+                .id(id)
+                .nombre(nombre)
+                .sexoCategoria(sex)
+                .handicapMin(min)
+                .handicapMax(max)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.golf.tournament.benchmark;
+
+import com.golf.tournament.dto.leaderboard.TournamentScoreDTO;
+import com.golf.tournament.model.Tournament;
+import com.golf.tournament.model.TournamentAdmin;
+import com.golf.tournament.service.ClasicScoreService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puntaje Clásico de una fecha: reparto de tarjetas en 5 categorías por handicap índice y sexo,
+ * ranking por categoría y ranking scratch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClasicCategoryBenchmark {
+
+    @Param({"50", "150", "500"})
+    int players;
+
+    private ClasicScoreService service;
+    private Long tournamentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryGolfData data = new InMemoryGolfData(players);
+        TournamentAdmin admin = data.addAdmin("CLASICO", "NETO_HCP_HOLE", "GLOBAL", 8);
+        Tournament tournament = data.addTournament("CLASICO", LocalDate.of(2024, 3, 1), true);
+        data.addStage(admin, List.of(tournament));
+        service = data.clasicScoreService();
+        tournamentId = tournament.getId();
+
+        if (service.calculateScores(tournamentId).isEmpty()) {
+            throw new IllegalStateException("Fixture incompleto: no se generaron puntajes por categoría");
+        }
+    }
+
+    @Benchmark
+    public List<TournamentScoreDTO> calculateScores() {
+        return service.calculateScores(tournamentId);
+    }
+}
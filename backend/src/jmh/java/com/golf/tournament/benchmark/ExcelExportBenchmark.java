@@ -0,0 +1,67 @@
+package com.golf.tournament.benchmark;
+
+import com.golf.tournament.model.Tournament;
+import com.golf.tournament.model.TournamentAdmin;
+import com.golf.tournament.service.ExcelExportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Excel de resultados de una fecha (una hoja en Frutales; una por categoría más scratch en Clásico),
+ * incluida la lectura de puntajes y la serialización del workbook a bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExcelExportBenchmark {
+
+    @Param({"50", "150", "500"})
+    int players;
+
+    @Param({"FRUTALES", "CLASICO"})
+    String tipo;
+
+    private ExcelExportService service;
+    private Long tournamentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryGolfData data = new InMemoryGolfData(players);
+        TournamentAdmin admin = data.addAdmin(tipo, "NETO_HCP_HOLE", "GLOBAL", 8);
+        Tournament tournament = data.addTournament(tipo, LocalDate.of(2024, 3, 1), true);
+        data.addStage(admin, List.of(tournament));
+        tournamentId = tournament.getId();
+        if ("FRUTALES".equals(tipo)) {
+            data.frutalesScoreService().calculateScores(tournamentId);
+        } else {
+            data.clasicScoreService().calculateScores(tournamentId);
+        }
+        service = data.excelExportService();
+
+        if (service.exportTournamentResults(tournamentId).length == 0) {
+            throw new IllegalStateException("Fixture incompleto: el Excel salió vacío");
+        }
+    }
+
+    @Benchmark
+    public byte[] exportTournamentResults() {
+        return service.exportTournamentResults(tournamentId);
+    }
+}
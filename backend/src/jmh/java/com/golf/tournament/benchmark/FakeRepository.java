@@ -0,0 +1,70 @@
+package com.golf.tournament.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Repositorio Spring Data en memoria para los benchmarks: un proxy de la interfaz que responde
+ * solo los métodos registrados con {@link #on}. El resto devuelve un valor vacío según el tipo
+ * de retorno (lista vacía, {@code Optional.empty()}, 0, false o null).
+ *
+ * Se usa en lugar de Mockito para que el costo de cada llamada sea despreciable frente a la
+ * lógica que se mide.
+ */
+final class FakeRepository<T> implements InvocationHandler {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final Class<T> type;
+    private final Map<String, Function<Object[], Object>> answers = new HashMap<>();
+
+    private FakeRepository(Class<T> type) {
+        this.type = type;
+    }
+
+    static <T> FakeRepository<T> of(Class<T> type) {
+        return new FakeRepository<>(type);
+    }
+
+    FakeRepository<T> on(String method, Function<Object[], Object> answer) {
+        answers.put(method, answer);
+        return this;
+    }
+
+    T build() {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, this));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> type.getSimpleName() + "(en memoria)";
+            };
+        }
+        Function<Object[], Object> answer = answers.get(method.getName());
+        if (answer != null) {
+            return answer.apply(args != null ? args : NO_ARGS);
+        }
+        return emptyValue(method.getReturnType());
+    }
+
+    private static Object emptyValue(Class<?> returnType) {
+        if (returnType == Optional.class) return Optional.empty();
+        if (Set.class.isAssignableFrom(returnType)) return Collections.emptySet();
+        if (Iterable.class.isAssignableFrom(returnType)) return Collections.emptyList();
+        if (returnType == boolean.class) return false;
+        if (returnType == long.class) return 0L;
+        if (returnType == int.class) return 0;
+        return null;
+    }
+}
@@ -0,0 +1,68 @@
+package com.golf.tournament.benchmark;
+
+import com.golf.tournament.dto.leaderboard.TournamentScoreDTO;
+import com.golf.tournament.model.Tournament;
+import com.golf.tournament.model.TournamentAdmin;
+import com.golf.tournament.service.FrutalesScoreService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranking Frutales de una fecha: armado de datos por tarjeta, orden con el comparador de desempate
+ * configurado, asignación de puntos y lectura posterior ({@code calculateScores} completo).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrutalesRankingBenchmark {
+
+    @Param({"50", "150", "500"})
+    int players;
+
+    @Param({"NETO_HCP_HOLE", "GROSS_BACK9"})
+    String tieBreakMode;
+
+    private FrutalesScoreService service;
+    private Long tournamentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryGolfData data = new InMemoryGolfData(players);
+        TournamentAdmin admin = data.addAdmin("FRUTALES", tieBreakMode, "GLOBAL", 0);
+        Tournament tournament = data.addTournament("FRUTALES", LocalDate.of(2024, 3, 1), true);
+        data.addStage(admin, List.of(tournament));
+        service = data.frutalesScoreService();
+        tournamentId = tournament.getId();
+
+        if (service.calculateScores(tournamentId).size() != players) {
+            throw new IllegalStateException("Fixture incompleto: el ranking no incluye a todos los jugadores");
+        }
+    }
+
+    @Benchmark
+    public List<TournamentScoreDTO> calculateScores() {
+        return service.calculateScores(tournamentId);
+    }
+
+    @Benchmark
+    public List<TournamentScoreDTO> getScores() {
+        return service.getScores(tournamentId);
+    }
+}
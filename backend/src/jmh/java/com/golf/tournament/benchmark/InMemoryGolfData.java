@@ -0,0 +1,591 @@
+package com.golf.tournament.benchmark;
+
+import com.golf.tournament.dto.leaderboard.LeaderboardEntryDTO;
+import com.golf.tournament.dto.tournament.TournamentCategoryDTO;
+import com.golf.tournament.dto.tournament.TournamentDTO;
+import com.golf.tournament.model.Course;
+import com.golf.tournament.model.Hole;
+import com.golf.tournament.model.HoleScore;
+import com.golf.tournament.model.Player;
+import com.golf.tournament.model.Scorecard;
+import com.golf.tournament.model.ScorecardStatus;
+import com.golf.tournament.model.Tournament;
+import com.golf.tournament.model.TournamentAdmin;
+import com.golf.tournament.model.TournamentAdminPlayoffResult;
+import com.golf.tournament.model.TournamentAdminScoringConfig;
+import com.golf.tournament.model.TournamentAdminScoringPositionPoints;
+import com.golf.tournament.model.TournamentAdminStage;
+import com.golf.tournament.model.TournamentAdminStageScore;
+import com.golf.tournament.model.TournamentCategory;
+import com.golf.tournament.model.TournamentInscription;
+import com.golf.tournament.model.TournamentScore;
+import com.golf.tournament.repository.HoleScoreRepository;
+import com.golf.tournament.repository.ScorecardRepository;
+import com.golf.tournament.repository.TournamentAdminPlayoffResultRepository;
+import com.golf.tournament.repository.TournamentAdminRepository;
+import com.golf.tournament.repository.TournamentAdminScoringConfigRepository;
+import com.golf.tournament.repository.TournamentAdminStageRepository;
+import com.golf.tournament.repository.TournamentAdminStageScoreRepository;
+import com.golf.tournament.repository.TournamentCategoryRepository;
+import com.golf.tournament.repository.TournamentInscriptionRepository;
+import com.golf.tournament.repository.TournamentRepository;
+import com.golf.tournament.repository.TournamentScoreRepository;
+import com.golf.tournament.service.CategoryIndexCache;
+import com.golf.tournament.service.ClasicScoreService;
+import com.golf.tournament.service.ExcelExportService;
+import com.golf.tournament.service.FrutalesScoreService;
+import com.golf.tournament.service.InscriptionService;
+import com.golf.tournament.service.LeaderboardService;
+import com.golf.tournament.service.TournamentAdminPlayoffResultService;
+import com.golf.tournament.service.TournamentAdminScoringConfigService;
+import com.golf.tournament.service.TournamentAdminService;
+import com.golf.tournament.service.TournamentAdminStageService;
+import com.golf.tournament.service.TournamentService;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Datos sintéticos en memoria para los benchmarks, con los servicios reales cableados contra
+ * repositorios {@link FakeRepository} que leen y escriben estas "tablas".
+ *
+ * Todo se genera con una semilla fija: dos corridas con los mismos parámetros miden los mismos datos.
+ * Las entidades solo tienen referencias hacia sus padres (tarjeta → torneo, no torneo → tarjetas)
+ * para no disparar la recursión de equals/hashCode de Lombok.
+ */
+final class InMemoryGolfData {
+
+    static final long SEED = 20240601L;
+
+    private static final int[] PARS = {4, 4, 3, 5, 4, 4, 3, 5, 4, 4, 5, 3, 4, 4, 3, 4, 5, 4};
+    private static final int[] HOLE_HANDICAPS = {7, 3, 17, 1, 11, 5, 15, 9, 13, 8, 2, 18, 6, 12, 16, 4, 10, 14};
+    private static final String[] APELLIDOS = {
+            "Gómez", "Fernández", "Rodríguez", "López", "Martínez", "García", "Pérez", "Sánchez",
+            "Romero", "Díaz", "Álvarez", "Torres", "Ruiz", "Benítez", "Acosta", "Medina"
+    };
+    private static final String[] CLUBES = {"Jockey Club", "San Andrés", "Olivos", "Pilará", "Highland"};
+
+    private final Random random = new Random(SEED);
+    private long nextId = 1;
+
+    private final Course course;
+    private final List<Hole> holes = new ArrayList<>();
+    private final List<Player> players = new ArrayList<>();
+
+    private final Map<Long, Tournament> tournaments = new HashMap<>();
+    private final Map<Long, List<Scorecard>> scorecardsByTournament = new HashMap<>();
+    private final Map<Long, List<HoleScore>> holeScoresByScorecard = new HashMap<>();
+    private final Map<Long, List<TournamentCategory>> categoriesByTournament = new HashMap<>();
+    private final Map<Long, List<TournamentInscription>> inscriptionsByTournament = new HashMap<>();
+    private final Map<Long, List<LeaderboardEntryDTO>> leaderboards = new HashMap<>();
+    private final Map<String, List<TournamentScore>> tournamentScores = new HashMap<>();
+
+    private final Map<Long, TournamentAdmin> admins = new HashMap<>();
+    private final Map<Long, TournamentAdminScoringConfig> scoringConfigs = new HashMap<>();
+    private final Map<Long, TournamentAdmin> adminByTournament = new HashMap<>();
+    private final Map<Long, TournamentAdminStage> stages = new LinkedHashMap<>();
+    private final Map<String, List<TournamentAdminStageScore>> stageScores = new HashMap<>();
+    private final Map<String, List<TournamentAdminPlayoffResult>> playoffResults = new HashMap<>();
+
+    InMemoryGolfData(int playerCount) {
+        course = Course.builder().id(nextId++).nombre("Campo Benchmark").cantidadHoyos(18).build();
+        for (int i = 0; i < PARS.length; i++) {
+            holes.add(Hole.builder()
+                    .id(nextId++)
+                    .course(course)
+                    .numeroHoyo(i + 1)
+                    .par(PARS[i])
+                    .handicap(HOLE_HANDICAPS[i])
+                    .build());
+        }
+        for (int i = 0; i < playerCount; i++) {
+            long id = nextId++;
+            players.add(Player.builder()
+                    .id(id)
+                    .nombre("Jugador" + i)
+                    .apellido(APELLIDOS[i % APELLIDOS.length])
+                    .matricula(String.valueOf(10_000 + i))
+                    .sexo(random.nextDouble() < 0.2 ? "F" : "M")
+                    .handicapIndex(BigDecimal.valueOf(random.nextInt(361), 1))
+                    .clubOrigen(CLUBES[i % CLUBES.length])
+                    .build());
+        }
+    }
+
+    List<Player> players() {
+        return players;
+    }
+
+    // ── Fixtures ─────────────────────────────────────────────────────────────
+
+    TournamentAdmin addAdmin(String tipo, String tieBreakMode, String hcpQualifiedMode, int qualifiedScratch) {
+        TournamentAdmin admin = TournamentAdmin.builder()
+                .id(nextId++)
+                .nombre("Circuito " + tipo)
+                .tipo(tipo)
+                .build();
+        TournamentAdminScoringConfig config = TournamentAdminScoringConfig.builder()
+                .id(nextId++)
+                .tournamentAdmin(admin)
+                .tieBreakMode(tieBreakMode)
+                .hcpQualifiedMode(hcpQualifiedMode)
+                .qualifiedPlayoffPositionsScratch(qualifiedScratch)
+                .build();
+        int[] points = {12, 10, 8, 6, 4, 2};
+        for (int i = 0; i < points.length; i++) {
+            config.getPositionPoints().add(TournamentAdminScoringPositionPoints.builder()
+                    .id(nextId++)
+                    .scoringConfig(config)
+                    .position(i + 1)
+                    .points(points[i])
+                    .build());
+        }
+        admins.put(admin.getId(), admin);
+        scoringConfigs.put(admin.getId(), config);
+        return admin;
+    }
+
+    /**
+     * Crea un torneo con todos los jugadores inscriptos. Con {@code playRound} genera además las
+     * tarjetas (85% entregadas, 10% canceladas a mitad de vuelta, 5% descalificadas) y el leaderboard.
+     */
+    Tournament addTournament(String tipo, LocalDate fecha, boolean playRound) {
+        Tournament tournament = Tournament.builder()
+                .id(nextId++)
+                .nombre("Fecha " + fecha)
+                .codigo("BENCH" + nextId)
+                .tipo(tipo)
+                .estado("FINALIZED")
+                .course(course)
+                .cantidadHoyosJuego(18)
+                .fechaInicio(fecha)
+                .build();
+        tournaments.put(tournament.getId(), tournament);
+
+        List<TournamentCategory> categories = "CLASICO".equals(tipo) ? buildCategories(tournament) : List.of();
+        categoriesByTournament.put(tournament.getId(), categories);
+
+        List<TournamentInscription> inscriptions = new ArrayList<>();
+        for (Player player : players) {
+            inscriptions.add(TournamentInscription.builder()
+                    .id(nextId++)
+                    .tournament(tournament)
+                    .player(player)
+                    .category(resolveCategory(player, categories))
+                    .handicapCourse(courseHandicap(player))
+                    .pagado(true)
+                    .build());
+        }
+        inscriptionsByTournament.put(tournament.getId(), inscriptions);
+
+        if (playRound) {
+            playRound(tournament, categories);
+        }
+        return tournament;
+    }
+
+    TournamentAdminStage addStage(TournamentAdmin admin, List<Tournament> fechas) {
+        TournamentAdminStage stage = TournamentAdminStage.builder()
+                .id(nextId++)
+                .tournamentAdmin(admin)
+                .nombre("Etapa " + (stages.size() + 1))
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(stages.size()))
+                .build();
+        stage.getTournaments().addAll(fechas);
+        stages.put(stage.getId(), stage);
+        for (Tournament fecha : fechas) {
+            adminByTournament.put(fecha.getId(), admin);
+        }
+        return stage;
+    }
+
+    /**
+     * Puntajes de etapa ya calculados, sin pasar por las fechas: para medir el playoff aislado
+     * del recálculo de etapas. Participa el 90% de los jugadores en cada etapa.
+     */
+    void addSyntheticStageScores(TournamentAdminStage stage, String scoreType, int maxPoints) {
+        List<TournamentAdminStageScore> scores = new ArrayList<>();
+        for (Player player : players) {
+            if (random.nextDouble() >= 0.9) continue;
+            scores.add(TournamentAdminStageScore.builder()
+                    .id(nextId++)
+                    .stage(stage)
+                    .player(player)
+                    .scoreType(scoreType)
+                    .totalPoints(random.nextInt(maxPoints + 1))
+                    .tieBreakHandicapIndex(player.getHandicapIndex())
+                    .build());
+        }
+        scores.sort(Comparator.comparing(TournamentAdminStageScore::getTotalPoints, Comparator.reverseOrder())
+                .thenComparing(TournamentAdminStageScore::getTieBreakHandicapIndex));
+        for (int i = 0; i < scores.size(); i++) {
+            scores.get(i).setPosition(i + 1);
+        }
+        stageScores.put(key(stage.getId(), scoreType), scores);
+    }
+
+    private List<TournamentCategory> buildCategories(Tournament tournament) {
+        Object[][] rows = {
+                {"Primera", "M", "0.0", "9.9"},
+                {"Segunda", "M", "10.0", "16.9"},
+                {"Tercera", "M", "17.0", "24.9"},
+                {"Cuarta", "M", "25.0", "36.0"},
+                {"Damas", "F", "0.0", "36.0"}
+        };
+        List<TournamentCategory> categories = new ArrayList<>();
+        for (Object[] row : rows) {
+            categories.add(TournamentCategory.builder()
+                    .id(nextId++)
+                    .tournament(tournament)
+                    .nombre((String) row[0])
+                    .sexoCategoria((String) row[1])
+                    .handicapMin(new BigDecimal((String) row[2]))
+                    .handicapMax(new BigDecimal((String) row[3]))
+                    .build());
+        }
+        return categories;
+    }
+
+    private void playRound(Tournament tournament, List<TournamentCategory> categories) {
+        List<Scorecard> scorecards = new ArrayList<>();
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            double r = random.nextDouble();
+            ScorecardStatus status = r < 0.85 ? ScorecardStatus.DELIVERED
+                    : r < 0.95 ? ScorecardStatus.CANCELLED
+                    : ScorecardStatus.DISQUALIFIED;
+            Scorecard scorecard = Scorecard.builder()
+                    .id(nextId++)
+                    .tournament(tournament)
+                    .player(player)
+                    .marker(players.get((i + 1) % players.size()))
+                    .handicapCourse(courseHandicap(player))
+                    .cantidadHoyosJuego(18)
+                    .status(status)
+                    .marcadorValidado(status == ScorecardStatus.DELIVERED)
+                    .build();
+
+            int holesPlayed = status == ScorecardStatus.CANCELLED ? random.nextInt(18) : 18;
+            List<HoleScore> holeScores = new ArrayList<>(holesPlayed);
+            for (int h = 0; h < holesPlayed; h++) {
+                Hole hole = holes.get(h);
+                int strokes = strokes(hole.getPar(), player.getHandicapIndex().doubleValue());
+                holeScores.add(HoleScore.builder()
+                        .id(nextId++)
+                        .scorecard(scorecard)
+                        .hole(hole)
+                        .golpesPropio(strokes)
+                        .golpesMarcador(strokes)
+                        .validado(true)
+                        .build());
+            }
+            holeScoresByScorecard.put(scorecard.getId(), holeScores);
+            scorecards.add(scorecard);
+        }
+        scorecardsByTournament.put(tournament.getId(), scorecards);
+        leaderboards.put(tournament.getId(), buildLeaderboard(scorecards, categories));
+    }
+
+    /** Golpes de un hoyo: en promedio par + handicap/18, con birdies, algún eagle y hoyos en uno raros. */
+    private int strokes(int par, double handicapIndex) {
+        double r = random.nextDouble();
+        if (par == 3 && r < 0.002) return 1;
+        if (par == 5 && r < 0.01) return 3;
+        if (r < 0.15 - handicapIndex / 400) return par - 1;
+        double extra = handicapIndex / 18;
+        int strokes = par + (int) extra;
+        if (random.nextDouble() < extra - (int) extra) strokes++;
+        if (random.nextDouble() < 0.2) strokes++;
+        return strokes;
+    }
+
+    private List<LeaderboardEntryDTO> buildLeaderboard(List<Scorecard> scorecards, List<TournamentCategory> categories) {
+        List<LeaderboardEntryDTO> entries = new ArrayList<>();
+        for (Scorecard sc : scorecards) {
+            Player player = sc.getPlayer();
+            Integer gross = null;
+            BigDecimal neto = null;
+            if (sc.getStatus() == ScorecardStatus.DELIVERED) {
+                gross = holeScoresByScorecard.get(sc.getId()).stream().mapToInt(HoleScore::getGolpesPropio).sum();
+                neto = BigDecimal.valueOf(gross).subtract(sc.getHandicapCourse());
+            }
+            TournamentCategory category = resolveCategory(player, categories);
+            entries.add(LeaderboardEntryDTO.builder()
+                    .scorecardId(sc.getId())
+                    .playerId(player.getId())
+                    .playerName(player.getApellido() + " " + player.getNombre())
+                    .matricula(player.getMatricula())
+                    .clubOrigen(player.getClubOrigen())
+                    .categoryId(category != null ? category.getId() : null)
+                    .categoryName(category != null ? category.getNombre() : null)
+                    .scoreGross(gross)
+                    .scoreNeto(neto)
+                    .totalPar(72)
+                    .scoreToPar(neto != null ? neto.subtract(BigDecimal.valueOf(72)) : null)
+                    .handicapCourse(sc.getHandicapCourse())
+                    .handicapIndex(player.getHandicapIndex())
+                    .status(sc.getStatus().name())
+                    .pagado(true)
+                    .build());
+        }
+        entries.sort(Comparator.comparing(LeaderboardEntryDTO::getScoreNeto, Comparator.nullsLast(BigDecimal::compareTo)));
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).getScoreNeto() != null) {
+                entries.get(i).setPosition(i + 1);
+            }
+        }
+        return entries;
+    }
+
+    private static BigDecimal courseHandicap(Player player) {
+        return player.getHandicapIndex().multiply(new BigDecimal("1.13")).setScale(0, RoundingMode.HALF_UP);
+    }
+
+    private static TournamentCategory resolveCategory(Player player, List<TournamentCategory> categories) {
+        for (TournamentCategory category : categories) {
+            if (category.getSexoCategoria().equals(player.getSexo())
+                    && player.getHandicapIndex().compareTo(category.getHandicapMin()) >= 0
+                    && player.getHandicapIndex().compareTo(category.getHandicapMax()) <= 0) {
+                return category;
+            }
+        }
+        return null;
+    }
+
+    private static String key(Long id, String type) {
+        return id + ":" + type;
+    }
+
+    // ── DTOs que en producción arman otros servicios ────────────────────────
+
+    TournamentDTO tournamentDTO(Long tournamentId) {
+        Tournament t = tournaments.get(tournamentId);
+        TournamentAdmin admin = adminByTournament.get(tournamentId);
+        return TournamentDTO.builder()
+                .id(t.getId())
+                .nombre(t.getNombre())
+                .codigo(t.getCodigo())
+                .tipo(t.getTipo())
+                .modalidad(t.getModalidad())
+                .estado(t.getEstado())
+                .courseId(course.getId())
+                .courseName(course.getNombre())
+                .cantidadHoyosJuego(t.getCantidadHoyosJuego())
+                .fechaInicio(t.getFechaInicio())
+                .currentInscriptos(inscriptionsByTournament.get(tournamentId).size())
+                .categories(categoriesByTournament.get(tournamentId).stream()
+                        .map(c -> TournamentCategoryDTO.builder()
+                                .id(c.getId())
+                                .nombre(c.getNombre())
+                                .handicapMin(c.getHandicapMin())
+                                .handicapMax(c.getHandicapMax())
+                                .sexoCategoria(c.getSexoCategoria())
+                                .build())
+                        .collect(Collectors.toList()))
+                .prizes(List.of())
+                .scoringConfig(scoringConfigService().getOrDefaultByTournamentAdminId(admin != null ? admin.getId() : -1L))
+                .tournamentAdminId(admin != null ? admin.getId() : null)
+                .build();
+    }
+
+    // ── Repositorios en memoria ─────────────────────────────────────────────
+
+    TournamentRepository tournamentRepository() {
+        return FakeRepository.of(TournamentRepository.class)
+                .on("findById", a -> Optional.ofNullable(tournaments.get((Long) a[0])))
+                .on("findByStageIdOrderByFechaInicioDesc", a -> stages.get((Long) a[0]).getTournaments().stream()
+                        .sorted(Comparator.comparing(Tournament::getFechaInicio).reversed())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    TournamentAdminRepository tournamentAdminRepository() {
+        return FakeRepository.of(TournamentAdminRepository.class)
+                .on("findById", a -> Optional.ofNullable(admins.get((Long) a[0])))
+                .on("getReferenceById", a -> admins.get((Long) a[0]))
+                .on("existsById", a -> admins.containsKey((Long) a[0]))
+                .on("findByTournamentInAnyStage", a -> Optional.ofNullable(adminByTournament.get((Long) a[0])))
+                .build();
+    }
+
+    TournamentAdminScoringConfigRepository scoringConfigRepository() {
+        return FakeRepository.of(TournamentAdminScoringConfigRepository.class)
+                .on("findByTournamentAdminId", a -> Optional.ofNullable(scoringConfigs.get((Long) a[0])))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    ScorecardRepository scorecardRepository() {
+        return FakeRepository.of(ScorecardRepository.class)
+                .on("findByTournamentIdAndStatusIn", a -> scorecardsByTournament.getOrDefault((Long) a[0], List.of()).stream()
+                        .filter(sc -> ((Collection<ScorecardStatus>) a[1]).contains(sc.getStatus()))
+                        .collect(Collectors.toList()))
+                .on("findByTournamentIdAndStatus", a -> scorecardsByTournament.getOrDefault((Long) a[0], List.of()).stream()
+                        .filter(sc -> sc.getStatus() == a[1])
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    HoleScoreRepository holeScoreRepository() {
+        return FakeRepository.of(HoleScoreRepository.class)
+                .on("findByScorecardId", a -> holeScoresByScorecard.getOrDefault((Long) a[0], List.of()))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    TournamentScoreRepository tournamentScoreRepository() {
+        return FakeRepository.of(TournamentScoreRepository.class)
+                .on("deleteAllByTournamentIdAndScoreType", a -> tournamentScores.remove(key((Long) a[0], (String) a[1])))
+                .on("saveAll", a -> {
+                    List<TournamentScore> saved = new ArrayList<>();
+                    for (TournamentScore score : (Iterable<TournamentScore>) a[0]) {
+                        tournamentScores.computeIfAbsent(key(score.getTournament().getId(), score.getScoreType()),
+                                k -> new ArrayList<>()).add(score);
+                        saved.add(score);
+                    }
+                    return saved;
+                })
+                .on("findByTournamentIdAndScoreTypeOrderByTotalPointsDesc", a ->
+                        tournamentScores.getOrDefault(key((Long) a[0], (String) a[1]), List.of()).stream()
+                                .sorted(Comparator.comparing(TournamentScore::getTotalPoints).reversed())
+                                .collect(Collectors.toList()))
+                .build();
+    }
+
+    TournamentCategoryRepository categoryRepository() {
+        return FakeRepository.of(TournamentCategoryRepository.class)
+                .on("findByTournamentId", a -> categoriesByTournament.getOrDefault((Long) a[0], List.of()))
+                .build();
+    }
+
+    TournamentInscriptionRepository inscriptionRepository() {
+        return FakeRepository.of(TournamentInscriptionRepository.class)
+                .on("findByTournamentId", a -> inscriptionsByTournament.getOrDefault((Long) a[0], List.of()))
+                .build();
+    }
+
+    TournamentAdminStageRepository stageRepository() {
+        return FakeRepository.of(TournamentAdminStageRepository.class)
+                .on("findByIdAndTournamentAdminId", a -> Optional.ofNullable(stages.get((Long) a[0]))
+                        .filter(s -> s.getTournamentAdmin().getId().equals(a[1])))
+                .on("findByTournamentAdminIdOrderByCreatedAtAsc", a -> stages.values().stream()
+                        .filter(s -> s.getTournamentAdmin().getId().equals(a[0]))
+                        .sorted(Comparator.comparing(TournamentAdminStage::getCreatedAt))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    TournamentAdminStageScoreRepository stageScoreRepository() {
+        return FakeRepository.of(TournamentAdminStageScoreRepository.class)
+                .on("deleteByStageIdAndScoreType", a -> stageScores.remove(key((Long) a[0], (String) a[1])))
+                .on("saveAll", a -> {
+                    List<TournamentAdminStageScore> saved = new ArrayList<>();
+                    for (TournamentAdminStageScore score : (Iterable<TournamentAdminStageScore>) a[0]) {
+                        stageScores.computeIfAbsent(key(score.getStage().getId(), score.getScoreType()),
+                                k -> new ArrayList<>()).add(score);
+                        saved.add(score);
+                    }
+                    return saved;
+                })
+                .on("findByStageIdAndScoreTypeOrderByPositionAsc", a ->
+                        stageScores.getOrDefault(key((Long) a[0], (String) a[1]), List.of()).stream()
+                                .sorted(Comparator.comparing(TournamentAdminStageScore::getPosition,
+                                        Comparator.nullsLast(Integer::compareTo)))
+                                .collect(Collectors.toList()))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    TournamentAdminPlayoffResultRepository playoffResultRepository() {
+        return FakeRepository.of(TournamentAdminPlayoffResultRepository.class)
+                .on("deleteByTournamentAdminId", a -> playoffResults.keySet().removeIf(k -> k.startsWith(a[0] + ":")))
+                .on("deleteByTournamentAdminIdAndScoreType", a -> playoffResults.remove(key((Long) a[0], (String) a[1])))
+                .on("saveAll", a -> {
+                    List<TournamentAdminPlayoffResult> saved = new ArrayList<>();
+                    for (TournamentAdminPlayoffResult result : (Iterable<TournamentAdminPlayoffResult>) a[0]) {
+                        playoffResults.computeIfAbsent(key(result.getTournamentAdmin().getId(), result.getScoreType()),
+                                k -> new ArrayList<>()).add(result);
+                        saved.add(result);
+                    }
+                    return saved;
+                })
+                .on("findByTournamentAdminIdAndScoreTypeOrderByPositionAsc", a ->
+                        playoffResults.getOrDefault(key((Long) a[0], (String) a[1]), List.of()).stream()
+                                .sorted(Comparator.comparing(TournamentAdminPlayoffResult::getPosition))
+                                .collect(Collectors.toList()))
+                .build();
+    }
+
+    // ── Servicios reales sobre los repositorios en memoria ──────────────────
+
+    TournamentAdminScoringConfigService scoringConfigService() {
+        return new TournamentAdminScoringConfigService(tournamentAdminRepository(), scoringConfigRepository());
+    }
+
+    FrutalesScoreService frutalesScoreService() {
+        return new FrutalesScoreService(tournamentRepository(), tournamentAdminRepository(), scorecardRepository(),
+                holeScoreRepository(), tournamentScoreRepository(), scoringConfigService());
+    }
+
+    CategoryIndexCache categoryIndexCache() {
+        return new CategoryIndexCache(categoryRepository(), Duration.ofSeconds(30));
+    }
+
+    ClasicScoreService clasicScoreService() {
+        return new ClasicScoreService(tournamentRepository(), tournamentAdminRepository(), scorecardRepository(),
+                holeScoreRepository(), tournamentScoreRepository(), categoryRepository(), categoryIndexCache(),
+                scoringConfigService());
+    }
+
+    /** El leaderboard se precalcula al jugar la vuelta; el mock solo lo devuelve. */
+    LeaderboardService leaderboardService() {
+        LeaderboardService leaderboardService = mock(LeaderboardService.class);
+        when(leaderboardService.getLeaderboard(anyLong(), any()))
+                .thenAnswer(inv -> leaderboards.getOrDefault(inv.<Long>getArgument(0), List.of()));
+        return leaderboardService;
+    }
+
+    TournamentAdminStageService stageService() {
+        return new TournamentAdminStageService(tournamentAdminRepository(), stageRepository(), stageScoreRepository(),
+                tournamentRepository(), inscriptionRepository(), tournamentScoreRepository(), categoryRepository(),
+                categoryIndexCache(), leaderboardService());
+    }
+
+    /**
+     * Playoff con un servicio de etapas que no recalcula: los puntajes de etapa ya están cargados
+     * (ver {@link #addSyntheticStageScores}) y el recálculo se mide aparte.
+     */
+    TournamentAdminPlayoffResultService playoffResultService() {
+        return new TournamentAdminPlayoffResultService(tournamentAdminRepository(), stageRepository(),
+                stageScoreRepository(), playoffResultRepository(), mock(TournamentAdminStageService.class),
+                scoringConfigService(), tournamentRepository(), categoryRepository());
+    }
+
+    ExcelExportService excelExportService() {
+        TournamentService tournamentService = mock(TournamentService.class);
+        when(tournamentService.getTournamentById(anyLong()))
+                .thenAnswer(inv -> tournamentDTO(inv.getArgument(0)));
+        return new ExcelExportService(tournamentService, mock(InscriptionService.class),
+                mock(TournamentAdminService.class), leaderboardService(), frutalesScoreService(),
+                clasicScoreService(), stageService(), playoffResultService());
+    }
+}
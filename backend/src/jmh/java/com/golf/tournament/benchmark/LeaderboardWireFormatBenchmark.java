@@ -0,0 +1,94 @@
+package com.golf.tournament.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golf.tournament.dto.leaderboard.LeaderboardEntryDTO;
+import com.golf.tournament.model.Tournament;
+import com.golf.tournament.service.PublicLeaderboardPayloadService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialización del leaderboard público: JSON contra Smile, con y sin gzip. Es lo que hace
+ * {@code PublicLeaderboardPayloadService} cada vez que cambia la versión de un torneo.
+ *
+ * Los tamaños no son un resultado de JMH: se imprimen en el setup de cada trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeaderboardWireFormatBenchmark {
+
+    @Param({"50", "150", "500"})
+    int players;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper smileMapper;
+    private List<LeaderboardEntryDTO> leaderboard;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        InMemoryGolfData data = new InMemoryGolfData(players);
+        Tournament tournament = data.addTournament("FRUTALES", LocalDate.of(2024, 3, 1), true);
+        leaderboard = data.leaderboardService().getLeaderboard(tournament.getId(), null);
+        jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        smileMapper = PublicLeaderboardPayloadService.smileMapper(jsonMapper);
+
+        byte[] json = json();
+        byte[] smile = smile();
+        LeaderboardEntryDTO[] decoded = smileMapper.readValue(smile, LeaderboardEntryDTO[].class);
+        if (decoded.length != players || !List.of(decoded).equals(leaderboard)) {
+            throw new IllegalStateException("El leaderboard en Smile no vuelve igual al original");
+        }
+        System.out.printf("%n[tamaños, %d jugadores] json=%d json+gzip=%d smile=%d smile+gzip=%d bytes%n",
+                players, json.length, gzip(json).length, smile.length, gzip(smile).length);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return jsonMapper.writeValueAsBytes(leaderboard);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        return gzip(jsonMapper.writeValueAsBytes(leaderboard));
+    }
+
+    @Benchmark
+    public byte[] smile() throws IOException {
+        return smileMapper.writeValueAsBytes(leaderboard);
+    }
+
+    @Benchmark
+    public byte[] smileGzip() throws IOException {
+        return gzip(smileMapper.writeValueAsBytes(leaderboard));
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        }
+        return out.toByteArray();
+    }
+}
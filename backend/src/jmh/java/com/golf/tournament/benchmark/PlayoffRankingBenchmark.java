@@ -0,0 +1,70 @@
+package com.golf.tournament.benchmark;
+
+import com.golf.tournament.dto.tournamentadmin.TournamentAdminPlayoffResultsDTO;
+import com.golf.tournament.model.TournamentAdmin;
+import com.golf.tournament.model.TournamentAdminStage;
+import com.golf.tournament.service.TournamentAdminPlayoffResultService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranking del playoff de un circuito Clásico sobre muchas etapas: acumulado por jugador, desempate
+ * por posiciones de etapa (de la última a la primera), clasificados global o por categoría y scratch.
+ * No incluye el recálculo de cada etapa, que se mide en {@link StageAggregationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayoffRankingBenchmark {
+
+    private static final int PLAYERS = 150;
+
+    @Param({"4", "12", "24"})
+    int stages;
+
+    @Param({"GLOBAL", "PER_CATEGORY"})
+    String hcpQualifiedMode;
+
+    private TournamentAdminPlayoffResultService service;
+    private Long adminId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryGolfData data = new InMemoryGolfData(PLAYERS);
+        TournamentAdmin admin = data.addAdmin("CLASICO", "NETO_HCP_HOLE", hcpQualifiedMode, 8);
+        for (int i = 0; i < stages; i++) {
+            TournamentAdminStage stage = data.addStage(admin,
+                    List.of(data.addTournament("CLASICO", LocalDate.of(2024, 1, 6).plusWeeks(i), false)));
+            data.addSyntheticStageScores(stage, "HCP", 60);
+            data.addSyntheticStageScores(stage, "SCRATCH", 60);
+        }
+        service = data.playoffResultService();
+        adminId = admin.getId();
+
+        if (service.calculateResults(adminId).getRows().isEmpty()) {
+            throw new IllegalStateException("Fixture incompleto: el playoff no tiene filas");
+        }
+    }
+
+    @Benchmark
+    public TournamentAdminPlayoffResultsDTO calculateResults() {
+        return service.calculateResults(adminId);
+    }
+}
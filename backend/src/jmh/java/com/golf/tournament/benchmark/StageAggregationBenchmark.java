@@ -0,0 +1,87 @@
+package com.golf.tournament.benchmark;
+
+import com.golf.tournament.dto.tournamentadmin.TournamentAdminStageBoardDTO;
+import com.golf.tournament.model.Tournament;
+import com.golf.tournament.model.TournamentAdmin;
+import com.golf.tournament.service.ClasicScoreService;
+import com.golf.tournament.service.FrutalesScoreService;
+import com.golf.tournament.service.TournamentAdminStageService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agregación de una etapa de circuito: suma de puntos de las fechas por jugador, ranking de etapa
+ * y tablero (HCP, scratch y categorías en Clásico). Las fechas ya tienen sus puntajes calculados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StageAggregationBenchmark {
+
+    private static final int FECHAS = 8;
+
+    @Param({"50", "150", "500"})
+    int players;
+
+    @Param({"FRUTALES", "CLASICO"})
+    String tipo;
+
+    private TournamentAdminStageService service;
+    private Long adminId;
+    private Long stageId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryGolfData data = new InMemoryGolfData(players);
+        TournamentAdmin admin = data.addAdmin(tipo, "NETO_HCP_HOLE", "GLOBAL", 8);
+        List<Tournament> fechas = new ArrayList<>();
+        for (int i = 0; i < FECHAS; i++) {
+            fechas.add(data.addTournament(tipo, LocalDate.of(2024, 3, 1).plusWeeks(i), true));
+        }
+        stageId = data.addStage(admin, fechas).getId();
+        adminId = admin.getId();
+
+        FrutalesScoreService frutales = data.frutalesScoreService();
+        ClasicScoreService clasic = data.clasicScoreService();
+        for (Tournament fecha : fechas) {
+            if ("FRUTALES".equals(tipo)) {
+                frutales.calculateScores(fecha.getId());
+            } else {
+                clasic.calculateScores(fecha.getId());
+            }
+        }
+        service = data.stageService();
+
+        if (service.calculateStageScores(adminId, stageId).getRows().size() != players) {
+            throw new IllegalStateException("Fixture incompleto: el tablero no incluye a todos los jugadores");
+        }
+    }
+
+    @Benchmark
+    public TournamentAdminStageBoardDTO calculateStageScores() {
+        return service.calculateStageScores(adminId, stageId);
+    }
+
+    @Benchmark
+    public TournamentAdminStageBoardDTO getStageBoard() {
+        return service.getStageBoard(adminId, stageId);
+    }
+}
@@ -0,0 +1,33 @@
+package com.golf.tournament.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Ejecutores para trabajo en segundo plano. El cálculo de puntos posterior al cierre automático
+ * corre en un pool propio para que un torneo grande no demore el cierre de los demás.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String CLOSE_SCORING_EXECUTOR = "closeScoringExecutor";
+
+    @Bean(name = CLOSE_SCORING_EXECUTOR)
+    public ThreadPoolTaskExecutor closeScoringExecutor(
+            @Value("${tournament.auto-close.scoring-threads:2}") int threads,
+            @Value("${tournament.auto-close.scoring-queue:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("close-scoring-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
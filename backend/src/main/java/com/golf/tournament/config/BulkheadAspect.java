@@ -0,0 +1,149 @@
+package com.golf.tournament.config;
+
+import com.golf.tournament.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Separa el tráfico público de espectadores del de carga de tarjetas para que un pico de consultas
+ * al leaderboard no deje sin conexiones a quienes están cargando los últimos hoyos.
+ *
+ * Cada clase tiene un semáforo con su máximo de requests en curso. El lugar se toma alrededor del
+ * método del controller, que es donde están las transacciones y el armado de la respuesta, y se
+ * devuelve antes de escribirla: un cliente lento descargando el payload no retiene el lugar. Así
+ * el máximo acota las conexiones de base que la clase puede ocupar, aun cuando las lecturas públicas
+ * caen al primario porque la réplica no está disponible. Por eso las dos clases y la reserva de
+ * administración tienen que entrar en el pool (ver {@link BulkheadProperties}).
+ * Si no hay lugar dentro de {@code max-wait-ms} se responde 503 con Retry-After en vez de encolar.
+ * El resto de los endpoints (administración) no tiene límite.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 200)
+public class BulkheadAspect {
+
+    enum TrafficClass { PUBLIC, SCORING }
+
+    private final BulkheadProperties properties;
+    private final Map<TrafficClass, Compartment> compartments = new EnumMap<>(TrafficClass.class);
+
+    public BulkheadAspect(BulkheadProperties properties, MeterRegistry meterRegistry,
+                          @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.properties = properties;
+        int publicMax = properties.getPublicReads().getMaxConcurrent();
+        int scoringMax = properties.getScoring().getMaxConcurrent();
+        if (properties.isEnabled() && publicMax + scoringMax + properties.getAdminReserve() > poolSize) {
+            throw new IllegalStateException(String.format(
+                    "bulkhead: public-reads (%d) + scoring (%d) + admin-reserve (%d) supera el pool de %d conexiones",
+                    publicMax, scoringMax, properties.getAdminReserve(), poolSize));
+        }
+        compartments.put(TrafficClass.PUBLIC, new Compartment("public", properties.getPublicReads(), publicMax, meterRegistry));
+        compartments.put(TrafficClass.SCORING, new Compartment("scoring", properties.getScoring(), scoringMax, meterRegistry));
+    }
+
+    @Around("within(com.golf.tournament.controller..*) "
+            + "&& @within(org.springframework.web.bind.annotation.RestController)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        HttpServletRequest request = currentRequest();
+        TrafficClass trafficClass = properties.isEnabled() && request != null ? classify(request) : null;
+        if (trafficClass == null) {
+            return joinPoint.proceed();
+        }
+        Compartment compartment = compartments.get(trafficClass);
+        if (!compartment.tryEnter()) {
+            log.debug("Bulkhead '{}' lleno, 503 para {} {}", compartment.name, request.getMethod(), request.getRequestURI());
+            int retryAfter = compartment.limit.getRetryAfterSeconds();
+            throw new ServiceUnavailableException("Servidor ocupado, reintentar en " + retryAfter + " segundos", retryAfter);
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            compartment.leave();
+        }
+    }
+
+    static TrafficClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/leaderboard/public/") || path.startsWith("/public/")) {
+            return TrafficClass.PUBLIC;
+        }
+        if (path.startsWith("/scorecards/") || path.equals("/scorecards")) {
+            return TrafficClass.SCORING;
+        }
+        return null;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+
+    private static final class Compartment {
+        private final String name;
+        private final BulkheadProperties.Limit limit;
+        private final Semaphore permits;
+        private final Counter accepted;
+        private final Counter rejected;
+
+        Compartment(String name, BulkheadProperties.Limit limit, int maxConcurrent, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.limit = limit;
+            this.permits = new Semaphore(maxConcurrent);
+            this.accepted = Counter.builder("golf.bulkhead.calls")
+                    .description("Requests por clase de tráfico, aceptados o rechazados con 503")
+                    .tag("class", name)
+                    .tag("outcome", "accepted")
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("golf.bulkhead.calls")
+                    .description("Requests por clase de tráfico, aceptados o rechazados con 503")
+                    .tag("class", name)
+                    .tag("outcome", "rejected")
+                    .register(meterRegistry);
+            Gauge.builder("golf.bulkhead.active", permits, p -> maxConcurrent - p.availablePermits())
+                    .description("Requests en curso por clase de tráfico")
+                    .tag("class", name)
+                    .register(meterRegistry);
+            Gauge.builder("golf.bulkhead.limit", () -> maxConcurrent)
+                    .description("Máximo de requests en curso por clase de tráfico")
+                    .tag("class", name)
+                    .register(meterRegistry);
+        }
+
+        boolean tryEnter() {
+            boolean entered;
+            try {
+                entered = limit.getMaxWaitMs() > 0
+                        ? permits.tryAcquire(limit.getMaxWaitMs(), TimeUnit.MILLISECONDS)
+                        : permits.tryAcquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                entered = false;
+            }
+            (entered ? accepted : rejected).increment();
+            return entered;
+        }
+
+        void leave() {
+            permits.release();
+        }
+    }
+}
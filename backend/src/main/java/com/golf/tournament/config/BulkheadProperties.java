@@ -0,0 +1,43 @@
+package com.golf.tournament.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Límites de concurrencia por clase de tráfico (prefijo {@code bulkhead}), aplicados por {@link BulkheadAspect}.
+ *
+ * Cada request en curso puede ocupar una conexión, así que las dos clases más {@code admin-reserve}
+ * tienen que entrar en {@code spring.datasource.hikari.maximum-pool-size}; si no, la aplicación no
+ * arranca. Los valores por defecto son para el pool de 10: 3 públicas, 5 de tarjetas y 2 libres.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    /** Conexiones que ninguna clase puede ocupar: administración y jobs. */
+    private int adminReserve = 2;
+
+    /** Leaderboard público y tablas públicas de etapas y playoff (espectadores, sin login). */
+    private Limit publicReads = new Limit(3, 20, 5);
+
+    /** Tarjetas: carga de golpes, marcador, entrega y sus lecturas. */
+    private Limit scoring = new Limit(5, 250, 1);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int maxConcurrent;
+
+        /** Espera máxima por un lugar antes de responder 503; 0 rechaza en el acto. */
+        private long maxWaitMs;
+
+        private int retryAfterSeconds;
+    }
+}
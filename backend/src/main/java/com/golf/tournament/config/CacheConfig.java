@@ -0,0 +1,17 @@
+package com.golf.tournament.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Habilita el cache de Spring (Caffeine, configurado en application.yml bajo spring.cache).
+ * Los nombres de cache se centralizan acá para que servicios y evicciones usen los mismos.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PLAYER_COUNT = "playerCount";
+    public static final String COURSE_COUNT = "courseCount";
+    public static final String TOURNAMENT_COUNT = "tournamentCount";
+}
@@ -0,0 +1,22 @@
+package com.golf.tournament.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Comparte una misma ejecución entre llamadas concurrentes con los mismos argumentos
+ * (ver {@link RequestCoalescer}). Solo para lecturas que no dependen del usuario; el resultado es
+ * el mismo objeto para todos los que esperaban, así que no debe modificarse.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+
+    /** Grupo para métricas e invalidación ({@link RequestCoalescer#invalidate}). */
+    String value();
+
+    /** Tiempo durante el que un resultado ya calculado se sigue entregando; 0 solo comparte el cálculo en curso. */
+    long maxStalenessMs() default 0;
+}
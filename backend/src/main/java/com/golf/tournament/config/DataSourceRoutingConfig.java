@@ -0,0 +1,85 @@
+package com.golf.tournament.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * Con {@code datasource.routing.enabled=true} reemplaza el datasource autoconfigurado por dos pools
+ * Hikari (primario y réplica) y un datasource que elige entre ellos según la transacción sea
+ * readOnly o no. JPA, Flyway y JdbcTemplate usan el {@code @Primary}; Flyway y las escrituras no
+ * abren transacciones readOnly, así que van siempre al primario.
+ *
+ * Las conexiones dedicadas de advisory locks y LISTEN ({@link DedicatedConnectionFactory}) siguen
+ * yendo al primario por {@code spring.datasource}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.routing.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+                                              DataSourceRoutingProperties routingProperties) {
+        DataSourceRoutingProperties.Replica replica = routingProperties.getReplica();
+        boolean sameInstance = !StringUtils.hasText(replica.getUrl());
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setJdbcUrl(sameInstance ? dataSourceProperties.determineUrl() : replica.getUrl());
+        dataSource.setUsername(sameInstance || !StringUtils.hasText(replica.getUsername())
+                ? dataSourceProperties.determineUsername() : replica.getUsername());
+        dataSource.setPassword(sameInstance || !StringUtils.hasText(replica.getPassword())
+                ? dataSourceProperties.determinePassword() : replica.getPassword());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+                                               DataSourceRoutingProperties routingProperties,
+                                               MeterRegistry meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, routingProperties.getMaxLag(),
+                replicaDataSource.getJdbcUrl().startsWith("jdbc:postgresql:"));
+        Gauge.builder("golf.datasource.replica.lag", monitor, ReplicaLagMonitor::getLagSeconds)
+                .description("Atraso de la réplica en segundos (-1 si no responde)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("golf.datasource.replica.usable", monitor, m -> m.isReplicaUsable() ? 1 : 0)
+                .description("1 si las lecturas readOnly van a la réplica, 0 si van al primario")
+                .register(meterRegistry);
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWrites readYourWrites,
+                                 MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor, readYourWrites, meterRegistry));
+    }
+}
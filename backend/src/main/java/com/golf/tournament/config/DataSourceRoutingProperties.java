@@ -0,0 +1,39 @@
+package com.golf.tournament.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Ruteo de lecturas a una réplica (prefijo {@code datasource.routing}).
+ *
+ * Si {@code replica.url} queda vacío se usan la URL y las credenciales de {@code spring.datasource}:
+ * dos pools contra la misma base, útil para probar el ruteo en local. El pool de la réplica se
+ * configura en {@code datasource.routing.replica.hikari} y el del primario en {@code spring.datasource.hikari}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    /** Atraso máximo de la réplica para seguir mandándole lecturas. */
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    private long lagCheckIntervalMs = 2000;
+
+    /** Después de confirmar una escritura, cuánto tiempo las lecturas de ese usuario van al primario. */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private Replica replica = new Replica();
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,60 @@
+package com.golf.tournament.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Abre conexiones JDBC fuera del pool de Hikari para sesiones de larga duración
+ * (advisory locks, LISTEN), que no deben ocupar ni ser recicladas por el pool.
+ */
+@Component
+@RequiredArgsConstructor
+public class DedicatedConnectionFactory {
+
+    private final DataSourceProperties dataSourceProperties;
+
+    public Connection open() throws SQLException {
+        Connection connection = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+        connection.setAutoCommit(true);
+        return connection;
+    }
+
+    /**
+     * Como {@link #open()}, pero ninguna operación sobre la conexión espera más que {@code timeout}:
+     * en Postgres se fijan connectTimeout, socketTimeout y statement_timeout, más keepalive de TCP.
+     * Una conexión medio abierta (sin respuesta del otro lado) termina en SQLException en vez de
+     * colgar al que la usa.
+     */
+    public Connection open(Duration timeout) throws SQLException {
+        if (!isPostgres()) {
+            return open();
+        }
+        String seconds = String.valueOf(Math.max(1, (timeout.toMillis() + 999) / 1000));
+        Properties properties = new Properties();
+        properties.setProperty("user", dataSourceProperties.determineUsername());
+        properties.setProperty("password", dataSourceProperties.determinePassword());
+        properties.setProperty("connectTimeout", seconds);
+        properties.setProperty("socketTimeout", seconds);
+        properties.setProperty("tcpKeepAlive", "true");
+        properties.setProperty("options", "-c statement_timeout=" + timeout.toMillis());
+        Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+        connection.setAutoCommit(true);
+        return connection;
+    }
+
+    /** Las funciones de lock y notificación usadas sobre estas conexiones son propias de Postgres. */
+    public boolean isPostgres() {
+        String url = dataSourceProperties.determineUrl();
+        return url != null && url.startsWith("jdbc:postgresql:");
+    }
+}
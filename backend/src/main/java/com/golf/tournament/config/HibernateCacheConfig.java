@@ -0,0 +1,103 @@
+package com.golf.tournament.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+
+/**
+ * Cache de segundo nivel de Hibernate para datos de referencia (canchas, hoyos, tees, conversiones de
+ * handicap, categorías, países y provincias), sobre JCache con Caffeine como proveedor en memoria.
+ *
+ * Las regiones se crean acá con el tamaño de {@link HibernateCacheProperties}; las de consultas y
+ * timestamps son las que Hibernate usa para el query cache. La de timestamps no vence: si perdiera
+ * una entrada, Hibernate podría tomar como vigente un resultado de consulta viejo.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String QUERY_REGION = "reference.queries";
+    private static final String TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        long expireNanos = properties.getExpireAfterWrite().toNanos();
+        properties.getRegions().forEach((region, maxEntries) ->
+                cacheManager.createCache(region, regionConfiguration(maxEntries, OptionalLong.of(expireNanos))));
+        cacheManager.createCache(TIMESTAMPS_REGION, regionConfiguration(null, OptionalLong.empty()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+    }
+
+    /**
+     * Tasa de aciertos ({@code golf.hibernate.cache.hit.ratio}) y cargas por región. Los
+     * contadores crudos de aciertos y fallos los publica Spring Boot como {@code hibernate.second.level.cache.requests}.
+     */
+    @Bean
+    public MeterBinder hibernateCacheMetrics(EntityManagerFactory entityManagerFactory,
+                                             HibernateCacheProperties properties) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : properties.getRegions().keySet()) {
+                Gauge.builder("golf.hibernate.cache.hit.ratio", statistics, s -> hitRatio(s, region))
+                        .description("Aciertos / (aciertos + fallos) del cache de segundo nivel")
+                        .tag("region", region)
+                        .register(registry);
+                FunctionCounter.builder("golf.hibernate.cache.puts", statistics, s -> {
+                            CacheRegionStatistics regionStatistics = regionStatistics(s, region);
+                            return regionStatistics == null ? 0 : regionStatistics.getPutCount();
+                        })
+                        .description("Entradas cargadas en el cache de segundo nivel")
+                        .tag("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(Long maxEntries, OptionalLong expireNanos) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        configuration.setMaximumSize(maxEntries == null ? OptionalLong.empty() : OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(expireNanos);
+        return configuration;
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = regionStatistics(statistics, region);
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long hits = regionStatistics.getHitCount();
+        long total = hits + regionStatistics.getMissCount();
+        return total == 0 ? Double.NaN : (double) hits / total;
+    }
+
+    private static CacheRegionStatistics regionStatistics(Statistics statistics, String region) {
+        try {
+            return statistics.getCacheRegionStatistics(region);
+        } catch (IllegalArgumentException e) {
+            // región declarada pero sin entidades que la usen
+            return null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.golf.tournament.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Regiones del cache de segundo nivel de Hibernate (prefijo {@code hibernate-cache}).
+ *
+ * Cada región usada en un {@code @Cache} o en un hint de query tiene que figurar en {@code regions}
+ * con su máximo de entradas: Hibernate está configurado para fallar al arrancar si falta alguna.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "hibernate-cache")
+public class HibernateCacheProperties {
+
+    /**
+     * Vencimiento de las entradas. El cache es local a cada nodo; los cambios hechos en otro nodo
+     * llegan por el bus de eventos, y esto acota lo que dure un dato viejo si se perdiera el aviso.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    /** Máximo de entradas por región. */
+    private Map<String, Long> regions = new LinkedHashMap<>();
+}
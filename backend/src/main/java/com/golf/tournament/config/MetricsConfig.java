@@ -0,0 +1,38 @@
+package com.golf.tournament.config;
+
+import com.golf.tournament.service.ScorecardEventService;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Métricas propias expuestas en /actuator/prometheus. Los métodos de scoring, leaderboard y
+ * exportación se miden con {@code @Timed}; el pool Hikari y las estadísticas de Hibernate los
+ * registra Spring Boot automáticamente.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /** Necesario para que {@code @Timed} funcione sobre métodos de servicios. */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterBinder sseEmitterMetrics(ScorecardEventService scorecardEventService) {
+        return registry -> {
+            Gauge.builder("golf.sse.emitters", scorecardEventService, ScorecardEventService::countScorecardEmitters)
+                    .description("Conexiones SSE abiertas en este nodo")
+                    .tag("stream", "scorecard")
+                    .register(registry);
+            Gauge.builder("golf.sse.emitters", scorecardEventService, ScorecardEventService::countLeaderboardEmitters)
+                    .description("Conexiones SSE abiertas en este nodo")
+                    .tag("stream", "leaderboard")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.golf.tournament.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reintentos de los métodos {@link RetryOnConflict} cuando el commit choca con otra transacción
+ * que modificó la misma tarjeta u hoyo ({@code @Version}).
+ *
+ * Reintentar es la forma de combinar los cambios: los golpes del pedido se vuelven a aplicar sobre lo
+ * que confirmó la otra transacción y la concordancia ({@code validado}, {@code marcadorValidado}) se
+ * recalcula con los golpes de las dos. Ninguna de las dos pierde lo que escribió y no queda una
+ * concordancia calculada con valores viejos.
+ *
+ * Corre por fuera de {@code @Transactional}, así cada intento abre su propia transacción. Si ya hay
+ * una transacción en curso no reintenta: el conflicto lo resuelve quien la abrió.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 50)
+public class OptimisticRetryAspect {
+
+    private final Counter retries;
+    private final Counter exhausted;
+
+    @Value("${scorecard.concurrency.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${scorecard.concurrency.backoff-ms:15}")
+    private long backoffMs;
+
+    public OptimisticRetryAspect(MeterRegistry meterRegistry) {
+        this.retries = conflictCounter(meterRegistry, "retried");
+        this.exhausted = conflictCounter(meterRegistry, "exhausted");
+    }
+
+    @Around("@annotation(com.golf.tournament.config.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    log.warn("Conflicto de versión en {} después de {} intentos",
+                            joinPoint.getSignature().toShortString(), attempt);
+                    throw e;
+                }
+                retries.increment();
+                log.debug("Conflicto de versión en {} (intento {}), se reintenta: {}",
+                        joinPoint.getSignature().toShortString(), attempt, e.getMessage());
+                // Espera creciente con azar, para que los que chocaron no vuelvan a chocar en el mismo instante
+                Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMs * attempt + 1));
+            }
+        }
+    }
+
+    private static Counter conflictCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("golf.scorecard.conflicts")
+                .description("Conflictos de versión en escrituras de tarjetas: reintentados o sin resolver")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.golf.tournament.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * Agrega {@code X-Query-Count} y {@code Server-Timing: db;dur=...} justo antes de serializar el body,
+ * cuando el trabajo del controller ya terminó pero la respuesta todavía no está comprometida.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class QueryCountResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private final SqlBudgetProperties budget;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return budget.isExposeHeaders();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        int count = RequestStatementCounter.current();
+        double dbMillis = RequestStatementCounter.currentDbMillis();
+        response.getHeaders().set(QUERY_COUNT_HEADER, Integer.toString(count));
+        response.getHeaders().add("Server-Timing",
+                String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d queries\"", dbMillis, count));
+        return body;
+    }
+}
@@ -0,0 +1,16 @@
+package com.golf.tournament.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Las transacciones readOnly que abra el método leen del primario aunque la réplica esté al día
+ * (ver {@link ReadYourWrites}). Para lecturas que la UI repite justo después de escribir y para
+ * las que alimentan caches por versión, que no pueden armarse con datos más viejos que la versión.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadFromPrimary {
+}
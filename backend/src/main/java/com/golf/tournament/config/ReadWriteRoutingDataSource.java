@@ -0,0 +1,89 @@
+package com.golf.tournament.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Envía las transacciones {@code readOnly} a la réplica y todo lo demás al primario. Las lecturas
+ * que tienen que ver una escritura reciente van al primario aunque sean readOnly ({@link ReadYourWrites}).
+ *
+ * Debe usarse detrás de un {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * Spring marca la transacción como readOnly después de pedir la conexión, así que la conexión física
+ * recién se puede elegir al ejecutar la primera sentencia.
+ *
+ * Si {@link ReplicaLagMonitor} reporta la réplica atrasada o caída, o si pedirle una conexión falla,
+ * las lecturas van al primario.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWrites readYourWrites;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReplicaLagMonitor lagMonitor, ReadYourWrites readYourWrites,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        this.primaryRoutes = routeCounter(meterRegistry, "primary");
+        this.replicaRoutes = routeCounter(meterRegistry, "replica");
+        this.fallbackRoutes = routeCounter(meterRegistry, "fallback");
+    }
+
+    /** {@code null} cuando la transacción es readOnly pero la réplica no está en condiciones. */
+    private Route route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.onWriteConnection();
+            return Route.PRIMARY;
+        }
+        if (readYourWrites.requiresPrimary()) {
+            return Route.PRIMARY;
+        }
+        return lagMonitor.isReplicaUsable() ? Route.REPLICA : null;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Route route = route();
+        if (route == Route.REPLICA) {
+            try {
+                Connection connection = replica.getConnection();
+                replicaRoutes.increment();
+                return connection;
+            } catch (SQLException e) {
+                log.warn("No se pudo obtener conexión de la réplica, se lee del primario: {}", e.getMessage());
+                lagMonitor.markUnavailable();
+            }
+        }
+        (route == Route.PRIMARY ? primaryRoutes : fallbackRoutes).increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("golf.datasource.routes")
+                .description("Conexiones entregadas por el datasource de lectura/escritura, por destino")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,95 @@
+package com.golf.tournament.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Decide cuándo una lectura readOnly tiene que ir al primario para ver lo que se acaba de escribir
+ * (lo consulta {@link ReadWriteRoutingDataSource}):
+ * <ul>
+ *   <li>dentro de un método {@link ReadFromPrimary};</li>
+ *   <li>si el usuario autenticado confirmó una escritura hace menos de
+ *       {@code datasource.routing.read-your-writes-window}, así lo que relee la UI después de guardar
+ *       no sale de una réplica atrasada.</li>
+ * </ul>
+ * La ventana es por nodo: si la relectura cae en otro nodo, solo la cubre {@link ReadFromPrimary}.
+ * Por eso las relecturas conocidas de administración llevan la anotación además de la ventana.
+ *
+ * Corre por fuera de {@code @Transactional}: la réplica o el primario se eligen al abrir la transacción.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 150)
+public class ReadYourWrites {
+
+    private final ThreadLocal<Integer> pinned = ThreadLocal.withInitial(() -> 0);
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(DataSourceRoutingProperties properties) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getReadYourWritesWindow())
+                .maximumSize(10_000)
+                .build();
+    }
+
+    @Around("@annotation(com.golf.tournament.config.ReadFromPrimary)")
+    public Object readFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        pinned.set(pinned.get() + 1);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            int depth = pinned.get() - 1;
+            if (depth == 0) {
+                pinned.remove();
+            } else {
+                pinned.set(depth);
+            }
+        }
+    }
+
+    /** true si la lectura readOnly en curso tiene que ir al primario. */
+    boolean requiresPrimary() {
+        if (pinned.get() > 0) {
+            return true;
+        }
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    /**
+     * La transacción de escritura en curso tomó una conexión del primario: cuando confirme, el usuario
+     * lee del primario durante la ventana.
+     */
+    void onWriteConnection() {
+        String user = currentUser();
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,89 @@
+package com.golf.tournament.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Mide periódicamente el atraso de la réplica y decide si las lecturas pueden ir a ella.
+ *
+ * El atraso es el tiempo desde la última transacción aplicada, salvo que la réplica ya haya aplicado
+ * todo lo recibido (primario sin escrituras): en ese caso es 0. Si la base no está en recovery
+ * (por ejemplo, un segundo pool contra la misma instancia) también es 0.
+ *
+ * El chequeo no es un job con líder: cada nodo mide con su propio pool de réplica y enruta según lo que ve.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final DataSource replica;
+    private final Duration maxLag;
+    private final boolean postgres;
+    private volatile boolean usable;
+    private volatile double lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, boolean postgres) {
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.postgres = postgres;
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    /** Último atraso medido en segundos, -1 si la réplica no respondió. */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    /** La usa el datasource cuando la réplica no entrega conexiones; se reevalúa en el próximo chequeo. */
+    void markUnavailable() {
+        usable = false;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval-ms:2000}")
+    public void check() {
+        boolean wasUsable = usable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            double lag = 0;
+            if (postgres) {
+                try (ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                    rs.next();
+                    lag = rs.getDouble(1);
+                }
+            } else {
+                statement.execute("SELECT 1");
+            }
+            lagSeconds = lag;
+            usable = lag * 1000 <= maxLag.toMillis();
+        } catch (SQLException e) {
+            lagSeconds = -1;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Réplica no disponible: {}", e.getMessage());
+            }
+        }
+        if (wasUsable && !usable && lagSeconds >= 0) {
+            log.warn("Réplica atrasada {}s (máximo {}s), las lecturas van al primario",
+                    lagSeconds, maxLag.toSeconds());
+        } else if (!wasUsable && usable) {
+            log.info("Réplica disponible (atraso {}s), las lecturas readOnly vuelven a la réplica", lagSeconds);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.golf.tournament.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-flight para los métodos {@link Coalesced}: si llegan varias llamadas con el mismo método y
+ * argumentos mientras una se está ejecutando, las demás esperan y reciben el mismo resultado (o la
+ * misma excepción). Con {@code maxStalenessMs} el resultado se sigue entregando un rato después.
+ *
+ * Corre por fuera de {@code @Transactional}: las llamadas que esperan no abren transacción ni toman
+ * conexión. Dentro de una transacción de escritura no se comparte nada, porque el llamador tiene
+ * que ver sus propios cambios.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
+@RequiredArgsConstructor
+public class RequestCoalescer {
+
+    public static final String LEADERBOARD = "leaderboard";
+    public static final String SCORES = "scores";
+    public static final String TOURNAMENT = "tournament";
+    public static final String STAGE_BOARD = "stageBoard";
+    public static final String PLAYOFF_RESULTS = "playoffResults";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, Flight> flights = new ConcurrentHashMap<>();
+
+    @Value("${coalescing.enabled:true}")
+    private boolean enabled;
+
+    @Around("@annotation(coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, Coalesced coalesced) throws Throwable {
+        if (!enabled || isInWriteTransaction()) {
+            return joinPoint.proceed();
+        }
+        Key key = new Key(coalesced.value(), joinPoint.getSignature().toLongString(),
+                Arrays.asList(joinPoint.getArgs()));
+        long maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(coalesced.maxStalenessMs());
+
+        while (true) {
+            Flight existing = flights.get(key);
+            if (existing != null) {
+                if (!existing.isDone()) {
+                    count(coalesced.value(), "joined");
+                    return existing.await();
+                }
+                if (!existing.isOlderThan(maxStalenessNanos)) {
+                    count(coalesced.value(), "reused");
+                    return existing.await();
+                }
+                flights.remove(key, existing);
+            }
+
+            Flight flight = new Flight();
+            if (flights.putIfAbsent(key, flight) != null) {
+                continue;
+            }
+            count(coalesced.value(), "executed");
+            try {
+                Object result = joinPoint.proceed();
+                flight.complete(result);
+                if (maxStalenessNanos == 0) {
+                    flights.remove(key, flight);
+                }
+                return result;
+            } catch (Throwable e) {
+                flights.remove(key, flight);
+                flight.fail(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Descarta los resultados del grupo, incluidos los cálculos en curso: las llamadas que lleguen
+     * después arrancan una ejecución nueva y ven los cambios ya confirmados.
+     */
+    public void invalidate(String group) {
+        flights.keySet().removeIf(key -> key.group().equals(group));
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        // Ningún grupo usa más de unos segundos de staleness: lo terminado hace más de un minuto sobra.
+        long oneMinute = TimeUnit.MINUTES.toNanos(1);
+        flights.values().removeIf(flight -> flight.isDone() && flight.isOlderThan(oneMinute));
+    }
+
+    private static boolean isInWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private void count(String group, String outcome) {
+        Counter.builder("golf.coalescing.calls")
+                .description("Llamadas a métodos @Coalesced: ejecutadas, unidas a una en curso o reutilizadas")
+                .tag("group", group)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record Key(String group, String method, List<Object> args) {
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        void complete(Object value) {
+            completedAt = System.nanoTime();
+            result.complete(value);
+        }
+
+        void fail(Throwable e) {
+            completedAt = System.nanoTime();
+            result.completeExceptionally(e);
+        }
+
+        boolean isDone() {
+            return result.isDone();
+        }
+
+        boolean isOlderThan(long nanos) {
+            return System.nanoTime() - completedAt > nanos;
+        }
+
+        Object await() throws Throwable {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.golf.tournament.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Registra cuántas sentencias SQL ejecuta cada request, por método y patrón de URI
+ * (métrica {@code golf.http.db.statements}). Va antes de la cadena de seguridad para incluir
+ * las consultas de autenticación.
+ *
+ * Además controla el presupuesto de {@link SqlBudgetProperties}: si un endpoint lo supera o repite
+ * la misma sentencia más de {@code repeat-threshold} veces (patrón típico de N+1) deja un warning.
+ * Los headers X-Query-Count / Server-Timing los agrega {@link QueryCountResponseAdvice} antes de
+ * escribir el body.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final SqlBudgetProperties budget;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        RequestStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatementCounter.Stats stats = RequestStatementCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("golf.http.db.statements")
+                    .description("Sentencias SQL por request HTTP")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(stats.count());
+            if (budget.isEnabled() && pattern != null) {
+                checkBudget(request.getMethod(), uri, stats);
+            }
+        }
+    }
+
+    private void checkBudget(String method, String uri, RequestStatementCounter.Stats stats) {
+        int max = budget.maxStatementsFor(method, uri);
+        if (stats.count() > max) {
+            Counter.builder("golf.http.db.budget.exceeded")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} ejecutó {} sentencias SQL ({} ms de base), presupuesto {}",
+                    method, uri, stats.count(), String.format("%.1f", stats.dbMillis()), max);
+        }
+        for (Map.Entry<String, Integer> entry : stats.occurrences().entrySet()) {
+            if (entry.getValue() > budget.getRepeatThreshold()) {
+                log.warn("Posible N+1 en {} {}: la misma sentencia se ejecutó {} veces: {}",
+                        method, uri, entry.getValue(), abbreviate(entry.getKey()));
+            }
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        String compact = sql.replaceAll("\\s+", " ");
+        return compact.length() > 200 ? compact.substring(0, 200) + "..." : compact;
+    }
+}
@@ -0,0 +1,73 @@
+package com.golf.tournament.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Estadísticas SQL del request HTTP en curso (por hilo): cantidad de sentencias, tiempo de base
+ * y repeticiones de cada sentencia. Lo abre y cierra {@link RequestMetricsFilter};
+ * {@link SqlStatementInspector} cuenta las sentencias y {@link SqlTimingSessionListener} acumula
+ * el tiempo de ejecución. Fuera de un request (schedulers, workers) no registra nada.
+ */
+public final class RequestStatementCounter {
+
+    private static final ThreadLocal<Stats> STATS = new ThreadLocal<>();
+
+    private RequestStatementCounter() {
+    }
+
+    static void start() {
+        STATS.set(new Stats());
+    }
+
+    static Stats stop() {
+        Stats stats = STATS.get();
+        STATS.remove();
+        return stats != null ? stats : new Stats();
+    }
+
+    static void record(String sql) {
+        Stats stats = STATS.get();
+        if (stats != null) {
+            stats.count++;
+            stats.occurrences.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void addDbTime(long nanos) {
+        Stats stats = STATS.get();
+        if (stats != null) {
+            stats.dbNanos += nanos;
+        }
+    }
+
+    /** Sentencias ejecutadas hasta ahora en el request actual (0 si no hay request activo). */
+    public static int current() {
+        Stats stats = STATS.get();
+        return stats != null ? stats.count : 0;
+    }
+
+    /** Tiempo de base acumulado en el request actual, en milisegundos. */
+    public static double currentDbMillis() {
+        Stats stats = STATS.get();
+        return stats != null ? stats.dbNanos / 1_000_000.0 : 0;
+    }
+
+    static final class Stats {
+        private int count;
+        private long dbNanos;
+        private final Map<String, Integer> occurrences = new HashMap<>();
+
+        int count() {
+            return count;
+        }
+
+        double dbMillis() {
+            return dbNanos / 1_000_000.0;
+        }
+
+        Map<String, Integer> occurrences() {
+            return occurrences;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.golf.tournament.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Vuelve a ejecutar el método en una transacción nueva si falla por un conflicto de versión
+ * (ver {@link OptimisticRetryAspect}). Solo para métodos que se pueden repetir: cada intento tiene
+ * que volver a leer lo que necesita en lugar de recibirlo del intento anterior.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -45,6 +45,9 @@ public class SecurityConfig {
                                 "/auth/**",
                                 "/public/**",
                                 "/health",
+                                // Solo existen en el puerto de management, que no se publica
+                                "/actuator/health",
+                                "/actuator/prometheus",
                                 "/tournaments/*/inscribe",
                                 "/tournaments/code/*",
                                 "/players/matricula/*",
@@ -52,6 +55,7 @@ public class SecurityConfig {
                                 "/handicap/**",
                                 "/inscriptions/tournaments/*",
                                 "/scorecards/**",
+                                "/ws/**",
                                 "/courses/*/holes",
                                 "/courses/*/tees",
                                 "/locations/**",
@@ -73,18 +77,13 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         
         // Get allowed origins from environment variable for production flexibility
-        String allowedOrigins = System.getenv("ALLOWED_ORIGINS");
-        log.info("CORS Configuration - Raw ALLOWED_ORIGINS: {}", allowedOrigins);
-        
-        if (allowedOrigins != null && !allowedOrigins.isEmpty()) {
-            List<String> origins = Arrays.asList(allowedOrigins.split(","));
-            log.info("CORS Configuration - Parsed origins: {}", origins);
-            configuration.setAllowedOrigins(origins);
-        } else {
+        String rawOrigins = System.getenv("ALLOWED_ORIGINS");
+        log.info("CORS Configuration - Raw ALLOWED_ORIGINS: {}", rawOrigins);
+        if (rawOrigins == null || rawOrigins.isEmpty()) {
             // Default to localhost for development
             log.warn("CORS Configuration - No ALLOWED_ORIGINS set, using default localhost");
-            configuration.setAllowedOrigins(List.of("http://localhost:3000", "http://localhost"));
         }
+        configuration.setAllowedOrigins(allowedOrigins());
         
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
@@ -99,6 +98,18 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * Orígenes permitidos (ALLOWED_ORIGINS, separados por coma; localhost en desarrollo). Los usa
+     * también el handshake del WebSocket ({@link WebSocketConfig}).
+     */
+    static List<String> allowedOrigins() {
+        String allowedOrigins = System.getenv("ALLOWED_ORIGINS");
+        if (allowedOrigins != null && !allowedOrigins.isEmpty()) {
+            return Arrays.asList(allowedOrigins.split(","));
+        }
+        return List.of("http://localhost:3000", "http://localhost");
+    }
+
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
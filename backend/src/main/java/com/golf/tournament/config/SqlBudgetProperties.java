@@ -0,0 +1,37 @@
+package com.golf.tournament.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Presupuesto de sentencias SQL por request (prefijo {@code sql.budget}).
+ *
+ * {@code endpoints} permite fijar un máximo por endpoint con la clave "MÉTODO patrón", por ejemplo
+ * {@code "[GET /leaderboard/tournaments/{tournamentId}]": 10}; el resto usa {@code default-max-statements}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sql.budget")
+public class SqlBudgetProperties {
+
+    /** Loguea un warning cuando un request supera su presupuesto. */
+    private boolean enabled = true;
+
+    /** Agrega X-Query-Count y Server-Timing a las respuestas. Solo para desarrollo y tests: expone datos internos. */
+    private boolean exposeHeaders = false;
+
+    private int defaultMaxStatements = 50;
+
+    /** Cantidad de veces que la misma sentencia puede repetirse en un request antes de reportar un posible N+1. */
+    private int repeatThreshold = 10;
+
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public int maxStatementsFor(String method, String uriPattern) {
+        return endpoints.getOrDefault(method + " " + uriPattern, defaultMaxStatements);
+    }
+}
@@ -0,0 +1,16 @@
+package com.golf.tournament.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Registrado en Hibernate vía {@code hibernate.session_factory.statement_inspector}; Hibernate lo
+ * instancia por su cuenta, por eso no es un bean y solo delega en el contador estático.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatementCounter.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,33 @@
+package com.golf.tournament.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Mide el tiempo de ejecución JDBC de cada sentencia (y de cada batch) para el request en curso.
+ * Registrado vía {@code hibernate.session.events.auto}: Hibernate crea una instancia por sesión.
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestStatementCounter.addDbTime(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestStatementCounter.addDbTime(System.nanoTime() - batchStart);
+    }
+}
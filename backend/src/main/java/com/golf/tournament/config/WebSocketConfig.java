@@ -0,0 +1,60 @@
+package com.golf.tournament.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * STOMP sobre WebSocket (con SockJS como respaldo) en {@code /ws}, para el canal de carga de golpes.
+ *
+ * Destinos:
+ * <ul>
+ *   <li>{@code /app/scorecards/{id}/scores}: el cliente envía golpes ({@code ScoringSocketController}).</li>
+ *   <li>{@code /app/scorecards/{id}/resume}: pide los eventos posteriores a un número (como Last-Event-ID).</li>
+ *   <li>{@code /topic/scorecards/{id}}: eventos de concordancia de la tarjeta, los mismos del SSE.</li>
+ *   <li>{@code /topic/scorecards}: {@code refresh} para todas las tarjetas cuando el bus pudo perder eventos.</li>
+ *   <li>{@code /user/queue/scoring}: acks de los golpes y eventos repetidos, solo para la sesión que los pidió.</li>
+ * </ul>
+ * El header {@code event} de cada mensaje indica el tipo: {@code ack}, {@code concordanciaActualizada}
+ * o {@code refresh}.
+ *
+ * El broker es el simple en memoria: cada nodo entrega a sus conexiones y los eventos entre nodos
+ * siguen llegando por {@code ScorecardEventBus}.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    public static final String EVENT_HEADER = "event";
+
+    // No es un bean: un TaskScheduler más en el contexto cambiaría cuál usan los @Scheduled.
+    private final ThreadPoolTaskScheduler heartbeatScheduler = heartbeatScheduler();
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOriginPatterns(SecurityConfig.allowedOrigins().toArray(String[]::new))
+                .withSockJS();
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.setApplicationDestinationPrefixes("/app");
+        // Heartbeat de 10s: por debajo del proxy_read_timeout de nginx y detecta rápido un celular sin señal.
+        registry.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{10_000, 10_000})
+                .setTaskScheduler(heartbeatScheduler);
+    }
+
+    private static ThreadPoolTaskScheduler heartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setDaemon(true);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -1,6 +1,8 @@
 package com.golf.tournament.controller;
 
+import com.golf.tournament.dto.common.CursorPageDTO;
 import com.golf.tournament.dto.course.CourseDTO;
+import com.golf.tournament.dto.course.CourseSummaryDTO;
 import com.golf.tournament.dto.course.CourseTeeDTO;
 import com.golf.tournament.dto.course.CreateCourseRequest;
 import com.golf.tournament.dto.course.HoleDTO;
@@ -26,6 +28,18 @@ public class CourseController {
         return ResponseEntity.ok(courseService.getAllCourses());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDTO<CourseSummaryDTO>> getCoursesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(courseService.getCoursesPage(cursor, size));
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<Long> countCourses() {
+        return ResponseEntity.ok(courseService.countCourses());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CourseDTO> getCourseById(@PathVariable Long id) {
         return ResponseEntity.ok(courseService.getCourseById(id));
@@ -1,5 +1,6 @@
 package com.golf.tournament.controller;
 
+import com.golf.tournament.dto.common.PaymentUpdateResultDTO;
 import com.golf.tournament.dto.leaderboard.LeaderboardEntryDTO;
 import com.golf.tournament.dto.leaderboard.TournamentScoreDTO;
 import com.golf.tournament.dto.leaderboard.UpdatePaymentRequest;
@@ -7,15 +8,22 @@ import com.golf.tournament.repository.TournamentAdminRepository;
 import com.golf.tournament.service.ClasicScoreService;
 import com.golf.tournament.service.FrutalesScoreService;
 import com.golf.tournament.service.LeaderboardService;
+import com.golf.tournament.service.PublicLeaderboardPayloadService;
+import com.golf.tournament.service.ScorecardEventBus;
+import com.golf.tournament.service.ScorecardEventService;
 import com.golf.tournament.service.TournamentAdminPlayoffResultService;
 import com.golf.tournament.service.TournamentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/leaderboard")
@@ -28,6 +36,9 @@ public class LeaderboardController {
     private final TournamentService tournamentService;
     private final TournamentAdminRepository tournamentAdminRepository;
     private final TournamentAdminPlayoffResultService playoffResultService;
+    private final ScorecardEventService scorecardEventService;
+    private final ScorecardEventBus scorecardEventBus;
+    private final PublicLeaderboardPayloadService publicPayloadService;
 
     @GetMapping("/tournaments/{tournamentId}")
     @PreAuthorize("hasAnyAuthority('TOTAL', 'GAMES')")
@@ -36,9 +47,19 @@ public class LeaderboardController {
     }
 
     @GetMapping("/public/{codigo}")
-    public ResponseEntity<List<LeaderboardEntryDTO>> getPublicLeaderboard(@PathVariable String codigo) {
+    public ResponseEntity<byte[]> getPublicLeaderboard(
+            @PathVariable String codigo,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return publicPayload(codigo, PublicLeaderboardPayloadService.View.GENERAL, accept, acceptEncoding, ifNoneMatch);
+    }
+
+    /** Stream SSE: emite "leaderboardActualizado" cuando cambian los resultados del torneo, en cualquier nodo. */
+    @GetMapping(value = "/public/{codigo}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter publicLeaderboardEvents(@PathVariable String codigo) {
         var tournament = tournamentService.getTournamentByCodigo(codigo);
-        return ResponseEntity.ok(leaderboardService.getLeaderboard(tournament.getId(), null));
+        return scorecardEventService.subscribeLeaderboard(tournament.getId());
     }
 
     @Deprecated
@@ -51,20 +72,10 @@ public class LeaderboardController {
 
     @PutMapping("/tournaments/{tournamentId}/payments")
     @PreAuthorize("hasAnyAuthority('TOTAL', 'GAMES')")
-    public ResponseEntity<Void> updatePayments(
+    public ResponseEntity<PaymentUpdateResultDTO> updatePayments(
             @PathVariable Long tournamentId,
             @RequestBody UpdatePaymentRequest request) {
-
-        List<Long> inscriptionIds = request.getPayments().stream()
-                .map(UpdatePaymentRequest.PaymentUpdate::getInscriptionId)
-                .collect(Collectors.toList());
-
-        List<Boolean> pagadoValues = request.getPayments().stream()
-                .map(UpdatePaymentRequest.PaymentUpdate::getPagado)
-                .collect(Collectors.toList());
-
-        leaderboardService.updatePayments(tournamentId, inscriptionIds, pagadoValues);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(leaderboardService.updatePayments(tournamentId, request.getPayments()));
     }
 
     // ── Frutales (GLOBAL scores) ────────────────────────────────────────────────
@@ -80,13 +91,17 @@ public class LeaderboardController {
     public ResponseEntity<List<TournamentScoreDTO>> calculateFrutalesScores(@PathVariable Long tournamentId) {
         List<TournamentScoreDTO> result = frutalesScoreService.calculateScores(tournamentId);
         recalculateStagesIfNeeded(tournamentId);
+        scorecardEventBus.publishLeaderboardActualizado(tournamentId);
         return ResponseEntity.ok(result);
     }
 
     @GetMapping("/public/{codigo}/frutales")
-    public ResponseEntity<List<TournamentScoreDTO>> getPublicFrutalesLeaderboard(@PathVariable String codigo) {
-        var tournament = tournamentService.getTournamentByCodigo(codigo);
-        return ResponseEntity.ok(frutalesScoreService.getScores(tournament.getId()));
+    public ResponseEntity<byte[]> getPublicFrutalesLeaderboard(
+            @PathVariable String codigo,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return publicPayload(codigo, PublicLeaderboardPayloadService.View.FRUTALES, accept, acceptEncoding, ifNoneMatch);
     }
 
     // ── Clásico (CATEGORY + SCRATCH scores) ────────────────────────────────────
@@ -102,6 +117,7 @@ public class LeaderboardController {
     public ResponseEntity<List<TournamentScoreDTO>> calculateClasicScores(@PathVariable Long tournamentId) {
         List<TournamentScoreDTO> result = clasicScoreService.calculateScores(tournamentId);
         recalculateStagesIfNeeded(tournamentId);
+        scorecardEventBus.publishLeaderboardActualizado(tournamentId);
         return ResponseEntity.ok(result);
     }
 
@@ -120,8 +136,53 @@ public class LeaderboardController {
     }
 
     @GetMapping("/public/{codigo}/clasic")
-    public ResponseEntity<List<TournamentScoreDTO>> getPublicClasicLeaderboard(@PathVariable String codigo) {
+    public ResponseEntity<byte[]> getPublicClasicLeaderboard(
+            @PathVariable String codigo,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return publicPayload(codigo, PublicLeaderboardPayloadService.View.CLASIC, accept, acceptEncoding, ifNoneMatch);
+    }
+
+    /**
+     * Sirve el payload pre-armado tal cual: Smile si el cliente lo pide en {@code Accept} (JSON si no),
+     * gzip si lo acepta, 304 si ya tiene esa versión.
+     * {@code no-cache} obliga a revalidar siempre, así el cliente no muestra resultados viejos.
+     */
+    private ResponseEntity<byte[]> publicPayload(String codigo, PublicLeaderboardPayloadService.View view,
+                                                 String accept, String acceptEncoding, String ifNoneMatch) {
         var tournament = tournamentService.getTournamentByCodigo(codigo);
-        return ResponseEntity.ok(clasicScoreService.getScores(tournament.getId()));
+        var format = accepts(accept, PublicLeaderboardPayloadService.Format.SMILE.mediaType())
+                ? PublicLeaderboardPayloadService.Format.SMILE
+                : PublicLeaderboardPayloadService.Format.JSON;
+        var variant = publicPayloadService.getPayload(tournament.getId(), view).variant(format);
+        boolean gzip = accepts(acceptEncoding, "gzip");
+        String etag = gzip ? variant.gzipEtag() : variant.etag();
+
+        boolean notModified = ifNoneMatch != null && (ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*"));
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (notModified) {
+            return response.build();
+        }
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.contentType(MediaType.parseMediaType(format.mediaType()))
+                .body(gzip ? variant.gzip() : variant.identity());
+    }
+
+    /** Si el header (Accept o Accept-Encoding) incluye el valor con q distinto de 0. */
+    private static boolean accepts(String header, String value) {
+        if (header == null) return false;
+        for (String part : header.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (tokens[0].trim().equalsIgnoreCase(value)) {
+                return tokens.length < 2 || !tokens[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 }
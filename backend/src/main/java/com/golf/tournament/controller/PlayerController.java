@@ -1,5 +1,6 @@
 package com.golf.tournament.controller;
 
+import com.golf.tournament.dto.common.CursorPageDTO;
 import com.golf.tournament.dto.player.BulkUpdateResponse;
 import com.golf.tournament.dto.player.CreatePlayerRequest;
 import com.golf.tournament.dto.player.PlayerDTO;
@@ -28,6 +29,20 @@ public class PlayerController {
         return ResponseEntity.ok(playerService.getAllPlayers());
     }
 
+    @GetMapping("/page")
+    @PreAuthorize("hasAnyAuthority('TOTAL', 'GAMES')")
+    public ResponseEntity<CursorPageDTO<PlayerDTO>> getPlayersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(playerService.getPlayersPage(cursor, size));
+    }
+
+    @GetMapping("/count")
+    @PreAuthorize("hasAnyAuthority('TOTAL', 'GAMES')")
+    public ResponseEntity<Long> countPlayers() {
+        return ResponseEntity.ok(playerService.countPlayers());
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyAuthority('TOTAL', 'GAMES')")
     public ResponseEntity<PlayerDTO> getPlayerById(@PathVariable Long id) {
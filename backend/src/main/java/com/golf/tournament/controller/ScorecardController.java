@@ -1,6 +1,9 @@
 package com.golf.tournament.controller;
 
+import com.golf.tournament.dto.scorecard.HoleScoreEventDTO;
 import com.golf.tournament.dto.scorecard.ScorecardDTO;
+import com.golf.tournament.dto.scorecard.ScorecardSyncRequest;
+import com.golf.tournament.dto.scorecard.ScorecardSyncResponse;
 import com.golf.tournament.dto.scorecard.UpdateScoreRequest;
 import com.golf.tournament.dto.scorecard.UpdateScorecardRequest;
 import com.golf.tournament.dto.scorecard.ConfigureScorecardRequest;
@@ -30,8 +33,18 @@ public class ScorecardController {
     }
 
     @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter scorecardEvents(@PathVariable Long id) {
-        return scorecardEventService.subscribe(id);
+    public SseEmitter scorecardEvents(@PathVariable Long id,
+                                      @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+                                      @RequestParam(value = "lastEventId", required = false) Long lastEventId) {
+        // El navegador manda Last-Event-ID al reconectar; la primera conexión lo pasa por query (EventSource no admite headers)
+        return scorecardEventService.subscribe(id, lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+
+    /** Historial de cargas y correcciones de golpes de la tarjeta, en orden. */
+    @GetMapping("/{id}/score-events")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<HoleScoreEventDTO>> getScoreHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(scorecardService.getScoreHistory(id));
     }
 
     @GetMapping("/tournaments/{tournamentId}")
@@ -68,6 +81,14 @@ public class ScorecardController {
         return ResponseEntity.ok().build();
     }
 
+    /** Golpes cargados sin conexión, en un solo request; reenviar un lote no repite las operaciones ya aplicadas. */
+    @PostMapping("/{scorecardId}/sync")
+    public ResponseEntity<ScorecardSyncResponse> syncScorecard(
+            @PathVariable Long scorecardId,
+            @Valid @RequestBody ScorecardSyncRequest request) {
+        return ResponseEntity.ok(scorecardService.sync(scorecardId, request));
+    }
+
     @PutMapping("/{scorecardId}")
     public ResponseEntity<ScorecardDTO> updateScorecard(
             @PathVariable Long scorecardId,
@@ -0,0 +1,31 @@
+package com.golf.tournament.controller;
+
+import com.golf.tournament.dto.scorecard.ScoreFrameDTO;
+import com.golf.tournament.service.ScoringSessionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+/** Canal de carga de golpes por STOMP (ver {@link com.golf.tournament.config.WebSocketConfig}). */
+@Controller
+@RequiredArgsConstructor
+public class ScoringSocketController {
+
+    private final ScoringSessionService scoringSessionService;
+
+    @MessageMapping("/scorecards/{scorecardId}/scores")
+    public void submitScore(@DestinationVariable Long scorecardId, @Payload ScoreFrameDTO frame,
+                            SimpMessageHeaderAccessor headers) {
+        scoringSessionService.submit(scorecardId, frame, headers.getSessionId());
+    }
+
+    /** El cuerpo es el número del último evento que el cliente aplicó. */
+    @MessageMapping("/scorecards/{scorecardId}/resume")
+    public void resume(@DestinationVariable Long scorecardId, @Payload Long lastSeq,
+                       SimpMessageHeaderAccessor headers) {
+        scoringSessionService.resume(scorecardId, lastSeq, headers.getSessionId());
+    }
+}
@@ -1,5 +1,6 @@
 package com.golf.tournament.controller;
 
+import com.golf.tournament.dto.common.PaymentUpdateResultDTO;
 import com.golf.tournament.dto.tournamentadmin.*;
 import com.golf.tournament.service.TournamentAdminService;
 import com.golf.tournament.service.TournamentAdminScoringConfigService;
@@ -78,16 +79,19 @@ public class TournamentAdminController {
     }
 
     @GetMapping("/{id}/detail")
-    public ResponseEntity<TournamentAdminDetailDTO> getDetail(@PathVariable Long id) {
-        return ResponseEntity.ok(tournamentAdminService.getDetail(id));
+    public ResponseEntity<TournamentAdminDetailDTO> getDetail(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String paymentStatus) {
+        return ResponseEntity.ok(tournamentAdminService.getDetail(id, cursor, size, paymentStatus));
     }
 
     @PutMapping("/{id}/payments")
-    public ResponseEntity<Void> savePayments(
+    public ResponseEntity<PaymentUpdateResultDTO> savePayments(
             @PathVariable Long id,
             @RequestBody SavePaymentsRequest request) {
-        tournamentAdminService.savePayments(id, request);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(tournamentAdminService.savePayments(id, request));
     }
 
     @GetMapping("/{id}/scoring-config")
@@ -1,7 +1,9 @@
 package com.golf.tournament.controller;
 
+import com.golf.tournament.dto.common.CursorPageDTO;
 import com.golf.tournament.dto.tournament.CreateTournamentRequest;
 import com.golf.tournament.dto.tournament.TournamentDTO;
+import com.golf.tournament.dto.tournament.TournamentSummaryDTO;
 import com.golf.tournament.service.TournamentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +27,20 @@ public class TournamentController {
         return ResponseEntity.ok(tournamentService.getAllTournaments());
     }
 
+    @GetMapping("/page")
+    @PreAuthorize("hasAnyAuthority('TOTAL', 'GAMES')")
+    public ResponseEntity<CursorPageDTO<TournamentSummaryDTO>> getTournamentsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(tournamentService.getTournamentsPage(cursor, size));
+    }
+
+    @GetMapping("/count")
+    @PreAuthorize("hasAnyAuthority('TOTAL', 'GAMES')")
+    public ResponseEntity<Long> countTournaments() {
+        return ResponseEntity.ok(tournamentService.countTournaments());
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyAuthority('TOTAL', 'GAMES')")
     public ResponseEntity<TournamentDTO> getTournamentById(@PathVariable Long id) {
@@ -0,0 +1,22 @@
+package com.golf.tournament.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página de un listado paginado por keyset. {@code nextCursor} es opaco para el cliente:
+ * se reenvía tal cual para pedir la página siguiente y es null cuando no hay más resultados.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private String nextCursor;
+    private Boolean hasMore;
+}
@@ -0,0 +1,31 @@
+package com.golf.tournament.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de una actualización de pagos en lote: por cada id pedido, el valor que quedó y si
+ * cambió ({@code false} cuando ya tenía ese valor y no se escribió).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentUpdateResultDTO {
+    private Integer updated;
+    private Integer unchanged;
+    private List<Item> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long id;
+        private Boolean pagado;
+        private Boolean changed;
+    }
+}
@@ -0,0 +1,25 @@
+package com.golf.tournament.dto.course;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/** Versión liviana de {@link CourseDTO} para listados: sin tees ni hoyos. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseSummaryDTO {
+
+    private Long id;
+    private String nombre;
+    private String pais;
+    private String provincia;
+    private String ciudad;
+    private Integer cantidadHoyos;
+    private BigDecimal courseRating;
+    private Integer slopeRating;
+}
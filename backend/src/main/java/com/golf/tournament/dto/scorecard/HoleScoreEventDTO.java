@@ -0,0 +1,24 @@
+package com.golf.tournament.dto.scorecard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** Una entrada del historial de golpes de una tarjeta. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoleScoreEventDTO {
+
+    private Long id;
+    private Long holeId;
+    private Integer numeroHoyo;
+    private String tipo;
+    private Integer golpes;
+    private String actor;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package com.golf.tournament.dto.scorecard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Respuesta a un {@link ScoreFrameDTO}: {@code ok} si quedó guardado, si no el motivo en {@code error}. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreAckDTO {
+
+    private Long clientSeq;
+    private Long holeId;
+    private String tipo;
+    private boolean ok;
+    private String error;
+}
@@ -0,0 +1,26 @@
+package com.golf.tournament.dto.scorecard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Golpes de un hoyo enviados por el canal WebSocket: los mismos campos que {@link UpdateScoreRequest}
+ * más un número que elige el cliente para reconocer el ack.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreFrameDTO {
+
+    private Long clientSeq;
+    private Long holeId;
+    private Integer golpes;
+    private String tipo;
+
+    public UpdateScoreRequest toRequest() {
+        return UpdateScoreRequest.builder().holeId(holeId).golpes(golpes).tipo(tipo).build();
+    }
+}
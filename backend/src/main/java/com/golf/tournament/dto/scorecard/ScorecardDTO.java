@@ -36,4 +36,9 @@ public class ScorecardDTO {
      * la entrega cuando el jugador marcado canceló o fue descalificado.
      */
     private String markedPlayerScorecardStatus;
+    /**
+     * Último evento SSE de la tarjeta al momento de leerla. El cliente lo manda como {@code lastEventId}
+     * al suscribirse, así recibe los eventos posteriores a esta lectura sin volver a pedir la tarjeta.
+     */
+    private Long eventSeq;
 }
@@ -0,0 +1,26 @@
+package com.golf.tournament.dto.scorecard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Evento {@code concordanciaActualizada} de una tarjeta: las filas de hoyos que cambiaron, para aplicarlas
+ * sobre la tarjeta que el cliente ya tiene. De cada fila viajan holeId, golpesPropio, golpesMarcador,
+ * validado y estadoConcordancia; el resto queda en null.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScorecardEventDTO {
+
+    private Long scorecardId;
+    /** Número del evento dentro de la tarjeta (id del evento SSE). Crece con cada cambio commiteado. */
+    private Long seq;
+    private Boolean marcadorValidado;
+    private List<HoleScoreDTO> holeScores;
+}
@@ -0,0 +1,45 @@
+package com.golf.tournament.dto.scorecard;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** Golpes cargados sin conexión, en el orden en que el jugador los cargó. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScorecardSyncRequest {
+
+    @Valid
+    @NotEmpty(message = "Operations are required")
+    @Size(max = 200, message = "At most 200 operations per sync")
+    private List<Operation> operations;
+
+    /** Un golpe con el id que le asignó el cliente; reenviar el mismo id no lo aplica de nuevo. */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+
+        @NotBlank(message = "Operation id is required")
+        @Size(max = 64, message = "Operation id must be at most 64 characters")
+        private String opId;
+
+        private Long holeId;
+        private Integer golpes;
+        private String tipo;
+
+        public UpdateScoreRequest toRequest() {
+            return UpdateScoreRequest.builder().holeId(holeId).golpes(golpes).tipo(tipo).build();
+        }
+    }
+}
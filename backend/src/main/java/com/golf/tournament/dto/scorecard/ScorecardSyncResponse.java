@@ -0,0 +1,32 @@
+package com.golf.tournament.dto.scorecard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de un sync.
+ *
+ * {@code eventSeq} es el último evento SSE numerado de la tarjeta después de aplicar el lote, para
+ * retomar el stream desde ahí (Last-Event-ID). No es una versión de la tarjeta: solo avanza cuando se
+ * emite un evento, y un lote con golpes propios nada más no emite ninguno sobre esta tarjeta. Para
+ * saber qué se guardó están {@code applied} y {@code scorecard}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScorecardSyncResponse {
+
+    private long eventSeq;
+    private List<String> applied;
+    /** Operaciones que ya se habían aplicado en un sync anterior (o repetidas en este). */
+    private List<String> duplicates;
+    /** Operaciones inválidas con el motivo; no se guardan, así que reenviarlas da el mismo error. */
+    private Map<String, String> rejected;
+    private ScorecardDTO scorecard;
+}
@@ -0,0 +1,29 @@
+package com.golf.tournament.dto.tournament;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/** Versión liviana de {@link TournamentDTO} para listados: sin categorías, premios ni scoring config. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentSummaryDTO {
+
+    private Long id;
+    private String nombre;
+    private String codigo;
+    private String tipo;
+    private String modalidad;
+    private String estado;
+    private Long courseId;
+    private String courseName;
+    private LocalDate fechaInicio;
+    private LocalDate fechaFin;
+    private Integer limiteInscriptos;
+    private Integer currentInscriptos;
+}
@@ -3,6 +3,7 @@ package com.golf.tournament.dto.tournamentadmin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Max;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -31,5 +32,6 @@ public class CreateTournamentAdminRequest {
 
     @NotNull(message = "La cantidad de cuotas es requerida")
     @Min(value = 1, message = "La cantidad de cuotas debe ser al menos 1")
+    @Max(value = 63, message = "La cantidad de cuotas no puede superar 63")
     private Integer cantidadCuotas;
 }
@@ -26,4 +26,7 @@ public class TournamentAdminDetailDTO {
     private BigDecimal totalRecaudado;
     private Boolean canManageStages;
     private List<TournamentAdminInscriptionDTO> inscriptions;
+    /** Para pedir la página siguiente de inscripciones; null si no hay más o si se pidieron todas. */
+    private String nextCursor;
+    private Boolean hasMore;
 }
@@ -19,6 +19,9 @@ public class TournamentAdminInscriptionDTO {
     private String matricula;
     private String telefono;
     private String email;
+    /** Bit {@code cuota - 1} prendido por cada cuota paga. */
+    private Long paidMask;
+    private Integer paidCount;
     private List<PaymentDetailDTO> payments;
 
     @Data
@@ -0,0 +1,16 @@
+package com.golf.tournament.exception;
+
+/** El servidor no puede atender ahora; el cliente debería reintentar en {@code retryAfterSeconds}. */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
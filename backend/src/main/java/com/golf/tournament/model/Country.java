@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -13,6 +15,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "countries")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.country")
 @Data
 @Builder
 @NoArgsConstructor
@@ -29,6 +32,7 @@ public class Country {
     @Column(name = "codigo_iso", nullable = false, unique = true, length = 2)
     private String codigoIso;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.country.provinces")
     @OneToMany(mappedBy = "country", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Province> provinces = new ArrayList<>();
@@ -5,12 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "handicap_conversions")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.handicapConversion")
 @Data
 @Builder
 @NoArgsConstructor
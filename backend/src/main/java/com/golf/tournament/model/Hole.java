@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -16,6 +18,7 @@ import java.util.List;
 @Table(name = "holes", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"course_id", "numero_hoyo"})
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.hole")
 @Data
 @Builder
 @NoArgsConstructor
@@ -39,6 +42,7 @@ public class Hole {
     @Column(nullable = false)
     private Integer handicap;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.hole.distances")
     @OneToMany(mappedBy = "hole", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<HoleDistance> distances = new ArrayList<>();
@@ -5,11 +5,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "hole_distances", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"hole_id", "course_tee_id"})
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.holeDistance")
 @Data
 @Builder
 @NoArgsConstructor
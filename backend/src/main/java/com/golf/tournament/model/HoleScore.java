@@ -5,8 +5,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-
+import org.hibernate.annotations.DynamicUpdate;
+
+/**
+ * Último valor de cada golpe de la tarjeta, proyectado desde {@link HoleScoreEvent}. Los golpes se
+ * escriben con {@code HoleScoreRepository#projectEvents}; desde la entidad solo se actualiza
+ * {@code validado} ({@code @DynamicUpdate}: el UPDATE no pisa los golpes con lo que se leyó antes).
+ * La proyección también sube {@code version}, así un {@code validado} calculado con golpes viejos
+ * no llega a guardarse.
+ */
 @Entity
+@DynamicUpdate
 @Table(name = "hole_scores", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"scorecard_id", "hole_id"})
 })
@@ -37,4 +46,15 @@ public class HoleScore {
     @Column(name = "validado", nullable = false)
     @Builder.Default
     private Boolean validado = false;
+
+    /** Último evento PROPIO ya proyectado en la fila. */
+    @Column(name = "propio_event_id", insertable = false, updatable = false)
+    private Long propioEventId;
+
+    /** Último evento MARCADOR ya proyectado en la fila. */
+    @Column(name = "marcador_event_id", insertable = false, updatable = false)
+    private Long marcadorEventId;
+
+    @Version
+    private Long version;
 }
@@ -0,0 +1,49 @@
+package com.golf.tournament.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Una carga o corrección de golpes. La tabla solo recibe INSERTs: {@link HoleScore} es la proyección
+ * del último evento de cada tipo. {@code golpes} en null es un golpe borrado.
+ *
+ * Las referencias son ids y no relaciones para que agregar un evento no cargue la tarjeta ni el hoyo.
+ */
+@Entity
+@Table(name = "hole_score_events")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoleScoreEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "scorecard_id", nullable = false)
+    private Long scorecardId;
+
+    @Column(name = "hole_id", nullable = false)
+    private Long holeId;
+
+    /** PROPIO o MARCADOR. */
+    @Column(nullable = false, length = 10)
+    private String tipo;
+
+    private Integer golpes;
+
+    /** Usuario autenticado, o {@code jugador:<id>} para la carga pública de la tarjeta. */
+    @Column(length = 100)
+    private String actor;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
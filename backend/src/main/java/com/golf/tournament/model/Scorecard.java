@@ -61,6 +61,18 @@ public class Scorecard {
     @Builder.Default
     private Boolean marcadorValidado = false;
 
+    /** Último evento SSE emitido para la tarjeta. Solo lo escribe {@code ScorecardRepository#nextEventSeq}. */
+    @Column(name = "event_seq", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private Long eventSeq = 0L;
+
+    /**
+     * Control optimista. Además de los cambios propios de la fila, sube cada vez que se recalcula la
+     * concordancia de la tarjeta ({@code ScorecardRepository#lockForConcordance}).
+     */
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "scorecard", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<HoleScore> holeScores = new ArrayList<>();
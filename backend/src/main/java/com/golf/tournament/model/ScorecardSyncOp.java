@@ -0,0 +1,37 @@
+package com.golf.tournament.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/** Operación de sincronización offline ya aplicada a una tarjeta (ver {@code ScorecardService#sync}). */
+@Entity
+@Table(name = "scorecard_sync_ops", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"scorecard_id", "client_op_id"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScorecardSyncOp {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "scorecard_id", nullable = false)
+    private Scorecard scorecard;
+
+    @Column(name = "client_op_id", nullable = false, length = 64)
+    private String clientOpId;
+
+    @CreationTimestamp
+    @Column(name = "applied_at", nullable = false, updatable = false)
+    private LocalDateTime appliedAt;
+}
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -12,6 +14,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "tournament_categories")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.tournamentCategory")
 @Data
 @Builder
 @NoArgsConstructor
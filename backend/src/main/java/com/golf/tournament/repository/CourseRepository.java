@@ -1,6 +1,7 @@
 package com.golf.tournament.repository;
 
 import com.golf.tournament.model.Course;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,4 +19,15 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     List<Course> searchCourses(@Param("search") String search);
     
     List<Course> findByPais(String pais);
+
+    /** Primera página del listado por keyset, ordenado por (nombre, id). */
+    @Query("SELECT c FROM Course c ORDER BY c.nombre ASC, c.id ASC")
+    List<Course> findPageFirst(Pageable pageable);
+
+    /** Página siguiente a la fila (nombre, id) indicada, mismo orden que {@link #findPageFirst}. */
+    @Query("SELECT c FROM Course c WHERE (c.nombre, c.id) > (:nombre, :id) " +
+           "ORDER BY c.nombre ASC, c.id ASC")
+    List<Course> findPageAfter(@Param("nombre") String nombre,
+                               @Param("id") Long id,
+                               Pageable pageable);
 }
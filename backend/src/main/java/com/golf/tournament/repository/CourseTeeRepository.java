@@ -1,7 +1,11 @@
 package com.golf.tournament.repository;
 
+import com.golf.tournament.config.HibernateCacheConfig;
 import com.golf.tournament.model.CourseTee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,9 +13,21 @@ import java.util.List;
 @Repository
 public interface CourseTeeRepository extends JpaRepository<CourseTee, Long> {
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION)
+    })
     List<CourseTee> findByCourseId(Long courseId);
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION)
+    })
     List<CourseTee> findByCourseIdAndActiveTrue(Long courseId);
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION)
+    })
     List<CourseTee> findByCourseIdAndGrupo(Long courseId, String grupo);
 }
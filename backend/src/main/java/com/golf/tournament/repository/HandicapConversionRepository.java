@@ -1,8 +1,12 @@
 package com.golf.tournament.repository;
 
+import com.golf.tournament.config.HibernateCacheConfig;
 import com.golf.tournament.model.HandicapConversion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +16,10 @@ import java.util.Optional;
 @Repository
 public interface HandicapConversionRepository extends JpaRepository<HandicapConversion, Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION)
+    })
     @Query("SELECT hc FROM HandicapConversion hc " +
            "WHERE hc.tee.id = :teeId " +
            "AND :handicapIndex >= hc.hcpIndexFrom " +
@@ -1,7 +1,11 @@
 package com.golf.tournament.repository;
 
+import com.golf.tournament.config.HibernateCacheConfig;
 import com.golf.tournament.model.Hole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,7 +14,15 @@ import java.util.Optional;
 @Repository
 public interface HoleRepository extends JpaRepository<Hole, Long> {
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION)
+    })
     List<Hole> findByCourseIdOrderByNumeroHoyoAsc(Long courseId);
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION)
+    })
     Optional<Hole> findByCourseIdAndNumeroHoyo(Long courseId, Integer numeroHoyo);
 }
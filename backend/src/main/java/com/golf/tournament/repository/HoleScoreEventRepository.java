@@ -0,0 +1,13 @@
+package com.golf.tournament.repository;
+
+import com.golf.tournament.model.HoleScoreEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface HoleScoreEventRepository extends JpaRepository<HoleScoreEvent, Long> {
+
+    List<HoleScoreEvent> findByScorecardIdOrderByIdAsc(Long scorecardId);
+}
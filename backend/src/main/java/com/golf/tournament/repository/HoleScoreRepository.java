@@ -1,16 +1,111 @@
 package com.golf.tournament.repository;
 
 import com.golf.tournament.model.HoleScore;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface HoleScoreRepository extends JpaRepository<HoleScore, Long> {
+
+    /**
+     * Tablas que tocan los UPDATE/INSERT nativos. Sin declararlas Hibernate no sabe qué invalidar y
+     * vacía todas las regiones del cache de segundo nivel y el cache de consultas en cada proyección.
+     */
+    String NATIVE_SPACES = "hole_scores,hole_score_events";
+
+    /**
+     * Proyección de hole_score_events sobre hole_scores: por fila y tipo, el último evento posterior al
+     * que la fila ya tiene. Cada columna se compara con su propio id de evento, así que dos
+     * transacciones que proyectan la misma fila no se pisan los golpes ni vuelven a un valor anterior.
+     */
+    String PROJECT_EVENTS_SQL_PREFIX = """
+            WITH latest AS (
+                SELECT DISTINCT ON (e.scorecard_id, e.hole_id, e.tipo)
+                       e.scorecard_id, e.hole_id, e.tipo, e.golpes, e.id
+                FROM hole_score_events e
+                JOIN hole_scores hs ON hs.scorecard_id = e.scorecard_id AND hs.hole_id = e.hole_id
+                WHERE e.id > CASE e.tipo WHEN 'PROPIO' THEN hs.propio_event_id ELSE hs.marcador_event_id END
+            """;
+    String PROJECT_EVENTS_SQL_SUFFIX = """
+                ORDER BY e.scorecard_id, e.hole_id, e.tipo, e.id DESC
+            ), folded AS (
+                SELECT scorecard_id, hole_id,
+                       MAX(id) FILTER (WHERE tipo = 'PROPIO') AS propio_event_id,
+                       MAX(golpes) FILTER (WHERE tipo = 'PROPIO') AS propio,
+                       MAX(id) FILTER (WHERE tipo = 'MARCADOR') AS marcador_event_id,
+                       MAX(golpes) FILTER (WHERE tipo = 'MARCADOR') AS marcador
+                FROM latest
+                GROUP BY scorecard_id, hole_id
+            )
+            UPDATE hole_scores hs SET
+                golpes_propio = CASE WHEN f.propio_event_id > hs.propio_event_id THEN f.propio ELSE hs.golpes_propio END,
+                propio_event_id = GREATEST(hs.propio_event_id, COALESCE(f.propio_event_id, 0)),
+                golpes_marcador = CASE WHEN f.marcador_event_id > hs.marcador_event_id THEN f.marcador ELSE hs.golpes_marcador END,
+                marcador_event_id = GREATEST(hs.marcador_event_id, COALESCE(f.marcador_event_id, 0)),
+                version = hs.version + 1
+            FROM folded f
+            WHERE hs.scorecard_id = f.scorecard_id AND hs.hole_id = f.hole_id
+            """;
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_SPACES))
+    @Query(value = PROJECT_EVENTS_SQL_PREFIX + "AND e.scorecard_id = :scorecardId" + PROJECT_EVENTS_SQL_SUFFIX,
+           nativeQuery = true)
+    int projectEvents(@Param("scorecardId") Long scorecardId);
+
+    /** La misma proyección para todas las tarjetas en juego; devuelve las filas que estaban atrasadas. */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_SPACES))
+    @Query(value = PROJECT_EVENTS_SQL_PREFIX
+            + "AND e.scorecard_id IN (SELECT id FROM scorecards WHERE status = 'IN_PROGRESS')"
+            + PROJECT_EVENTS_SQL_SUFFIX,
+           nativeQuery = true)
+    int projectPendingEvents();
+
+    /**
+     * Crea las filas que falten para los hoyos indicados. Parten del último evento que ya tiene la
+     * tarjeta, así los eventos de antes de reconfigurarla no se proyectan sobre ellas.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_SPACES))
+    @Query(value = """
+            INSERT INTO hole_scores (scorecard_id, hole_id, validado, propio_event_id, marcador_event_id)
+            SELECT :scorecardId, h.id, FALSE, w.last_id, w.last_id
+            FROM holes h
+            CROSS JOIN (SELECT COALESCE(MAX(id), 0) AS last_id FROM hole_score_events
+                        WHERE scorecard_id = :scorecardId) w
+            WHERE h.id IN (:holeIds)
+            ON CONFLICT (scorecard_id, hole_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertMissingRows(@Param("scorecardId") Long scorecardId, @Param("holeIds") Collection<Long> holeIds);
+
+    /** Después de recrear las filas de la tarjeta: los eventos anteriores ya no se proyectan. */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_SPACES))
+    @Query(value = """
+            UPDATE hole_scores SET
+                propio_event_id = w.last_id,
+                marcador_event_id = w.last_id,
+                version = version + 1
+            FROM (SELECT COALESCE(MAX(id), 0) AS last_id FROM hole_score_events
+                  WHERE scorecard_id = :scorecardId) w
+            WHERE scorecard_id = :scorecardId
+            """, nativeQuery = true)
+    int resetEventWatermarks(@Param("scorecardId") Long scorecardId);
+
+    /** holeId, golpesPropio y golpesMarcador de cada fila de la tarjeta, sin cargar las entidades. */
+    @Query("SELECT hs.hole.id, hs.golpesPropio, hs.golpesMarcador FROM HoleScore hs WHERE hs.scorecard.id = :scorecardId")
+    List<Object[]> findStrokesByScorecardId(@Param("scorecardId") Long scorecardId);
     
     List<HoleScore> findByScorecardId(Long scorecardId);
     
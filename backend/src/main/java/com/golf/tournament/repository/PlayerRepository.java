@@ -1,6 +1,7 @@
 package com.golf.tournament.repository;
 
 import com.golf.tournament.model.Player;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,4 +22,16 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
            "LOWER(p.apellido) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(p.matricula) LIKE LOWER(CONCAT('%', :search, '%'))")
     List<Player> searchPlayers(@Param("search") String search);
+
+    /** Primera página del listado por keyset, ordenado por (apellido, nombre, id). */
+    @Query("SELECT p FROM Player p ORDER BY p.apellido ASC, p.nombre ASC, p.id ASC")
+    List<Player> findPageFirst(Pageable pageable);
+
+    /** Página siguiente a la fila (apellido, nombre, id) indicada, mismo orden que {@link #findPageFirst}. */
+    @Query("SELECT p FROM Player p WHERE (p.apellido, p.nombre, p.id) > (:apellido, :nombre, :id) " +
+           "ORDER BY p.apellido ASC, p.nombre ASC, p.id ASC")
+    List<Player> findPageAfter(@Param("apellido") String apellido,
+                               @Param("nombre") String nombre,
+                               @Param("id") Long id,
+                               Pageable pageable);
 }
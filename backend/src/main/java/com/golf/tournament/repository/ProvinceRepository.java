@@ -1,12 +1,20 @@
 package com.golf.tournament.repository;
 
+import com.golf.tournament.config.HibernateCacheConfig;
 import com.golf.tournament.model.Province;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface ProvinceRepository extends JpaRepository<Province, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION)
+    })
     List<Province> findByCountryIdOrderByNombreAsc(Long countryId);
 }
@@ -2,11 +2,17 @@ package com.golf.tournament.repository;
 
 import com.golf.tournament.model.Scorecard;
 import com.golf.tournament.model.ScorecardStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,4 +38,61 @@ public interface ScorecardRepository extends JpaRepository<Scorecard, Long> {
     List<Scorecard> findDeliveredScorecardsByTournament(@Param("tournamentId") Long tournamentId);
 
     List<Scorecard> findByTournamentIdAndMarkerId(Long tournamentId, Long markerId);
+
+    /** Bloquea la fila de la tarjeta hasta el commit: los syncs de una misma tarjeta se aplican de a uno. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Scorecard s WHERE s.id = :id")
+    Optional<Scorecard> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Sube la versión de la tarjeta al hacer flush aunque no cambie ninguna columna. Se usa al recalcular
+     * la concordancia: dos recálculos simultáneos de la misma tarjeta no pueden confirmarse los dos.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT s FROM Scorecard s WHERE s.id = :id")
+    Optional<Scorecard> lockForConcordance(@Param("id") Long id);
+
+    /**
+     * Tarjetas del torneo en los estados indicados que tienen al menos {@code holesRequired}
+     * hoyos con golpesPropio cargado (conteo agrupado por tarjeta).
+     */
+    @Query("SELECT h.scorecard.id FROM HoleScore h " +
+           "WHERE h.scorecard.tournament.id = :tournamentId AND h.scorecard.status IN :statuses " +
+           "AND h.golpesPropio IS NOT NULL " +
+           "GROUP BY h.scorecard.id HAVING COUNT(h) >= :holesRequired")
+    List<Long> findCompleteScorecardIds(@Param("tournamentId") Long tournamentId,
+                                        @Param("statuses") Collection<ScorecardStatus> statuses,
+                                        @Param("holesRequired") long holesRequired);
+
+    /** Pasa las tarjetas indicadas a {@code status} con deliveredAt = {@code now}. */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Scorecard s SET s.status = :status, s.deliveredAt = :now, s.updatedAt = :now, " +
+           "s.version = s.version + 1 " +
+           "WHERE s.id IN :ids")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids,
+                         @Param("status") ScorecardStatus status,
+                         @Param("now") LocalDateTime now);
+
+    /** Pasa a {@code status} las tarjetas del torneo que siguen en {@code fromStatuses}, conservando deliveredAt si ya tenía. */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Scorecard s SET s.status = :status, s.deliveredAt = COALESCE(s.deliveredAt, :now), s.updatedAt = :now, " +
+           "s.version = s.version + 1 " +
+           "WHERE s.tournament.id = :tournamentId AND s.status IN :fromStatuses")
+    int bulkUpdateStatusByTournament(@Param("tournamentId") Long tournamentId,
+                                     @Param("fromStatuses") Collection<ScorecardStatus> fromStatuses,
+                                     @Param("status") ScorecardStatus status,
+                                     @Param("now") LocalDateTime now);
+
+    /**
+     * Incrementa y devuelve el número de evento de la tarjeta. Bloquea la fila hasta el commit, así que
+     * los números de una tarjeta quedan en el mismo orden que los commits que los generaron.
+     */
+    @Transactional
+    @Query(value = "UPDATE scorecards SET event_seq = event_seq + 1 WHERE id = :id RETURNING event_seq",
+           nativeQuery = true)
+    long nextEventSeq(@Param("id") Long id);
+
+    /** eventSeq actual de la tarjeta, incluidos los eventos numerados en la transacción en curso. */
+    @Query(value = "SELECT event_seq FROM scorecards WHERE id = :id", nativeQuery = true)
+    long currentEventSeq(@Param("id") Long id);
 }
@@ -0,0 +1,26 @@
+package com.golf.tournament.repository;
+
+import com.golf.tournament.model.ScorecardSyncOp;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ScorecardSyncOpRepository extends JpaRepository<ScorecardSyncOp, Long> {
+
+    /** Los ids de {@code clientOpIds} que ya se aplicaron a la tarjeta. */
+    @Query("SELECT o.clientOpId FROM ScorecardSyncOp o " +
+           "WHERE o.scorecard.id = :scorecardId AND o.clientOpId IN :clientOpIds")
+    List<String> findAppliedOpIds(@Param("scorecardId") Long scorecardId,
+                                  @Param("clientOpIds") Collection<String> clientOpIds);
+
+    @Modifying
+    @Query("DELETE FROM ScorecardSyncOp o WHERE o.appliedAt < :before")
+    int deleteAppliedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,20 +1,90 @@
 package com.golf.tournament.repository;
 
 import com.golf.tournament.model.TournamentAdminInscription;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TournamentAdminInscriptionRepository extends JpaRepository<TournamentAdminInscription, Long> {
 
+    /** Tabla que escribe el INSERT nativo, para que Hibernate invalide solo esa y no todo el cache. */
+    String NATIVE_SPACES = "tournament_admin_inscriptions";
+
+    /**
+     * Inscripciones del torneo administrativo para el detalle, una fila por inscripción:
+     * [inscriptionId, playerId, apellido, nombre, matricula, telefono, email, paidMask, cuotasPagas].
+     * {@code paidMask} tiene el bit {@code cuota - 1} prendido por cada cuota paga. {@code :paymentStatus}
+     * filtra por PAID (todas pagas), PARTIAL (alguna paga y alguna no), UNPAID (ninguna paga) o ALL.
+     */
+    String DETAIL_PAGE_SQL_PREFIX = """
+            SELECT ai.id, p.id AS player_id, p.apellido, p.nombre, p.matricula, p.telefono, p.email,
+                   COALESCE(pay.paid_mask, 0) AS paid_mask, pay.paid
+            FROM tournament_admin_inscriptions ai
+            JOIN players p ON p.id = ai.player_id
+            CROSS JOIN LATERAL (
+                SELECT BIT_OR(1::bigint << (tp.cuota_number - 1)) FILTER (WHERE tp.pagado) AS paid_mask,
+                       COUNT(*) FILTER (WHERE tp.pagado) AS paid,
+                       COUNT(*) AS cuotas
+                FROM tournament_admin_payments tp
+                WHERE tp.inscription_id = ai.id
+            ) pay
+            WHERE ai.tournament_admin_id = :tournamentAdminId
+              AND CASE :paymentStatus
+                      WHEN 'PAID' THEN pay.paid = pay.cuotas
+                      WHEN 'PARTIAL' THEN pay.paid > 0 AND pay.paid < pay.cuotas
+                      WHEN 'UNPAID' THEN pay.paid = 0
+                      ELSE TRUE
+                  END
+            """;
+    String DETAIL_PAGE_SQL_SUFFIX = """
+            ORDER BY p.apellido, p.nombre, ai.id
+            LIMIT :limit
+            """;
+
+    /** Primera página del detalle, ordenada por (apellido, nombre, id de inscripción). */
+    @Query(value = DETAIL_PAGE_SQL_PREFIX + DETAIL_PAGE_SQL_SUFFIX, nativeQuery = true)
+    List<Object[]> findDetailPageFirst(@Param("tournamentAdminId") Long tournamentAdminId,
+                                       @Param("paymentStatus") String paymentStatus,
+                                       @Param("limit") int limit);
+
+    /** Página siguiente a la fila (apellido, nombre, id) indicada, mismo orden que {@link #findDetailPageFirst}. */
+    @Query(value = DETAIL_PAGE_SQL_PREFIX + "AND (p.apellido, p.nombre, ai.id) > (:apellido, :nombre, :id)\n"
+            + DETAIL_PAGE_SQL_SUFFIX, nativeQuery = true)
+    List<Object[]> findDetailPageAfter(@Param("tournamentAdminId") Long tournamentAdminId,
+                                       @Param("paymentStatus") String paymentStatus,
+                                       @Param("apellido") String apellido,
+                                       @Param("nombre") String nombre,
+                                       @Param("id") Long id,
+                                       @Param("limit") int limit);
+
     List<TournamentAdminInscription> findByTournamentAdminId(Long tournamentAdminId);
 
     boolean existsByTournamentAdminIdAndPlayerId(Long tournamentAdminId, Long playerId);
 
     @Query("SELECT COUNT(i) FROM TournamentAdminInscription i WHERE i.tournamentAdmin.id = :tournamentAdminId")
     Long countByTournamentAdminId(@Param("tournamentAdminId") Long tournamentAdminId);
+
+    /** Inscribe en el torneo administrativo a los inscriptos del torneo que todavía no están; devuelve cuántos. */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_SPACES))
+    @Query(value = """
+            INSERT INTO tournament_admin_inscriptions (tournament_admin_id, player_id)
+            SELECT :tournamentAdminId, ti.player_id
+            FROM tournament_inscriptions ti
+            WHERE ti.tournament_id = :tournamentId
+              AND NOT EXISTS (SELECT 1 FROM tournament_admin_inscriptions ai
+                              WHERE ai.tournament_admin_id = :tournamentAdminId AND ai.player_id = ti.player_id)
+            ON CONFLICT (tournament_admin_id, player_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertFromTournament(@Param("tournamentAdminId") Long tournamentAdminId,
+                             @Param("tournamentId") Long tournamentId);
 }
@@ -1,16 +1,25 @@
 package com.golf.tournament.repository;
 
 import com.golf.tournament.model.TournamentAdminPayment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TournamentAdminPaymentRepository extends JpaRepository<TournamentAdminPayment, Long> {
 
+    /** Tabla que escriben los INSERT/DELETE nativos, para que Hibernate invalide solo esa y no todo el cache. */
+    String NATIVE_SPACES = "tournament_admin_payments";
+
     List<TournamentAdminPayment> findByInscriptionId(Long inscriptionId);
 
     @Query("SELECT p FROM TournamentAdminPayment p WHERE p.inscription.tournamentAdmin.id = :tournamentAdminId")
@@ -19,4 +28,51 @@ public interface TournamentAdminPaymentRepository extends JpaRepository<Tourname
     @Query("SELECT COUNT(p) FROM TournamentAdminPayment p " +
            "WHERE p.inscription.tournamentAdmin.id = :tournamentAdminId AND p.pagado = true")
     Long countPaidByTournamentAdminId(@Param("tournamentAdminId") Long tournamentAdminId);
+
+    /**
+     * Crea, sin pagar, las cuotas de 1 a {@code cantidad_cuotas} que le falten a cada inscripción del
+     * torneo administrativo. Las existentes no se tocan. Devuelve cuántas creó.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_SPACES))
+    @Query(value = """
+            INSERT INTO tournament_admin_payments (inscription_id, cuota_number)
+            SELECT ai.id, cuota.number
+            FROM tournament_admin_inscriptions ai
+            JOIN tournament_admins ta ON ta.id = ai.tournament_admin_id
+            CROSS JOIN LATERAL generate_series(1, ta.cantidad_cuotas) AS cuota(number)
+            WHERE ai.tournament_admin_id = :tournamentAdminId
+              AND NOT EXISTS (SELECT 1 FROM tournament_admin_payments p
+                              WHERE p.inscription_id = ai.id AND p.cuota_number = cuota.number)
+            ON CONFLICT (inscription_id, cuota_number) DO NOTHING
+            """, nativeQuery = true)
+    int insertMissingCuotas(@Param("tournamentAdminId") Long tournamentAdminId);
+
+    /** Borra las cuotas con número mayor a {@code cantidad_cuotas} del torneo administrativo; devuelve cuántas. */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_SPACES))
+    @Query(value = """
+            DELETE FROM tournament_admin_payments p
+            USING tournament_admin_inscriptions ai, tournament_admins ta
+            WHERE p.inscription_id = ai.id
+              AND ta.id = ai.tournament_admin_id
+              AND ai.tournament_admin_id = :tournamentAdminId
+              AND p.cuota_number > ta.cantidad_cuotas
+            """, nativeQuery = true)
+    int deleteCuotasBeyondLimit(@Param("tournamentAdminId") Long tournamentAdminId);
+
+    /** Filas [inscriptionId, paymentId, cuotaNumber] de las inscripciones indicadas, por número de cuota. */
+    @Query("SELECT p.inscription.id, p.id, p.cuotaNumber FROM TournamentAdminPayment p " +
+           "WHERE p.inscription.id IN :inscriptionIds ORDER BY p.cuotaNumber ASC")
+    List<Object[]> findIdsByInscriptionIds(@Param("inscriptionIds") Collection<Long> inscriptionIds);
+
+    /** Filas [id, tournamentAdminId, pagado] de los pagos indicados, para validar un lote. */
+    @Query("SELECT p.id, p.inscription.tournamentAdmin.id, p.pagado FROM TournamentAdminPayment p WHERE p.id IN :ids")
+    List<Object[]> findPaymentStateByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TournamentAdminPayment p SET p.pagado = :pagado, p.updatedAt = :now WHERE p.id IN :ids")
+    int updatePagado(@Param("ids") Collection<Long> ids,
+                     @Param("pagado") Boolean pagado,
+                     @Param("now") LocalDateTime now);
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -28,4 +29,9 @@ public interface TournamentAdminStageRepository extends JpaRepository<Tournament
 
     @Query("SELECT s FROM TournamentAdminStage s JOIN s.tournaments t WHERE t.id = :tournamentId")
     List<TournamentAdminStage> findByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    /** Etapas de varios torneos como filas [tournamentId, stage]. */
+    @Query("SELECT t.id, s FROM TournamentAdminStage s JOIN s.tournaments t " +
+           "WHERE t.id IN :tournamentIds ORDER BY s.id ASC")
+    List<Object[]> findByTournamentIdIn(@Param("tournamentIds") Collection<Long> tournamentIds);
 }
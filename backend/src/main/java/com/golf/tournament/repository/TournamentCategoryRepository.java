@@ -1,20 +1,36 @@
 package com.golf.tournament.repository;
 
+import com.golf.tournament.config.HibernateCacheConfig;
 import com.golf.tournament.model.TournamentCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TournamentCategoryRepository extends JpaRepository<TournamentCategory, Long> {
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION)
+    })
     List<TournamentCategory> findByTournamentId(Long tournamentId);
+
+    @Query("SELECT tc FROM TournamentCategory tc WHERE tc.tournament.id IN :tournamentIds ORDER BY tc.id ASC")
+    List<TournamentCategory> findByTournamentIdIn(@Param("tournamentIds") Collection<Long> tournamentIds);
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.QUERY_REGION)
+    })
     @Query("SELECT tc FROM TournamentCategory tc WHERE tc.tournament.id = :tournamentId " +
            "AND :handicapIndex >= tc.handicapMin AND :handicapIndex <= tc.handicapMax")
     Optional<TournamentCategory> findCategoryForHandicap(
@@ -1,16 +1,80 @@
 package com.golf.tournament.repository;
 
 import com.golf.tournament.model.TournamentInscription;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TournamentInscriptionRepository extends JpaRepository<TournamentInscription, Long> {
+
+    /** Tabla que escriben los UPDATE/INSERT nativos, para que Hibernate invalide solo esa y no todo el cache. */
+    String NATIVE_SPACES = "tournament_inscriptions";
+
+    /**
+     * Categoría de cada inscripción según handicap índice y sexo actuales del jugador, con las mismas
+     * reglas que {@code CategoryIndex}: las categorías X aplican a todos, M y F solo a ese sexo, un
+     * jugador sin sexo solo entra en las X y ante rangos solapados gana la de menor id. Sin handicap o
+     * sin categoría que lo contenga queda en null. Solo escribe las filas que cambian.
+     */
+    String REASSIGN_CATEGORIES_SQL_PREFIX = """
+            WITH resolved AS (
+                SELECT ti.id, c.id AS category_id
+                FROM tournament_inscriptions ti
+                JOIN tournaments t ON t.id = ti.tournament_id
+                JOIN players p ON p.id = ti.player_id
+                LEFT JOIN LATERAL (
+                    SELECT tc.id
+                    FROM tournament_categories tc
+                    WHERE tc.tournament_id = ti.tournament_id
+                      AND p.handicap_index BETWEEN tc.handicap_min AND tc.handicap_max
+                      AND CASE WHEN UPPER(TRIM(tc.sexo_categoria)) IN ('M', 'F') THEN UPPER(TRIM(tc.sexo_categoria)) ELSE 'X' END
+                          IN ('X', CASE WHEN UPPER(TRIM(p.sexo)) IN ('M', 'F') THEN UPPER(TRIM(p.sexo)) ELSE 'X' END)
+                    ORDER BY tc.id
+                    LIMIT 1
+                ) c ON TRUE
+            """;
+    String REASSIGN_CATEGORIES_SQL_SUFFIX = """
+            )
+            UPDATE tournament_inscriptions ti SET category_id = r.category_id
+            FROM resolved r
+            WHERE ti.id = r.id AND ti.category_id IS DISTINCT FROM r.category_id
+            """;
+
+    /** Recalcula las categorías de todas las inscripciones del torneo; devuelve las que cambiaron. */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_SPACES))
+    @Query(value = REASSIGN_CATEGORIES_SQL_PREFIX + "WHERE ti.tournament_id = :tournamentId"
+            + REASSIGN_CATEGORIES_SQL_SUFFIX, nativeQuery = true)
+    int reassignCategories(@Param("tournamentId") Long tournamentId);
+
+    /** Lo mismo para las inscripciones de estos jugadores en torneos no finalizados (cambió su handicap o sexo). */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_SPACES))
+    @Query(value = REASSIGN_CATEGORIES_SQL_PREFIX + "WHERE ti.player_id IN (:playerIds) AND t.estado <> 'FINALIZED'"
+            + REASSIGN_CATEGORIES_SQL_SUFFIX, nativeQuery = true)
+    int reassignCategoriesForPlayers(@Param("playerIds") Collection<Long> playerIds);
+
+    /** Lo mismo para las inscripciones de los torneos en curso de las etapas de un torneo administrativo. */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_SPACES))
+    @Query(value = REASSIGN_CATEGORIES_SQL_PREFIX + """
+            WHERE t.estado = 'IN_PROGRESS'
+              AND t.id IN (SELECT st.tournament_id
+                           FROM tournament_admin_stage_tournaments st
+                           JOIN tournament_admin_stages s ON s.id = st.stage_id
+                           WHERE s.tournament_admin_id = :tournamentAdminId)
+            """ + REASSIGN_CATEGORIES_SQL_SUFFIX, nativeQuery = true)
+    int reassignCategoriesForTournamentAdmin(@Param("tournamentAdminId") Long tournamentAdminId);
     
     List<TournamentInscription> findByTournamentId(Long tournamentId);
     
@@ -22,6 +86,64 @@ public interface TournamentInscriptionRepository extends JpaRepository<Tournamen
     
     @Query("SELECT COUNT(ti) FROM TournamentInscription ti WHERE ti.tournament.id = :tournamentId")
     Long countByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    /** Cantidad de inscriptos por torneo como filas [tournamentId, count]; los torneos sin inscriptos no aparecen. */
+    @Query("SELECT ti.tournament.id, COUNT(ti) FROM TournamentInscription ti " +
+           "WHERE ti.tournament.id IN :tournamentIds GROUP BY ti.tournament.id")
+    List<Object[]> countByTournamentIds(@Param("tournamentIds") Collection<Long> tournamentIds);
     
     List<TournamentInscription> findByTournamentIdAndCategoryId(Long tournamentId, Long categoryId);
+
+    /**
+     * Pares (torneo, inscripto del torneo administrativo) para los torneos pendientes o en curso de sus
+     * etapas, como una fila [torneos, pares, pares ya inscriptos].
+     */
+    @Query(value = """
+            SELECT COUNT(DISTINCT t.id), COUNT(ai.id), COUNT(ti.id)
+            FROM tournament_admin_stages s
+            JOIN tournament_admin_stage_tournaments st ON st.stage_id = s.id
+            JOIN tournaments t ON t.id = st.tournament_id
+            LEFT JOIN tournament_admin_inscriptions ai ON ai.tournament_admin_id = s.tournament_admin_id
+            LEFT JOIN tournament_inscriptions ti ON ti.tournament_id = t.id AND ti.player_id = ai.player_id
+            WHERE s.tournament_admin_id = :tournamentAdminId
+              AND t.estado IN ('PENDING', 'IN_PROGRESS')
+            """, nativeQuery = true)
+    List<Object[]> countTournamentAdminImportPairs(@Param("tournamentAdminId") Long tournamentAdminId);
+
+    /**
+     * Inscribe a los inscriptos del torneo administrativo en los torneos pendientes o en curso de sus
+     * etapas donde todavía no están. Con límite de inscriptos entran, en orden de inscripción al
+     * administrativo, solo los que caben en los lugares libres. Devuelve cuántos inscribió.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_SPACES))
+    @Query(value = """
+            INSERT INTO tournament_inscriptions (tournament_id, player_id)
+            SELECT c.tournament_id, c.player_id
+            FROM (
+                SELECT t.id AS tournament_id, ai.player_id, t.limite_inscriptos,
+                       ROW_NUMBER() OVER (PARTITION BY t.id ORDER BY ai.id) AS position
+                FROM tournament_admin_stages s
+                JOIN tournament_admin_stage_tournaments st ON st.stage_id = s.id
+                JOIN tournaments t ON t.id = st.tournament_id
+                JOIN tournament_admin_inscriptions ai ON ai.tournament_admin_id = s.tournament_admin_id
+                WHERE s.tournament_admin_id = :tournamentAdminId
+                  AND t.estado IN ('PENDING', 'IN_PROGRESS')
+                  AND NOT EXISTS (SELECT 1 FROM tournament_inscriptions ti
+                                  WHERE ti.tournament_id = t.id AND ti.player_id = ai.player_id)
+            ) c
+            WHERE c.limite_inscriptos IS NULL
+               OR c.position <= c.limite_inscriptos
+                      - (SELECT COUNT(*) FROM tournament_inscriptions x WHERE x.tournament_id = c.tournament_id)
+            ON CONFLICT (tournament_id, player_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertFromTournamentAdmin(@Param("tournamentAdminId") Long tournamentAdminId);
+
+    /** Filas [id, tournamentId, pagado] de las inscripciones indicadas, para validar un lote de pagos. */
+    @Query("SELECT ti.id, ti.tournament.id, ti.pagado FROM TournamentInscription ti WHERE ti.id IN :ids")
+    List<Object[]> findPaymentStateByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TournamentInscription ti SET ti.pagado = :pagado WHERE ti.id IN :ids")
+    int updatePagado(@Param("ids") Collection<Long> ids, @Param("pagado") Boolean pagado);
 }
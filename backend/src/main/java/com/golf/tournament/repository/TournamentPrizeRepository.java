@@ -2,8 +2,11 @@ package com.golf.tournament.repository;
 
 import com.golf.tournament.model.TournamentPrize;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +15,12 @@ public interface TournamentPrizeRepository extends JpaRepository<TournamentPrize
 
     List<TournamentPrize> findByTournamentId(Long tournamentId);
 
+    /** Premios de varios torneos con su ganador (inscripción y jugador) resueltos en la misma consulta. */
+    @Query("SELECT p FROM TournamentPrize p " +
+           "LEFT JOIN FETCH p.winner w LEFT JOIN FETCH w.inscription i LEFT JOIN FETCH i.player " +
+           "WHERE p.tournament.id IN :tournamentIds ORDER BY p.id ASC")
+    List<TournamentPrize> findWithWinnerByTournamentIdIn(@Param("tournamentIds") Collection<Long> tournamentIds);
+
     Optional<TournamentPrize> findByTournamentIdAndPrizeType(Long tournamentId, String prizeType);
 
     void deleteByTournamentIdAndPrizeType(Long tournamentId, String prizeType);
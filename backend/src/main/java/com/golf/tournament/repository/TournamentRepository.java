@@ -1,6 +1,7 @@
 package com.golf.tournament.repository;
 
 import com.golf.tournament.model.Tournament;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -28,6 +29,21 @@ public interface TournamentRepository extends JpaRepository<Tournament, Long> {
     @Query("SELECT t FROM Tournament t ORDER BY t.fechaInicio DESC")
     List<Tournament> findAllOrderByFechaInicioDesc();
 
+    /** Igual que {@link #findAllOrderByFechaInicioDesc} pero trae el campo en la misma consulta. */
+    @Query("SELECT t FROM Tournament t JOIN FETCH t.course ORDER BY t.fechaInicio DESC")
+    List<Tournament> findAllWithCourseOrderByFechaInicioDesc();
+
+    /** Primera página del listado por keyset, ordenado por (fechaInicio desc, id desc). */
+    @Query("SELECT t FROM Tournament t JOIN FETCH t.course ORDER BY t.fechaInicio DESC, t.id DESC")
+    List<Tournament> findPageFirst(Pageable pageable);
+
+    /** Página siguiente a la fila (fechaInicio, id) indicada, mismo orden que {@link #findPageFirst}. */
+    @Query("SELECT t FROM Tournament t JOIN FETCH t.course WHERE (t.fechaInicio, t.id) < (:fechaInicio, :id) " +
+           "ORDER BY t.fechaInicio DESC, t.id DESC")
+    List<Tournament> findPageAfter(@Param("fechaInicio") LocalDate fechaInicio,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
     @Query("SELECT t FROM Tournament t WHERE t.tipo = :tipo AND t.id NOT IN (" +
             "SELECT st.id FROM TournamentAdminStage s JOIN s.tournaments st" +
             ") ORDER BY t.fechaInicio DESC")
@@ -0,0 +1,197 @@
+package com.golf.tournament.service;
+
+import com.golf.tournament.model.TournamentCategory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * Categorías de un torneo preparadas para resolver la de un jugador por handicap y sexo con una
+ * búsqueda binaria. Por cada sexo del jugador (M, F o sin dato) guarda intervalos disjuntos y
+ * ordenados en décimas de handicap ({@code int}), cada uno con la categoría que le corresponde.
+ *
+ * Las categorías se ordenan por id y ante rangos solapados gana la primera, como cuando se
+ * recorría la lista. Las categorías {@code X} aplican a todos; las de M o F solo a ese sexo, y un
+ * jugador sin sexo (o con otro valor) solo entra en las {@code X}.
+ *
+ * Es inmutable. Las categorías que devuelve son las que se usaron para armarlo y pueden venir de
+ * otra sesión: sirven para leer id, nombre y rangos, no para asociarlas a una entidad.
+ */
+public final class CategoryIndex {
+
+    static final String SEX_MALE = "M";
+    static final String SEX_FEMALE = "F";
+    static final String SEX_MIXED = "X";
+
+    private static final CategoryIndex EMPTY = new CategoryIndex(new TournamentCategory[0],
+            Intervals.NONE, Intervals.NONE, Intervals.NONE);
+
+    private final TournamentCategory[] categories;
+    private final Intervals male;
+    private final Intervals female;
+    private final Intervals mixed;
+
+    private CategoryIndex(TournamentCategory[] categories, Intervals male, Intervals female, Intervals mixed) {
+        this.categories = categories;
+        this.male = male;
+        this.female = female;
+        this.mixed = mixed;
+    }
+
+    public static CategoryIndex of(List<TournamentCategory> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return EMPTY;
+        }
+        TournamentCategory[] sorted = categories.stream()
+                .filter(c -> c.getHandicapMin() != null && c.getHandicapMax() != null)
+                .sorted(Comparator.comparing(TournamentCategory::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toArray(TournamentCategory[]::new);
+        return new CategoryIndex(sorted,
+                Intervals.build(sorted, SEX_MALE),
+                Intervals.build(sorted, SEX_FEMALE),
+                Intervals.build(sorted, SEX_MIXED));
+    }
+
+    /** La categoría del jugador, o {@code null} si no tiene handicap o no entra en ninguna. */
+    public TournamentCategory resolve(BigDecimal handicapIndex, String playerSex) {
+        if (handicapIndex == null || categories.length == 0) {
+            return null;
+        }
+        Intervals intervals = switch (normalizePlayerSex(playerSex)) {
+            case SEX_MALE -> male;
+            case SEX_FEMALE -> female;
+            default -> mixed;
+        };
+        BigDecimal tenths = handicapIndex.movePointRight(1);
+        if (tenths.stripTrailingZeros().scale() > 0) {
+            // Más precisión que las décimas de las columnas: no cae en un entero, se compara exacto
+            return resolveExact(handicapIndex, intervals.sex);
+        }
+        int owner = intervals.find(tenths.intValueExact());
+        return owner < 0 ? null : categories[owner];
+    }
+
+    /** Id de la categoría del jugador, o {@code null}. */
+    public Long resolveId(BigDecimal handicapIndex, String playerSex) {
+        TournamentCategory category = resolve(handicapIndex, playerSex);
+        return category != null ? category.getId() : null;
+    }
+
+    public boolean isEmpty() {
+        return categories.length == 0;
+    }
+
+    private TournamentCategory resolveExact(BigDecimal handicapIndex, String playerSex) {
+        for (TournamentCategory category : categories) {
+            if (appliesTo(category, playerSex)
+                    && handicapIndex.compareTo(category.getHandicapMin()) >= 0
+                    && handicapIndex.compareTo(category.getHandicapMax()) <= 0) {
+                return category;
+            }
+        }
+        return null;
+    }
+
+    static String normalizePlayerSex(String playerSex) {
+        if (playerSex == null || playerSex.isBlank()) {
+            return SEX_MIXED;
+        }
+        String normalized = playerSex.trim().toUpperCase(Locale.ROOT);
+        return SEX_MALE.equals(normalized) || SEX_FEMALE.equals(normalized) ? normalized : SEX_MIXED;
+    }
+
+    static String normalizeCategorySex(String categorySex) {
+        if (categorySex == null || categorySex.isBlank()) {
+            return SEX_MIXED;
+        }
+        String normalized = categorySex.trim().toUpperCase(Locale.ROOT);
+        return SEX_MALE.equals(normalized) || SEX_FEMALE.equals(normalized) ? normalized : SEX_MIXED;
+    }
+
+    private static boolean appliesTo(TournamentCategory category, String playerSex) {
+        String categorySex = normalizeCategorySex(category.getSexoCategoria());
+        return SEX_MIXED.equals(categorySex) || categorySex.equals(playerSex);
+    }
+
+    /**
+     * Intervalos cerrados {@code [lows[i], highs[i]]} en décimas, disjuntos y ordenados, con el índice
+     * de la categoría de cada uno en {@code owners[i]}.
+     */
+    private record Intervals(String sex, int[] lows, int[] highs, int[] owners) {
+
+        static final Intervals NONE = new Intervals(SEX_MIXED, new int[0], new int[0], new int[0]);
+
+        /**
+         * Corta la recta en los bordes de todas las categorías que aplican al sexo; en cada tramo queda
+         * la primera categoría que lo cubre. Los tramos contiguos de la misma categoría se unen.
+         */
+        static Intervals build(TournamentCategory[] categories, String sex) {
+            List<Integer> applicable = new ArrayList<>();
+            TreeSet<Integer> bounds = new TreeSet<>();
+            int[] lo = new int[categories.length];
+            int[] hi = new int[categories.length];
+            for (int c = 0; c < categories.length; c++) {
+                if (!appliesTo(categories[c], sex)) continue;
+                // Con más de un decimal el borde se redondea hacia adentro del rango
+                lo[c] = categories[c].getHandicapMin().movePointRight(1).setScale(0, RoundingMode.CEILING).intValueExact();
+                hi[c] = categories[c].getHandicapMax().movePointRight(1).setScale(0, RoundingMode.FLOOR).intValueExact();
+                if (lo[c] > hi[c]) continue;
+                applicable.add(c);
+                bounds.add(lo[c]);
+                bounds.add(hi[c] + 1);
+            }
+
+            int[] lows = new int[bounds.size()];
+            int[] highs = new int[bounds.size()];
+            int[] owners = new int[bounds.size()];
+            int size = 0;
+            Integer start = null;
+            for (Integer next : bounds) {
+                if (start != null) {
+                    int owner = firstCovering(applicable, lo, hi, start);
+                    if (owner >= 0) {
+                        if (size > 0 && owners[size - 1] == owner && highs[size - 1] == start - 1) {
+                            highs[size - 1] = next - 1;
+                        } else {
+                            lows[size] = start;
+                            highs[size] = next - 1;
+                            owners[size] = owner;
+                            size++;
+                        }
+                    }
+                }
+                start = next;
+            }
+            return new Intervals(sex, Arrays.copyOf(lows, size), Arrays.copyOf(highs, size), Arrays.copyOf(owners, size));
+        }
+
+        private static int firstCovering(List<Integer> applicable, int[] lo, int[] hi, int value) {
+            for (int c : applicable) {
+                if (lo[c] <= value && value <= hi[c]) return c;
+            }
+            return -1;
+        }
+
+        /** Índice de la categoría que contiene {@code value}, o -1. */
+        int find(int value) {
+            int low = 0;
+            int high = lows.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (lows[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            // high: último intervalo que empieza en o antes de value
+            return high >= 0 && value <= highs[high] ? owners[high] : -1;
+        }
+    }
+}
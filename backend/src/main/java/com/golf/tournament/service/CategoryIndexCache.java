@@ -0,0 +1,58 @@
+package com.golf.tournament.service;
+
+import com.golf.tournament.repository.TournamentCategoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link CategoryIndex} por torneo, armado la primera vez que se pide. Cuando cambian las categorías
+ * de un torneo, {@link ReferenceDataCache#evictLocal} sube la generación en cada nodo y los índices
+ * armados antes dejan de usarse.
+ *
+ * Los que lo piden leen en transacciones readOnly, que pueden ir a una réplica atrasada: un índice
+ * armado justo después del aviso puede salir con las categorías viejas y la generación nueva. Por eso
+ * cada índice vence además a los {@code tournament.category-index-max-age}, que acota cuánto dura ese
+ * índice viejo.
+ *
+ * Dentro de la transacción que modifica las categorías hay que armar el índice con
+ * {@link CategoryIndex#of}: el aviso llega recién después del commit.
+ */
+@Service
+public class CategoryIndexCache {
+
+    private final TournamentCategoryRepository categoryRepository;
+    private final long maxAgeNanos;
+    private final Map<Long, Entry> indexes = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public CategoryIndexCache(TournamentCategoryRepository categoryRepository,
+                              @Value("${tournament.category-index-max-age:30s}") Duration maxAge) {
+        this.categoryRepository = categoryRepository;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    public CategoryIndex forTournament(Long tournamentId) {
+        long current = generation.get();
+        Entry entry = indexes.get(tournamentId);
+        if (entry != null && entry.generation() == current && System.nanoTime() - entry.builtAt() < maxAgeNanos) {
+            return entry.index();
+        }
+        CategoryIndex index = CategoryIndex.of(categoryRepository.findByTournamentId(tournamentId));
+        // Si se invalidó mientras se armaba, queda guardado con la generación vieja y el próximo lo rearma
+        indexes.put(tournamentId, new Entry(current, index, System.nanoTime()));
+        return index;
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        indexes.clear();
+    }
+
+    private record Entry(long generation, CategoryIndex index, long builtAt) {
+    }
+}
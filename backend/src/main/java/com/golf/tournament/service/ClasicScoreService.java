@@ -1,10 +1,13 @@
 package com.golf.tournament.service;
 
+import com.golf.tournament.config.Coalesced;
+import com.golf.tournament.config.RequestCoalescer;
 import com.golf.tournament.dto.leaderboard.TournamentScoreDTO;
 import com.golf.tournament.dto.tournamentadmin.ScoringConfigDTO;
 import com.golf.tournament.exception.ResourceNotFoundException;
 import com.golf.tournament.model.*;
 import com.golf.tournament.repository.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -36,10 +39,12 @@ public class ClasicScoreService {
     private final HoleScoreRepository holeScoreRepository;
     private final TournamentScoreRepository tournamentScoreRepository;
     private final TournamentCategoryRepository categoryRepository;
+    private final CategoryIndexCache categoryIndexCache;
     private final TournamentAdminScoringConfigService scoringConfigService;
 
     // ── Cálculo ────────────────────────────────────────────────────────────────
 
+    @Timed(value = "golf.scores.calculate", extraTags = {"type", "CLASICO"}, histogram = true)
     @Transactional
     public List<TournamentScoreDTO> calculateScores(Long tournamentId) {
         Tournament tournament = tournamentRepository.findById(tournamentId)
@@ -59,6 +64,7 @@ public class ClasicScoreService {
         // ── Puntajes por CATEGORÍA ─────────────────────────────────────────────
         // La categoría se determina por handicapIndex del jugador, no por inscription.category_id
         List<TournamentCategory> categories = categoryRepository.findByTournamentId(tournamentId);
+        CategoryIndex categoryIndex = categoryIndexCache.forTournament(tournamentId);
 
         List<Scorecard> allCategoryCards = scorecardRepository.findByTournamentIdAndStatusIn(
                 tournamentId, List.of(ScorecardStatus.DELIVERED, ScorecardStatus.CANCELLED));
@@ -72,15 +78,12 @@ public class ClasicScoreService {
         }
 
         for (Scorecard sc : allCategoryCards) {
-            TournamentCategory cat = findCategoryByHandicapIndex(
-                    sc.getPlayer().getHandicapIndex(),
-                    sc.getPlayer().getSexo(),
-                    categories);
-            if (cat == null) continue;
+            Long catId = categoryIndex.resolveId(sc.getPlayer().getHandicapIndex(), sc.getPlayer().getSexo());
+            if (catId == null || !deliveredByCategory.containsKey(catId)) continue;
             if (sc.getStatus() == ScorecardStatus.DELIVERED) {
-                deliveredByCategory.get(cat.getId()).add(sc);
+                deliveredByCategory.get(catId).add(sc);
             } else {
-                cancelledByCategory.get(cat.getId()).add(sc);
+                cancelledByCategory.get(catId).add(sc);
             }
         }
 
@@ -234,6 +237,7 @@ public class ClasicScoreService {
 
     // ── Consulta ────────────────────────────────────────────────────────────────
 
+    @Coalesced(value = RequestCoalescer.SCORES, maxStalenessMs = 1000)
     @Transactional(readOnly = true)
     public List<TournamentScoreDTO> getScores(Long tournamentId) {
         tournamentRepository.findById(tournamentId)
@@ -414,25 +418,6 @@ public class ClasicScoreService {
                 birdieCount, eagleCount, aceCount, scoresByHole, maxHole);
     }
 
-    /** Determina la categoría de un jugador según su handicapIndex y sexo. */
-    private TournamentCategory findCategoryByHandicapIndex(BigDecimal handicapIndex,
-                                                           String playerSex,
-                                                           List<TournamentCategory> categories) {
-        if (handicapIndex == null || categories == null || categories.isEmpty()) return null;
-        String sex = (playerSex == null || playerSex.isBlank()) ? "X" : playerSex.trim().toUpperCase();
-        if (!"M".equals(sex) && !"F".equals(sex)) sex = "X";
-        for (TournamentCategory cat : categories) {
-            String catSex = (cat.getSexoCategoria() == null || cat.getSexoCategoria().isBlank())
-                    ? "X" : cat.getSexoCategoria().trim().toUpperCase();
-            if (!"X".equals(catSex) && !catSex.equals(sex)) continue;
-            if (handicapIndex.compareTo(cat.getHandicapMin()) >= 0
-                    && handicapIndex.compareTo(cat.getHandicapMax()) <= 0) {
-                return cat;
-            }
-        }
-        return null;
-    }
-
     private TournamentScoreDTO convertToDTO(TournamentScore score) {
         Scorecard sc = score.getScorecard();
         Player player = score.getPlayer();
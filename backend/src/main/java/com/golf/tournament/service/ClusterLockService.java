@@ -0,0 +1,200 @@
+package com.golf.tournament.service;
+
+import com.golf.tournament.config.DedicatedConnectionFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Elección de líder por job para tareas programadas cuando corren varias réplicas del backend.
+ *
+ * Cada job tiene su propia clave de advisory lock de Postgres ({@code pg_try_advisory_lock(classId, jobKey)}).
+ * El nodo que la obtiene la retiene en una conexión dedicada (fuera del pool) y queda como líder de ese
+ * job; los demás nodos saltean la ejecución. La conexión se renueva periódicamente verificando en
+ * {@code pg_locks} que el lock sigue tomado: si la conexión se cae el lock se libera solo en Postgres y
+ * otro nodo lo toma en su próxima ejecución.
+ *
+ * La conexión del lease se abre con {@code scheduling.cluster-lock.timeout-ms} como tope de socket y de
+ * sentencia: si queda medio abierta, la renovación falla por timeout y el nodo deja de ser líder en vez
+ * de bloquear la renovación y los demás jobs.
+ *
+ * Con {@code scheduling.cluster-lock.enabled=false} todos los jobs corren en el nodo local.
+ */
+@Slf4j
+@Service
+public class ClusterLockService {
+
+    /** Espacio de claves propio de la aplicación ("GOLF") para no chocar con otros advisory locks. */
+    private static final int LOCK_CLASS_ID = 0x474F4C46;
+
+    private final DedicatedConnectionFactory connectionFactory;
+    private final boolean enabled;
+    private final Duration timeout;
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public ClusterLockService(DedicatedConnectionFactory connectionFactory,
+                              @Value("${scheduling.cluster-lock.enabled:true}") boolean enabled,
+                              @Value("${scheduling.cluster-lock.timeout-ms:5000}") long timeoutMs) {
+        this.connectionFactory = connectionFactory;
+        this.enabled = enabled;
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    /**
+     * Indica si este nodo es el líder del job. Si ya tiene el lease lo valida; si no, intenta tomarlo.
+     * Ante cualquier error de conexión devuelve false: es preferible saltear una ejecución a duplicarla.
+     */
+    public boolean isLeader(String jobName) {
+        if (!enabled) {
+            return true;
+        }
+        lock.lock();
+        try {
+            Lease lease = leases.get(jobName);
+            if (lease != null) {
+                if (lease.renew()) {
+                    return true;
+                }
+                log.warn("Lease del job '{}' perdido, se reintenta tomarlo", jobName);
+                drop(jobName);
+            }
+            return tryAcquire(jobName);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Mantiene vivas las conexiones de los leases y descarta los que ya no retienen el lock. */
+    @Scheduled(fixedDelayString = "${scheduling.cluster-lock.renew-interval-ms:15000}")
+    public void renewLeases() {
+        if (!enabled || leases.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (Map.Entry<String, Lease> entry : leases.entrySet()) {
+                if (!entry.getValue().renew()) {
+                    log.warn("Lease del job '{}' perdido durante la renovación", entry.getKey());
+                    drop(entry.getKey());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        lock.lock();
+        try {
+            for (String jobName : leases.keySet()) {
+                release(jobName);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean tryAcquire(String jobName) {
+        int jobKey = jobName.hashCode();
+        Connection connection = null;
+        try {
+            connection = connectionFactory.open(timeout);
+            boolean acquired;
+            try (PreparedStatement ps = connection.prepareStatement("SELECT pg_try_advisory_lock(?, ?)")) {
+                ps.setInt(1, LOCK_CLASS_ID);
+                ps.setInt(2, jobKey);
+                try (ResultSet rs = ps.executeQuery()) {
+                    acquired = rs.next() && rs.getBoolean(1);
+                }
+            }
+            if (!acquired) {
+                closeQuietly(connection);
+                log.debug("Job '{}' liderado por otro nodo, se saltea la ejecución", jobName);
+                return false;
+            }
+            leases.put(jobName, new Lease(connection, jobKey));
+            log.info("Nodo tomó el lease del job '{}' (clave {}:{})", jobName, LOCK_CLASS_ID, jobKey);
+            return true;
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            log.warn("No se pudo obtener el lock del job '{}': {}", jobName, e.getMessage());
+            return false;
+        }
+    }
+
+    private void release(String jobName) {
+        Lease lease = leases.remove(jobName);
+        if (lease == null) {
+            return;
+        }
+        try (PreparedStatement ps = lease.connection.prepareStatement("SELECT pg_advisory_unlock(?, ?)")) {
+            ps.setInt(1, LOCK_CLASS_ID);
+            ps.setInt(2, lease.jobKey);
+            ps.execute();
+        } catch (SQLException e) {
+            log.debug("No se pudo liberar explícitamente el lock del job '{}': {}", jobName, e.getMessage());
+        } finally {
+            closeQuietly(lease.connection);
+        }
+    }
+
+    /**
+     * Descarta un lease que falló la renovación sin intentar el unlock: la conexión puede estar colgada
+     * y cerrarla alcanza para que Postgres libere el lock cuando detecte la sesión muerta.
+     */
+    private void drop(String jobName) {
+        Lease lease = leases.remove(jobName);
+        if (lease != null) {
+            closeQuietly(lease.connection);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // la conexión ya está rota; cerrar la sesión libera el lock en Postgres
+        }
+    }
+
+    private static final class Lease {
+        private final Connection connection;
+        private final int jobKey;
+
+        private Lease(Connection connection, int jobKey) {
+            this.connection = connection;
+            this.jobKey = jobKey;
+        }
+
+        /** Confirma que la sesión sigue viva y retiene el advisory lock (objsubid = 2 para la forma de dos claves). */
+        private boolean renew() {
+            String sql = "SELECT 1 FROM pg_locks WHERE locktype = 'advisory' AND granted " +
+                    "AND pid = pg_backend_pid() AND classid::bigint = ? AND objid::bigint = ? AND objsubid = 2";
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setLong(1, Integer.toUnsignedLong(LOCK_CLASS_ID));
+                ps.setLong(2, Integer.toUnsignedLong(jobKey));
+                try (ResultSet rs = ps.executeQuery()) {
+                    return rs.next();
+                }
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.golf.tournament.service;
 
+import com.golf.tournament.config.CacheConfig;
+import com.golf.tournament.dto.common.CursorPageDTO;
 import com.golf.tournament.dto.course.CourseDTO;
+import com.golf.tournament.dto.course.CourseSummaryDTO;
 import com.golf.tournament.dto.course.CourseTeeDTO;
 import com.golf.tournament.dto.course.CreateCourseRequest;
 import com.golf.tournament.dto.course.HoleDTO;
@@ -9,6 +12,9 @@ import com.golf.tournament.model.*;
 import com.golf.tournament.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +30,7 @@ public class CourseService {
     private final CourseTeeRepository courseTeeRepository;
     private final HoleRepository holeRepository;
     private final HoleDistanceRepository holeDistanceRepository;
+    private final ScorecardEventBus scorecardEventBus;
 
     @Transactional(readOnly = true)
     public List<CourseDTO> getAllCourses() {
@@ -32,6 +39,44 @@ public class CourseService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Listado paginado por keyset ordenado por (nombre, id). Devuelve la proyección liviana,
+     * sin tees ni hoyos; el detalle completo se obtiene con {@link #getCourseById}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<CourseSummaryDTO> getCoursesPage(String cursor, Integer size) {
+        int pageSize = KeysetCursor.resolvePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Course> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = courseRepository.findPageFirst(limit);
+        } else {
+            List<String> key = KeysetCursor.decode(cursor, 2);
+            rows = courseRepository.findPageAfter(key.get(0), KeysetCursor.decodeId(key.get(1)), limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Course> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Course last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getNombre(), last.getId());
+        }
+
+        return CursorPageDTO.<CourseSummaryDTO>builder()
+                .items(page.stream().map(this::convertToSummaryDTO).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Cacheable(CacheConfig.COURSE_COUNT)
+    @Transactional(readOnly = true)
+    public long countCourses() {
+        return courseRepository.count();
+    }
+
     @Transactional(readOnly = true)
     public CourseDTO getCourseById(Long id) {
         Course course = courseRepository.findById(id)
@@ -47,6 +92,7 @@ public class CourseService {
     }
 
     @Transactional
+    @CacheEvict(value = CacheConfig.COURSE_COUNT, allEntries = true)
     public CourseDTO createCourse(CreateCourseRequest request) {
         Course course = Course.builder()
                 .nombre(request.getNombre())
@@ -77,16 +123,19 @@ public class CourseService {
         course.setSlopeRating(request.getSlopeRating());
 
         course = courseRepository.save(course);
+        scorecardEventBus.publishReferenceDataChanged();
         log.info("Course updated with id: {}", course.getId());
         return convertToDTO(course);
     }
 
     @Transactional
+    @CacheEvict(value = CacheConfig.COURSE_COUNT, allEntries = true)
     public void deleteCourse(Long id) {
         if (!courseRepository.existsById(id)) {
             throw new ResourceNotFoundException("Course", "id", id);
         }
         courseRepository.deleteById(id);
+        scorecardEventBus.publishReferenceDataChanged();
         log.info("Course deleted with id: {}", id);
     }
 
@@ -103,6 +152,7 @@ public class CourseService {
                 .build();
 
         tee = courseTeeRepository.save(tee);
+        scorecardEventBus.publishReferenceDataChanged();
         log.info("Tee added to course {}: {}", courseId, tee.getId());
         return convertTeeToDTO(tee);
     }
@@ -119,6 +169,7 @@ public class CourseService {
         }
 
         tee = courseTeeRepository.save(tee);
+        scorecardEventBus.publishReferenceDataChanged();
         log.info("Tee updated: {}", teeId);
         return convertTeeToDTO(tee);
     }
@@ -129,6 +180,7 @@ public class CourseService {
                 .orElseThrow(() -> new ResourceNotFoundException("CourseTee", "id", teeId));
         tee.setActive(false);
         courseTeeRepository.save(tee);
+        scorecardEventBus.publishReferenceDataChanged();
         log.info("Tee deactivated: {}", teeId);
     }
 
@@ -175,6 +227,7 @@ public class CourseService {
             }
         }
 
+        scorecardEventBus.publishReferenceDataChanged();
         log.info("Hole added/updated for course {}: hole {}", courseId, holeDTO.getNumeroHoyo());
         return convertHoleToDTO(hole);
     }
@@ -209,6 +262,19 @@ public class CourseService {
                 .build();
     }
 
+    private CourseSummaryDTO convertToSummaryDTO(Course course) {
+        return CourseSummaryDTO.builder()
+                .id(course.getId())
+                .nombre(course.getNombre())
+                .pais(course.getPais())
+                .provincia(course.getProvincia())
+                .ciudad(course.getCiudad())
+                .cantidadHoyos(course.getCantidadHoyos())
+                .courseRating(course.getCourseRating())
+                .slopeRating(course.getSlopeRating())
+                .build();
+    }
+
     private CourseTeeDTO convertTeeToDTO(CourseTee tee) {
         return CourseTeeDTO.builder()
                 .id(tee.getId())
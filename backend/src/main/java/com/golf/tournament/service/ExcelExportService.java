@@ -6,6 +6,7 @@ import com.golf.tournament.dto.leaderboard.TournamentScoreDTO;
 import com.golf.tournament.dto.tournament.TournamentCategoryDTO;
 import com.golf.tournament.dto.tournament.TournamentDTO;
 import com.golf.tournament.dto.tournamentadmin.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
@@ -38,6 +39,7 @@ public class ExcelExportService {
 
     // ─── Export 1: Inscriptos a un torneo (fecha) ─────────────────────────────
 
+    @Timed(value = "golf.export.excel", extraTags = {"type", "tournament_inscriptions"}, histogram = true)
     public byte[] exportTournamentInscriptions(Long tournamentId) {
         TournamentDTO tournament = tournamentService.getTournamentById(tournamentId);
         List<InscriptionResponse> inscriptions = inscriptionService.getTournamentInscriptions(tournamentId);
@@ -83,6 +85,7 @@ public class ExcelExportService {
 
     // ─── Export 2: Inscriptos a un Torneo Administrativo ──────────────────────
 
+    @Timed(value = "golf.export.excel", extraTags = {"type", "admin_inscriptions"}, histogram = true)
     public byte[] exportAdminInscriptions(Long tournamentAdminId) {
         TournamentAdminDetailDTO detail = tournamentAdminService.getDetail(tournamentAdminId);
 
@@ -112,6 +115,7 @@ public class ExcelExportService {
 
     // ─── Export 3: Resultados de un torneo (fecha) ────────────────────────────
 
+    @Timed(value = "golf.export.excel", extraTags = {"type", "tournament_results"}, histogram = true)
     public byte[] exportTournamentResults(Long tournamentId) {
         TournamentDTO tournament = tournamentService.getTournamentById(tournamentId);
         List<LeaderboardEntryDTO> leaderboard = leaderboardService.getLeaderboard(tournamentId, null);
@@ -231,6 +235,7 @@ public class ExcelExportService {
 
     // ─── Export 4: Resultados de una etapa ───────────────────────────────────
 
+    @Timed(value = "golf.export.excel", extraTags = {"type", "stage_board"}, histogram = true)
     public byte[] exportStageBoard(Long tournamentAdminId, Long stageId) {
         TournamentAdminStageBoardDTO board = stageService.getStageBoard(tournamentAdminId, stageId);
 
@@ -258,6 +263,7 @@ public class ExcelExportService {
 
     // ─── Export 5: Resultados de playoff ─────────────────────────────────────
 
+    @Timed(value = "golf.export.excel", extraTags = {"type", "playoff_results"}, histogram = true)
     public byte[] exportPlayoffResults(Long tournamentAdminId) {
         TournamentAdminPlayoffResultsDTO results = playoffResultService.getResults(tournamentAdminId);
 
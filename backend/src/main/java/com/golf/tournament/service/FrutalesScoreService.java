@@ -1,5 +1,7 @@
 package com.golf.tournament.service;
 
+import com.golf.tournament.config.Coalesced;
+import com.golf.tournament.config.RequestCoalescer;
 import com.golf.tournament.dto.leaderboard.TournamentScoreDTO;
 import com.golf.tournament.dto.tournamentadmin.ScoringConfigDTO;
 import com.golf.tournament.exception.ResourceNotFoundException;
@@ -9,6 +11,7 @@ import com.golf.tournament.repository.ScorecardRepository;
 import com.golf.tournament.repository.TournamentAdminRepository;
 import com.golf.tournament.repository.TournamentRepository;
 import com.golf.tournament.repository.TournamentScoreRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,6 +33,7 @@ public class FrutalesScoreService {
     private final TournamentScoreRepository tournamentScoreRepository;
     private final TournamentAdminScoringConfigService scoringConfigService;
 
+    @Timed(value = "golf.scores.calculate", extraTags = {"type", "FRUTALES"}, histogram = true)
     @Transactional
     public List<TournamentScoreDTO> calculateScores(Long tournamentId) {
         Tournament tournament = tournamentRepository.findById(tournamentId)
@@ -154,6 +158,7 @@ public class FrutalesScoreService {
         return getScores(tournamentId);
     }
 
+    @Coalesced(value = RequestCoalescer.SCORES, maxStalenessMs = 1000)
     @Transactional(readOnly = true)
     public List<TournamentScoreDTO> getScores(Long tournamentId) {
         tournamentRepository.findById(tournamentId)
@@ -1,5 +1,6 @@
 package com.golf.tournament.service;
 
+import com.golf.tournament.config.ReadFromPrimary;
 import com.golf.tournament.dto.inscription.InscriptionRequest;
 import com.golf.tournament.dto.inscription.InscriptionResponse;
 import com.golf.tournament.dto.player.PlayerDTO;
@@ -100,6 +101,10 @@ public class InscriptionService {
 
         inscription = inscriptionRepository.save(inscription);
         createScorecardAfterInscription(tournament, player);
+        // Con el torneo ya empezado no hay otra reasignación que le ponga categoría
+        if ("IN_PROGRESS".equals(tournament.getEstado())) {
+            inscriptionRepository.reassignCategoriesForPlayers(List.of(playerId));
+        }
 
         log.info("Jugador {} inscripto en el torneo {} por admin", playerId, tournamentId);
 
@@ -111,6 +116,8 @@ public class InscriptionService {
                 .build();
     }
 
+    /** Lee del primario: la UI lo vuelve a pedir apenas se edita o borra una inscripción. */
+    @ReadFromPrimary
     @Transactional(readOnly = true)
     public List<InscriptionResponse> getTournamentInscriptions(Long tournamentId) {
         return inscriptionRepository.findByTournamentId(tournamentId).stream()
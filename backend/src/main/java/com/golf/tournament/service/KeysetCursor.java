@@ -0,0 +1,70 @@
+package com.golf.tournament.service;
+
+import com.golf.tournament.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Codifica/decodifica los cursores opacos de la paginación por keyset.
+ * Cada cursor es la tupla de la clave de orden de la última fila devuelta (p.ej. apellido, nombre, id),
+ * con cada componente en base64url y separados por '.'.
+ */
+final class KeysetCursor {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private KeysetCursor() {
+    }
+
+    static String encode(Object... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                sb.append('.');
+            }
+            sb.append(ENCODER.encodeToString(String.valueOf(parts[i]).getBytes(StandardCharsets.UTF_8)));
+        }
+        return sb.toString();
+    }
+
+    static List<String> decode(String cursor, int expectedParts) {
+        String[] tokens = cursor.split("\\.", -1);
+        if (tokens.length != expectedParts) {
+            throw new BadRequestException("Cursor de paginación inválido");
+        }
+        List<String> parts = new ArrayList<>(expectedParts);
+        try {
+            for (String token : tokens) {
+                parts.add(new String(DECODER.decode(token), StandardCharsets.UTF_8));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor de paginación inválido");
+        }
+        return parts;
+    }
+
+    static Long decodeId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Cursor de paginación inválido");
+        }
+    }
+
+    static int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+}
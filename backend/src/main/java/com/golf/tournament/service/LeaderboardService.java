@@ -1,9 +1,14 @@
 package com.golf.tournament.service;
 
+import com.golf.tournament.config.Coalesced;
+import com.golf.tournament.config.RequestCoalescer;
+import com.golf.tournament.dto.common.PaymentUpdateResultDTO;
 import com.golf.tournament.dto.leaderboard.LeaderboardEntryDTO;
+import com.golf.tournament.dto.leaderboard.UpdatePaymentRequest;
 import com.golf.tournament.exception.ResourceNotFoundException;
 import com.golf.tournament.model.*;
 import com.golf.tournament.repository.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,81 +18,27 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LeaderboardService {
-    private static final String CATEGORY_SEX_MALE = "M";
-    private static final String CATEGORY_SEX_FEMALE = "F";
-    private static final String CATEGORY_SEX_MIXED = "X";
-
     private final TournamentRepository tournamentRepository;
     private final ScorecardRepository scorecardRepository;
     private final HoleScoreRepository holeScoreRepository;
     private final TournamentInscriptionRepository inscriptionRepository;
-    private final TournamentCategoryRepository categoryRepository;
-
-    private TournamentCategory determineCategory(BigDecimal handicapIndex,
-                                                 String playerSex,
-                                                 List<TournamentCategory> categories) {
-        if (handicapIndex == null || categories == null || categories.isEmpty()) {
-            return null;
-        }
-
-        String normalizedPlayerSex = normalizePlayerSex(playerSex);
-        for (TournamentCategory category : categories) {
-            if (!categoryAppliesToPlayerSex(category, normalizedPlayerSex)) {
-                continue;
-            }
-            if (handicapIndex.compareTo(category.getHandicapMin()) >= 0 &&
-                handicapIndex.compareTo(category.getHandicapMax()) <= 0) {
-                return category;
-            }
-        }
-
-        return null;
-    }
-
-    private String normalizePlayerSex(String playerSex) {
-        if (playerSex == null || playerSex.trim().isBlank()) {
-            return CATEGORY_SEX_MIXED;
-        }
-        String normalized = playerSex.trim().toUpperCase();
-        if (CATEGORY_SEX_MALE.equals(normalized) || CATEGORY_SEX_FEMALE.equals(normalized)) {
-            return normalized;
-        }
-        return CATEGORY_SEX_MIXED;
-    }
-
-    private String normalizeCategorySex(String categorySex) {
-        if (categorySex == null || categorySex.trim().isBlank()) {
-            return CATEGORY_SEX_MIXED;
-        }
-        String normalized = categorySex.trim().toUpperCase();
-        if (CATEGORY_SEX_MALE.equals(normalized)
-                || CATEGORY_SEX_FEMALE.equals(normalized)
-                || CATEGORY_SEX_MIXED.equals(normalized)) {
-            return normalized;
-        }
-        return CATEGORY_SEX_MIXED;
-    }
-
-    private boolean categoryAppliesToPlayerSex(TournamentCategory category, String playerSex) {
-        String categorySex = normalizeCategorySex(category.getSexoCategoria());
-        if (CATEGORY_SEX_MIXED.equals(categorySex)) {
-            return true;
-        }
-        return categorySex.equals(playerSex);
-    }
+    private final CategoryIndexCache categoryIndexCache;
 
+    @Timed(value = "golf.leaderboard.get", histogram = true)
+    @Coalesced(value = RequestCoalescer.LEADERBOARD, maxStalenessMs = 1000)
     @Transactional(readOnly = true)
     public List<LeaderboardEntryDTO> getLeaderboard(Long tournamentId, Long categoryId) {
         if (!tournamentRepository.existsById(tournamentId)) {
             throw new ResourceNotFoundException("Tournament", "id", tournamentId);
         }
 
-        List<TournamentCategory> allCategories = categoryRepository.findByTournamentId(tournamentId);
+        CategoryIndex categoryIndex = categoryIndexCache.forTournament(tournamentId);
         List<TournamentInscription> inscriptions = inscriptionRepository.findByTournamentId(tournamentId);
 
         List<LeaderboardEntryDTO> entriesWithScores = new ArrayList<>();
@@ -117,10 +68,9 @@ public class LeaderboardService {
                 BigDecimal scoreNeto = BigDecimal.valueOf(totalScore).subtract(handicapCourse);
                 BigDecimal scoreToPar = scoreNeto.subtract(BigDecimal.valueOf(totalPar));
 
-                TournamentCategory calculatedCategory = determineCategory(
+                TournamentCategory calculatedCategory = categoryIndex.resolve(
                         player.getHandicapIndex(),
-                        player.getSexo(),
-                        allCategories
+                        player.getSexo()
                 );
                 Long calculatedCategoryId = calculatedCategory != null ? calculatedCategory.getId() : null;
                 String calculatedCategoryName = calculatedCategory != null ? calculatedCategory.getNombre() : null;
@@ -190,25 +140,25 @@ public class LeaderboardService {
         return getLeaderboard(tournamentId, null);
     }
 
+    /**
+     * Marca pagadas o impagas varias inscripciones del torneo. Valida todas con una consulta y
+     * escribe solo las que cambian; si alguna no existe o es de otro torneo no se aplica nada.
+     */
     @Transactional
-    public void updatePayments(Long tournamentId, List<Long> inscriptionIds, List<Boolean> pagadoValues) {
-        if (inscriptionIds.size() != pagadoValues.size()) {
-            throw new IllegalArgumentException("Las listas de inscriptionIds y pagadoValues deben tener el mismo tamaño");
+    public PaymentUpdateResultDTO updatePayments(Long tournamentId, List<UpdatePaymentRequest.PaymentUpdate> payments) {
+        PaymentBatch batch = PaymentBatch.of(payments,
+                UpdatePaymentRequest.PaymentUpdate::getInscriptionId, UpdatePaymentRequest.PaymentUpdate::getPagado);
+        if (batch.isEmpty()) {
+            return batch.apply(Map.of(), (pagado, ids) -> { });
         }
 
-        for (int i = 0; i < inscriptionIds.size(); i++) {
-            Long inscriptionId = inscriptionIds.get(i);
-            Boolean pagado = pagadoValues.get(i);
-
-            TournamentInscription inscription = inscriptionRepository.findById(inscriptionId)
-                    .orElseThrow(() -> new ResourceNotFoundException("TournamentInscription", "id", inscriptionId));
+        Map<Long, Boolean> current = batch.checkOwnership(
+                inscriptionRepository.findPaymentStateByIds(batch.ids()), tournamentId, "TournamentInscription",
+                foreign -> "Las inscripciones " + foreign + " no pertenecen al torneo " + tournamentId);
+        PaymentUpdateResultDTO result = batch.apply(current,
+                (pagado, ids) -> inscriptionRepository.updatePagado(ids, pagado));
 
-            if (!inscription.getTournament().getId().equals(tournamentId)) {
-                throw new IllegalArgumentException("La inscripción " + inscriptionId + " no pertenece al torneo " + tournamentId);
-            }
-
-            inscription.setPagado(pagado);
-            inscriptionRepository.save(inscription);
-        }
+        log.info("Pagos del torneo {}: {} cambiados, {} sin cambios", tournamentId, result.getUpdated(), result.getUnchanged());
+        return result;
     }
 }
@@ -0,0 +1,108 @@
+package com.golf.tournament.service;
+
+import com.golf.tournament.dto.common.PaymentUpdateResultDTO;
+import com.golf.tournament.exception.BadRequestException;
+import com.golf.tournament.exception.ResourceNotFoundException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Lote de cambios de pagado pedidos desde las pantallas de tesorería. Se valida contra el estado
+ * guardado de todos los ids en una sola consulta y se escribe con un UPDATE por valor, solo sobre
+ * los ids que cambian. Un id repetido en el pedido queda con el último valor.
+ */
+final class PaymentBatch {
+
+    private final Map<Long, Boolean> requested;
+
+    private PaymentBatch(Map<Long, Boolean> requested) {
+        this.requested = requested;
+    }
+
+    static <T> PaymentBatch of(List<T> updates, Function<T, Long> id, Function<T, Boolean> pagado) {
+        Map<Long, Boolean> requested = new LinkedHashMap<>();
+        if (updates != null) {
+            for (T update : updates) {
+                Long key = id.apply(update);
+                Boolean value = pagado.apply(update);
+                if (key == null || value == null) {
+                    throw new BadRequestException("Cada pago debe indicar el id y si está pagado");
+                }
+                requested.put(key, value);
+            }
+        }
+        return new PaymentBatch(requested);
+    }
+
+    boolean isEmpty() {
+        return requested.isEmpty();
+    }
+
+    Collection<Long> ids() {
+        return requested.keySet();
+    }
+
+    /**
+     * Recibe las filas [id, dueño, pagado] de los ids pedidos y devuelve el pagado guardado de cada
+     * uno. Falla si falta alguno o si alguno no es de {@code ownerId}.
+     */
+    Map<Long, Boolean> checkOwnership(List<Object[]> rows, Long ownerId, String resourceName,
+                                      Function<List<Long>, String> foreignMessage) {
+        Map<Long, Boolean> current = new HashMap<>();
+        List<Long> foreign = new ArrayList<>();
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            if (ownerId.equals(row[1])) {
+                current.put(id, (Boolean) row[2]);
+            } else {
+                foreign.add(id);
+            }
+        }
+        List<Long> missing = requested.keySet().stream()
+                .filter(id -> !current.containsKey(id) && !foreign.contains(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException(resourceName, "id", missing.size() == 1 ? missing.get(0) : missing);
+        }
+        if (!foreign.isEmpty()) {
+            throw new BadRequestException(foreignMessage.apply(foreign));
+        }
+        return current;
+    }
+
+    /**
+     * Escribe con {@code update(valor, ids)} los ids cuyo pagado difiere de {@code current}: como
+     * mucho dos sentencias, una para los que pasan a pagado y otra para los que vuelven a impago.
+     */
+    PaymentUpdateResultDTO apply(Map<Long, Boolean> current, BiConsumer<Boolean, List<Long>> update) {
+        List<Long> toPaid = new ArrayList<>();
+        List<Long> toUnpaid = new ArrayList<>();
+        List<PaymentUpdateResultDTO.Item> results = new ArrayList<>(requested.size());
+        requested.forEach((id, pagado) -> {
+            boolean changed = !pagado.equals(current.get(id));
+            if (changed) {
+                (pagado ? toPaid : toUnpaid).add(id);
+            }
+            results.add(new PaymentUpdateResultDTO.Item(id, pagado, changed));
+        });
+        if (!toPaid.isEmpty()) {
+            update.accept(true, toPaid);
+        }
+        if (!toUnpaid.isEmpty()) {
+            update.accept(false, toUnpaid);
+        }
+        int updated = toPaid.size() + toUnpaid.size();
+        return PaymentUpdateResultDTO.builder()
+                .updated(updated)
+                .unchanged(results.size() - updated)
+                .results(results)
+                .build();
+    }
+}
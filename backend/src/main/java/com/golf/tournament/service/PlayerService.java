@@ -1,5 +1,7 @@
 package com.golf.tournament.service;
 
+import com.golf.tournament.config.CacheConfig;
+import com.golf.tournament.dto.common.CursorPageDTO;
 import com.golf.tournament.dto.player.BulkUpdateAltaItem;
 import com.golf.tournament.dto.player.BulkUpdateHandicapChangeItem;
 import com.golf.tournament.dto.player.BulkUpdateResponse;
@@ -10,10 +12,14 @@ import com.golf.tournament.exception.DuplicateResourceException;
 import com.golf.tournament.exception.ResourceNotFoundException;
 import com.golf.tournament.model.Player;
 import com.golf.tournament.repository.PlayerRepository;
+import com.golf.tournament.repository.TournamentInscriptionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -30,6 +36,7 @@ import java.util.stream.Collectors;
 public class PlayerService {
 
     private final PlayerRepository playerRepository;
+    private final TournamentInscriptionRepository inscriptionRepository;
 
     @Transactional(readOnly = true)
     public List<PlayerDTO> getAllPlayers() {
@@ -38,6 +45,44 @@ public class PlayerService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Listado paginado por keyset ordenado por (apellido, nombre, id). El costo de cada página
+     * no depende de la posición, a diferencia de OFFSET.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<PlayerDTO> getPlayersPage(String cursor, Integer size) {
+        int pageSize = KeysetCursor.resolvePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Player> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = playerRepository.findPageFirst(limit);
+        } else {
+            List<String> key = KeysetCursor.decode(cursor, 3);
+            rows = playerRepository.findPageAfter(key.get(0), key.get(1), KeysetCursor.decodeId(key.get(2)), limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Player> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Player last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getApellido(), last.getNombre(), last.getId());
+        }
+
+        return CursorPageDTO.<PlayerDTO>builder()
+                .items(page.stream().map(this::convertToDTO).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Cacheable(CacheConfig.PLAYER_COUNT)
+    @Transactional(readOnly = true)
+    public long countPlayers() {
+        return playerRepository.count();
+    }
+
     @Transactional(readOnly = true)
     public PlayerDTO getPlayerById(Long id) {
         Player player = playerRepository.findById(id)
@@ -60,6 +105,7 @@ public class PlayerService {
     }
 
     @Transactional
+    @CacheEvict(value = CacheConfig.PLAYER_COUNT, allEntries = true)
     public PlayerDTO createPlayer(CreatePlayerRequest request) {
         if (playerRepository.existsByMatricula(request.getMatricula())) {
             throw new DuplicateResourceException("Player", "matricula", request.getMatricula());
@@ -92,6 +138,10 @@ public class PlayerService {
             throw new DuplicateResourceException("Player", "matricula", request.getMatricula());
         }
 
+        // Sexo y handicap definen la categoría en los torneos en que está inscripto
+        boolean categoryInputsChanged = !Objects.equals(player.getSexo(), request.getSexo())
+                || !sameHandicap(player.getHandicapIndex(), request.getHandicapIndex());
+
         player.setNombre(request.getNombre());
         player.setApellido(request.getApellido());
         player.setEmail(request.getEmail());
@@ -103,11 +153,15 @@ public class PlayerService {
         player.setClubOrigen(request.getClubOrigen());
 
         player = playerRepository.save(player);
+        if (categoryInputsChanged) {
+            inscriptionRepository.reassignCategoriesForPlayers(List.of(player.getId()));
+        }
         log.info("Player updated with id: {}", player.getId());
         return convertToDTO(player);
     }
 
     @Transactional
+    @CacheEvict(value = CacheConfig.PLAYER_COUNT, allEntries = true)
     public void deletePlayer(Long id) {
         if (!playerRepository.existsById(id)) {
             throw new ResourceNotFoundException("Player", "id", id);
@@ -117,6 +171,7 @@ public class PlayerService {
     }
 
     @Transactional
+    @CacheEvict(value = CacheConfig.PLAYER_COUNT, allEntries = true)
     public BulkUpdateResponse bulkUpdatePlayers(MultipartFile file) {
         BulkUpdateResponse response = BulkUpdateResponse.builder()
                 .actualizados(0)
@@ -130,6 +185,7 @@ public class PlayerService {
         List<String> matriculasNoProcesadas = new ArrayList<>();
         List<BulkUpdateAltaItem> altas = new ArrayList<>();
         List<BulkUpdateHandicapChangeItem> cambiosHandicapIndex = new ArrayList<>();
+        List<Long> jugadoresConCambioHandicap = new ArrayList<>();
 
         try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
             Sheet sheet = workbook.getSheetAt(0);
@@ -192,6 +248,7 @@ public class PlayerService {
                             BigDecimal handicapAnterior = player.getHandicapIndex();
                             player.setHandicapIndex(handicapIndex);
                             updated = true;
+                            jugadoresConCambioHandicap.add(player.getId());
                             cambiosHandicapIndex.add(BulkUpdateHandicapChangeItem.builder()
                                     .matricula(matricula)
                                     .nombre(nombre)
@@ -253,6 +310,12 @@ public class PlayerService {
                 }
             }
             
+            // Una sola pasada para las categorías de todos los que cambiaron de handicap
+            if (!jugadoresConCambioHandicap.isEmpty()) {
+                int recategorizadas = inscriptionRepository.reassignCategoriesForPlayers(jugadoresConCambioHandicap);
+                log.info("Categorías recalculadas por cambio de handicap: {} inscripción(es)", recategorizadas);
+            }
+
             response.setActualizados(actualizados);
             response.setCreados(creados);
             response.setMatriculasNoProcesadas(matriculasNoProcesadas);
@@ -267,6 +330,10 @@ public class PlayerService {
         return response;
     }
 
+    private static boolean sameHandicap(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+
     private Map<String, Integer> getColumnIndexMap(Row headerRow) {
         Map<String, Integer> map = new HashMap<>();
         for (Cell cell : headerRow) {
@@ -0,0 +1,174 @@
+package com.golf.tournament.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.golf.tournament.config.ReadFromPrimary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Respuestas de los leaderboards públicos ya serializadas y comprimidas con gzip, armadas una sola vez
+ * por versión de los resultados ({@link ScorecardEventService#leaderboardVersion}). Mientras la versión
+ * no cambie, servir un leaderboard no serializa ni comprime nada.
+ *
+ * Además del JSON se arma una variante Smile (JSON binario de Jackson) para la app en la cancha: los
+ * nombres de campo y los strings repetidos (club, categoría, estado) se escriben una vez y después como
+ * referencias de un byte, y los enteros van como varints. Ver {@code LeaderboardWireFormatBenchmark}.
+ *
+ * Cada variante tiene un ETag fuerte derivado del contenido, así un cliente que ya la tiene recibe un 304.
+ * {@code max-age} acota cuánto se sirve un payload si los resultados cambiaron sin evento (por ejemplo,
+ * datos del torneo editados por un administrador).
+ */
+@Slf4j
+@Service
+public class PublicLeaderboardPayloadService {
+
+    public enum View { GENERAL, FRUTALES, CLASIC }
+
+    public enum Format {
+        JSON("application/json"),
+        SMILE("application/x-jackson-smile");
+
+        private final String mediaType;
+
+        Format(String mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public String mediaType() {
+            return mediaType;
+        }
+    }
+
+    private final LeaderboardService leaderboardService;
+    private final FrutalesScoreService frutalesScoreService;
+    private final ClasicScoreService clasicScoreService;
+    private final ScorecardEventService scorecardEventService;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper smileMapper;
+    private final long maxAgeNanos;
+    private final Map<Key, Payload> payloads = new ConcurrentHashMap<>();
+
+    public PublicLeaderboardPayloadService(LeaderboardService leaderboardService,
+                                           FrutalesScoreService frutalesScoreService,
+                                           ClasicScoreService clasicScoreService,
+                                           ScorecardEventService scorecardEventService,
+                                           ObjectMapper objectMapper,
+                                           @Value("${leaderboard.public.payload-max-age:30s}") Duration maxAge) {
+        this.leaderboardService = leaderboardService;
+        this.frutalesScoreService = frutalesScoreService;
+        this.clasicScoreService = clasicScoreService;
+        this.scorecardEventService = scorecardEventService;
+        this.objectMapper = objectMapper;
+        this.smileMapper = smileMapper(objectMapper);
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    /** Lee del primario: el payload se guarda con la versión actual y no puede salir de datos anteriores. */
+    @ReadFromPrimary
+    public Payload getPayload(Long tournamentId, View view) {
+        Key key = new Key(tournamentId, view);
+        long version = scorecardEventService.leaderboardVersion(tournamentId);
+        Payload cached = payloads.get(key);
+        if (cached != null && cached.version() == version && System.nanoTime() - cached.builtAt() < maxAgeNanos) {
+            return cached;
+        }
+
+        Payload built = render(load(tournamentId, view), version);
+        // Si llegó un evento mientras se armaba, el payload ya nace viejo: se entrega pero no se guarda.
+        if (scorecardEventService.leaderboardVersion(tournamentId) == version) {
+            payloads.put(key, built);
+        }
+        return built;
+    }
+
+    /** Descarta los payloads vencidos, para no retener los de torneos que ya nadie consulta. */
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        payloads.values().removeIf(payload -> now - payload.builtAt() >= maxAgeNanos);
+    }
+
+    private Object load(Long tournamentId, View view) {
+        return switch (view) {
+            case GENERAL -> leaderboardService.getLeaderboard(tournamentId, null);
+            case FRUTALES -> frutalesScoreService.getScores(tournamentId);
+            case CLASIC -> clasicScoreService.getScores(tournamentId);
+        };
+    }
+
+    /**
+     * Mapper Smile con la misma configuración (módulos, fechas) que el de JSON. Los valores String
+     * repetidos solo se comparten si se habilita explícitamente.
+     */
+    public static ObjectMapper smileMapper(ObjectMapper jsonMapper) {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return jsonMapper.copyWith(factory);
+    }
+
+    private Payload render(Object body, long version) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] smile = smileMapper.writeValueAsBytes(body);
+            String hash = contentHash(json);
+            return new Payload(variant(json, hash), variant(smile, hash + "-smile"), version, System.nanoTime());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el leaderboard público", e);
+        }
+    }
+
+    private static Variant variant(byte[] body, String tag) {
+        return new Variant(body, gzip(body), "\"" + tag + "\"", "\"" + tag + "-gz\"");
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String contentHash(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Key(Long tournamentId, View view) {
+    }
+
+    /** Un leaderboard en cada formato. */
+    public record Payload(Variant json, Variant smile, long version, long builtAt) {
+
+        public Variant variant(Format format) {
+            return format == Format.SMILE ? smile : json;
+        }
+    }
+
+    /** Cuerpo sin comprimir y en gzip, cada uno con su ETag fuerte. */
+    public record Variant(byte[] identity, byte[] gzip, String etag, String gzipEtag) {
+    }
+}
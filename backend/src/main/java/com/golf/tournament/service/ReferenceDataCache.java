@@ -0,0 +1,28 @@
+package com.golf.tournament.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Vacía el cache de segundo nivel de Hibernate de este nodo. Lo invoca {@link ScorecardEventBus} al
+ * recibir el aviso de que otro nodo (o este) modificó datos de referencia: dentro de un mismo nodo
+ * Hibernate mantiene el cache al día solo, pero no se entera de lo que cambia en los demás.
+ * También descarta los {@link CategoryIndex} armados, que ni dentro del nodo se actualizan solos.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CategoryIndexCache categoryIndexCache;
+
+    public void evictLocal() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        categoryIndexCache.evictAll();
+        log.debug("Cache de segundo nivel vaciado por cambio en datos de referencia");
+    }
+}
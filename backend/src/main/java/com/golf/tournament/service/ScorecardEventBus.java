@@ -0,0 +1,321 @@
+package com.golf.tournament.service;
+
+import com.golf.tournament.config.DedicatedConnectionFactory;
+import com.golf.tournament.dto.scorecard.HoleScoreDTO;
+import com.golf.tournament.dto.scorecard.ScorecardEventDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bus de eventos de tarjetas y leaderboard entre réplicas, sobre LISTEN/NOTIFY de Postgres.
+ *
+ * Publicación: los eventos se encolan después del commit y un flusher los agrupa (deduplicados)
+ * en pocos {@code pg_notify} por intervalo, respetando el límite de 8000 bytes por payload.
+ * Cada evento es un token {@code <tipo><id>}; el de concordancia lleva además su número y las filas
+ * de hoyos que cambiaron ({@link #encodeConcordancia}).
+ * Recepción: cada nodo mantiene una conexión dedicada con {@code LISTEN} y despacha a sus emitters
+ * locales vía {@link ScorecardEventService}; el propio nodo que publica recibe su notificación por
+ * la misma vía. Esperar notificaciones solo lee del socket, así que una conexión medio abierta (NAT o
+ * balanceador que la descartó, failover) no daría error nunca: cada {@code heartbeat-interval-ms} se
+ * hace un {@code SELECT 1} con timeout. Si la conexión se cae o el heartbeat falla se reconecta con
+ * backoff y, al volver, pide a todos los clientes locales que refresquen porque pudo haber
+ * notificaciones perdidas.
+ *
+ * Además del SSE, transporta el aviso de cambios en datos de referencia para que cada nodo vacíe
+ * su cache de segundo nivel de Hibernate ({@link ReferenceDataCache}).
+ *
+ * Si el bus está deshabilitado, la base no es Postgres o el NOTIFY falla, los eventos se
+ * entregan directamente a los emitters locales (comportamiento de un solo nodo).
+ */
+@Slf4j
+@Service
+public class ScorecardEventBus {
+
+    static final String CHANNEL = "golf_events";
+
+    private static final char CONCORDANCIA = 'c';
+    private static final char LEADERBOARD = 'l';
+    private static final char REFERENCE_DATA = 'r';
+    private static final int MAX_PAYLOAD_BYTES = 7_900;
+    private static final long MAX_RECONNECT_BACKOFF_MS = 30_000;
+
+    private final ScorecardEventService scorecardEventService;
+    private final ReferenceDataCache referenceDataCache;
+    private final DedicatedConnectionFactory connectionFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long flushIntervalMs;
+    private final long heartbeatIntervalMs;
+
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    private ScheduledExecutorService flusher;
+    private Thread listenerThread;
+    private volatile boolean running;
+
+    public ScorecardEventBus(ScorecardEventService scorecardEventService,
+                             ReferenceDataCache referenceDataCache,
+                             DedicatedConnectionFactory connectionFactory,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${events.bus.enabled:true}") boolean enabled,
+                             @Value("${events.bus.flush-interval-ms:100}") long flushIntervalMs,
+                             @Value("${events.bus.heartbeat-interval-ms:15000}") long heartbeatIntervalMs) {
+        this.scorecardEventService = scorecardEventService;
+        this.referenceDataCache = referenceDataCache;
+        this.connectionFactory = connectionFactory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled && connectionFactory.isPostgres();
+        this.flushIntervalMs = flushIntervalMs;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            log.info("Bus de eventos entre nodos deshabilitado: los eventos SSE se entregan solo localmente");
+            return;
+        }
+        running = true;
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "event-bus-flush"));
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        listenerThread = new Thread(this::listenLoop, "event-bus-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.shutdown();
+            flush();
+        }
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    /** Publica que cambió la concordancia de la tarjeta. Se envía después del commit de la transacción actual. */
+    public void publishConcordanciaActualizada(ScorecardEventDTO event) {
+        publishAfterCommit(CONCORDANCIA, encodeConcordancia(event));
+    }
+
+    /** Publica que cambió el leaderboard del torneo. Se envía después del commit de la transacción actual. */
+    public void publishLeaderboardActualizado(Long tournamentId) {
+        if (tournamentId == null) return;
+        publishAfterCommit(LEADERBOARD, tournamentId.toString());
+    }
+
+    /**
+     * Publica que cambiaron datos de referencia (canchas, tees, hoyos, categorías): cada nodo vacía su
+     * cache de segundo nivel. Se envía después del commit de la transacción actual.
+     */
+    public void publishReferenceDataChanged() {
+        publishAfterCommit(REFERENCE_DATA, "0");
+    }
+
+    private void publishAfterCommit(char type, String body) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(type, body);
+                }
+            });
+        } else {
+            enqueue(type, body);
+        }
+    }
+
+    private void enqueue(char type, String body) {
+        if (!enabled) {
+            dispatch(type, body);
+            return;
+        }
+        pending.add(type + body);
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) return;
+        Set<String> tokens = new LinkedHashSet<>();
+        String token;
+        while ((token = pending.poll()) != null) {
+            tokens.add(token);
+        }
+        for (String payload : toPayloads(tokens)) {
+            try {
+                jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> { }, CHANNEL, payload);
+            } catch (Exception e) {
+                log.warn("NOTIFY falló ({}), entregando eventos solo localmente", e.getMessage());
+                dispatchPayload(payload);
+            }
+        }
+    }
+
+    private static List<String> toPayloads(Set<String> tokens) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        for (String token : tokens) {
+            // los tokens son ASCII: largo en caracteres = largo en bytes
+            if (sb.length() > 0 && sb.length() + 1 + token.length() > MAX_PAYLOAD_BYTES) {
+                payloads.add(sb.toString());
+                sb.setLength(0);
+            }
+            if (sb.length() > 0) sb.append(',');
+            sb.append(token);
+        }
+        if (sb.length() > 0) payloads.add(sb.toString());
+        return payloads;
+    }
+
+    private void listenLoop() {
+        long backoffMs = 1_000;
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = connectionFactory.open(Duration.ofMillis(heartbeatIntervalMs))) {
+                try (Statement st = connection.createStatement()) {
+                    st.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Bus de eventos escuchando el canal '{}'", CHANNEL);
+                if (reconnecting) {
+                    referenceDataCache.evictLocal();
+                    scorecardEventService.notifyAllRefresh();
+                }
+                backoffMs = 1_000;
+                reconnecting = true;
+
+                long lastRoundTrip = System.nanoTime();
+                while (running) {
+                    if (System.nanoTime() - lastRoundTrip >= TimeUnit.MILLISECONDS.toNanos(heartbeatIntervalMs)) {
+                        try (Statement st = connection.createStatement()) {
+                            st.execute("SELECT 1");
+                        }
+                        lastRoundTrip = System.nanoTime();
+                    }
+                    PGNotification[] notifications = pgConnection.getNotifications(500);
+                    if (notifications == null) continue;
+                    for (PGNotification notification : notifications) {
+                        dispatchPayload(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) return;
+                log.warn("Listener del bus de eventos desconectado ({}), reintentando en {} ms",
+                        e.getMessage(), backoffMs);
+                reconnecting = true;
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_RECONNECT_BACKOFF_MS);
+            }
+        }
+    }
+
+    private void dispatchPayload(String payload) {
+        if (payload == null || payload.isEmpty()) return;
+        for (String token : payload.split(",")) {
+            if (token.length() < 2) continue;
+            dispatch(token.charAt(0), token.substring(1));
+        }
+    }
+
+    private void dispatch(char type, String body) {
+        ScorecardEventDTO concordancia;
+        Long id;
+        try {
+            concordancia = type == CONCORDANCIA ? decodeConcordancia(body) : null;
+            id = type == CONCORDANCIA ? null : Long.parseLong(body);
+        } catch (RuntimeException e) {
+            log.warn("Evento del bus inválido: '{}{}'", type, body);
+            return;
+        }
+        try {
+            if (type == CONCORDANCIA) {
+                scorecardEventService.notifyConcordanciaActualizada(concordancia);
+            } else if (type == LEADERBOARD) {
+                scorecardEventService.notifyLeaderboardActualizado(id);
+            } else if (type == REFERENCE_DATA) {
+                referenceDataCache.evictLocal();
+            }
+        } catch (Exception e) {
+            log.warn("Error entregando evento {}{} a los emitters locales: {}", type, body, e.getMessage());
+        }
+    }
+
+    /**
+     * {@code <scorecardId>:<seq>:<marcadorValidado>:<fila>;<fila>...}, con cada fila como
+     * {@code <holeId>/<golpesPropio>/<golpesMarcador>/<validado>/<estadoConcordancia>}. Los null van
+     * vacíos y los booleanos como 0/1. Sin comas: la coma separa tokens en el payload del NOTIFY.
+     */
+    static String encodeConcordancia(ScorecardEventDTO event) {
+        StringBuilder sb = new StringBuilder()
+                .append(event.getScorecardId()).append(':')
+                .append(event.getSeq()).append(':')
+                .append(flag(event.getMarcadorValidado())).append(':');
+        for (HoleScoreDTO fila : event.getHoleScores()) {
+            if (sb.charAt(sb.length() - 1) != ':') sb.append(';');
+            sb.append(fila.getHoleId()).append('/')
+                    .append(nullToEmpty(fila.getGolpesPropio())).append('/')
+                    .append(nullToEmpty(fila.getGolpesMarcador())).append('/')
+                    .append(flag(fila.getValidado())).append('/')
+                    .append(fila.getEstadoConcordancia());
+        }
+        return sb.toString();
+    }
+
+    static ScorecardEventDTO decodeConcordancia(String body) {
+        String[] parts = body.split(":", -1);
+        List<HoleScoreDTO> filas = new ArrayList<>();
+        if (!parts[3].isEmpty()) {
+            for (String fila : parts[3].split(";")) {
+                String[] campos = fila.split("/", -1);
+                filas.add(HoleScoreDTO.builder()
+                        .holeId(Long.parseLong(campos[0]))
+                        .golpesPropio(campos[1].isEmpty() ? null : Integer.valueOf(campos[1]))
+                        .golpesMarcador(campos[2].isEmpty() ? null : Integer.valueOf(campos[2]))
+                        .validado("1".equals(campos[3]))
+                        .estadoConcordancia(campos[4])
+                        .build());
+            }
+        }
+        return ScorecardEventDTO.builder()
+                .scorecardId(Long.parseLong(parts[0]))
+                .seq(Long.parseLong(parts[1]))
+                .marcadorValidado("1".equals(parts[2]))
+                .holeScores(filas)
+                .build();
+    }
+
+    private static char flag(Boolean value) {
+        return Boolean.TRUE.equals(value) ? '1' : '0';
+    }
+
+    private static String nullToEmpty(Integer value) {
+        return value != null ? value.toString() : "";
+    }
+}
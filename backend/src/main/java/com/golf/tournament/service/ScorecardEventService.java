@@ -1,76 +1,281 @@
 package com.golf.tournament.service;
 
+import com.golf.tournament.config.RequestCoalescer;
+import com.golf.tournament.config.WebSocketConfig;
+import com.golf.tournament.dto.scorecard.ScorecardEventDTO;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
+/**
+ * Emitters SSE conectados a este nodo. Los eventos llegan desde {@link ScorecardEventBus},
+ * que los distribuye entre réplicas; este servicio solo entrega a las conexiones locales.
+ *
+ * Los eventos de tarjeta llevan id (el número del evento en la tarjeta) y cada nodo guarda los últimos
+ * de cada tarjeta, reciba o no suscriptores, porque el bus los entrega a todos. Un cliente que reconecta
+ * con {@code Last-Event-ID} recibe los que se perdió; si no se puede asegurar que estén todos
+ * (nodo reiniciado, buffer rotado, bus reconectado), recibe {@code refresh} y vuelve a pedir la tarjeta.
+ *
+ * Los eventos de tarjeta también se publican en {@code /topic/scorecards/{id}} para los clientes del
+ * canal WebSocket ({@link com.golf.tournament.config.WebSocketConfig}).
+ */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class ScorecardEventService {
 
+    public static final String CONCORDANCIA_EVENT = "concordanciaActualizada";
+    public static final String REFRESH_EVENT = "refresh";
+
+    private final RequestCoalescer requestCoalescer;
+    private final SimpMessageSendingOperations stompMessaging;
+
     private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, List<SseEmitter>> leaderboardEmitters = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> leaderboardVersions = new ConcurrentHashMap<>();
+    private final Map<Long, ReplayBuffer> replayBuffers = new ConcurrentHashMap<>();
 
-    public SseEmitter subscribe(Long scorecardId) {
-        SseEmitter emitter = new SseEmitter(0L); // sin timeout: la conexión dura mientras el cliente esté abierto
-        List<SseEmitter> list = emitters.computeIfAbsent(scorecardId, k -> new CopyOnWriteArrayList<>());
-        list.add(emitter);
+    @Value("${events.replay.capacity:64}")
+    private int replayCapacity;
 
-        emitter.onCompletion(() -> remove(scorecardId, emitter));
-        emitter.onTimeout(() -> remove(scorecardId, emitter));
-        emitter.onError(e -> remove(scorecardId, emitter));
+    @Value("${events.replay.idle-ttl:6h}")
+    private Duration replayIdleTtl;
 
-        log.debug("SSE suscripto para scorecard {}, total emitters: {}", scorecardId, list.size());
+    /**
+     * Suscribe a los eventos de la tarjeta. Con {@code lastEventId} (header Last-Event-ID al reconectar,
+     * o el eventSeq de la última lectura de la tarjeta) primero se envían los eventos posteriores.
+     */
+    public SseEmitter subscribe(Long scorecardId, Long lastEventId) {
+        // Se registra antes de repetir: un evento que llegue en el medio puede repetirse, pero no perderse.
+        SseEmitter emitter = register(emitters, scorecardId, "scorecard");
+        if (lastEventId != null) {
+            List<ScorecardEventDTO> missed = eventsSince(scorecardId, lastEventId);
+            if (missed == null) {
+                send(emitters.get(scorecardId), emitter, ScorecardEventService::refreshEvent);
+            } else {
+                missed.forEach(event -> send(emitters.get(scorecardId), emitter, () -> concordanciaEvent(event)));
+            }
+        }
         return emitter;
     }
 
-    public void notifyConcordanciaActualizada(Long scorecardId) {
+    public SseEmitter subscribeLeaderboard(Long tournamentId) {
+        return register(leaderboardEmitters, tournamentId, "leaderboard");
+    }
+
+    /**
+     * Eventos de la tarjeta posteriores a {@code lastSeq} que guarda este nodo, o {@code null} si no
+     * alcanzan para cubrir el hueco y el cliente tiene que volver a pedir la tarjeta.
+     */
+    public List<ScorecardEventDTO> eventsSince(Long scorecardId, long lastSeq) {
+        ReplayBuffer buffer = replayBuffers.get(scorecardId);
+        return buffer != null ? buffer.since(lastSeq) : null;
+    }
+
+    public void notifyConcordanciaActualizada(ScorecardEventDTO event) {
+        Long scorecardId = event.getScorecardId();
+        replayBuffers.computeIfAbsent(scorecardId, id -> new ReplayBuffer(replayCapacity)).add(event);
+        stompMessaging.convertAndSend(topic(scorecardId), event, stompHeaders(CONCORDANCIA_EVENT));
+
         List<SseEmitter> list = emitters.get(scorecardId);
         if (list == null || list.isEmpty()) return;
 
+        send(list, () -> concordanciaEvent(event));
+        log.debug("SSE evento {} enviado a scorecard {}, emitters activos: {}", event.getSeq(), scorecardId, list.size());
+    }
+
+    public void notifyLeaderboardActualizado(Long tournamentId) {
+        // Los clientes van a refrescar: que no reciban un resultado compartido calculado antes del cambio.
+        requestCoalescer.invalidate(RequestCoalescer.LEADERBOARD);
+        requestCoalescer.invalidate(RequestCoalescer.SCORES);
+        leaderboardVersions.computeIfAbsent(tournamentId, id -> new AtomicLong()).incrementAndGet();
+
+        List<SseEmitter> list = leaderboardEmitters.get(tournamentId);
+        if (list == null || list.isEmpty()) return;
+
+        send(list, () -> SseEmitter.event().name("leaderboardActualizado").data("refresh"));
+        log.debug("SSE evento enviado a leaderboard {}, emitters activos: {}", tournamentId, list.size());
+    }
+
+    /**
+     * Pide a todos los clientes locales que refresquen. Se usa cuando el bus pudo haber perdido
+     * notificaciones (por ejemplo, tras reconectar el listener).
+     */
+    public void notifyAllRefresh() {
+        leaderboardVersions.values().forEach(AtomicLong::incrementAndGet);
+        // Con eventos perdidos los buffers tienen huecos: a quien reconecte se le pide refrescar.
+        replayBuffers.clear();
+        emitters.values().forEach(list -> send(list, ScorecardEventService::refreshEvent));
+        stompMessaging.convertAndSend("/topic/scorecards", REFRESH_EVENT, stompHeaders(REFRESH_EVENT));
+        leaderboardEmitters.keySet().forEach(this::notifyLeaderboardActualizado);
+    }
+
+    /**
+     * Versión de los resultados del torneo en este nodo: cambia con cada evento de leaderboard recibido.
+     * Sirve para saber si algo derivado de los resultados (como los payloads públicos) quedó viejo.
+     */
+    public long leaderboardVersion(Long tournamentId) {
+        AtomicLong version = leaderboardVersions.get(tournamentId);
+        return version != null ? version.get() : 0L;
+    }
+
+    public int countScorecardEmitters() {
+        return count(emitters);
+    }
+
+    public int countLeaderboardEmitters() {
+        return count(leaderboardEmitters);
+    }
+
+    // Heartbeat cada 25s para evitar que proxies/load-balancers cierren conexiones idle.
+    // También detecta y limpia emitters muertos antes de intentar enviar un evento real.
+    // Corre en todos los nodos (no pasa por ClusterLockService): cada réplica mantiene sus propias conexiones.
+    @Scheduled(fixedDelay = 25_000)
+    public void sendHeartbeat() {
+        heartbeat(emitters);
+        heartbeat(leaderboardEmitters);
+    }
+
+    /** Descarta los buffers de tarjetas sin eventos en {@code events.replay.idle-ttl} (torneos terminados). */
+    @Scheduled(fixedDelay = 600_000)
+    public void purgeReplayBuffers() {
+        long cutoff = System.nanoTime() - replayIdleTtl.toNanos();
+        replayBuffers.values().removeIf(buffer -> buffer.lastAddedAt() - cutoff < 0);
+    }
+
+    private static SseEmitter.SseEventBuilder concordanciaEvent(ScorecardEventDTO event) {
+        return SseEmitter.event()
+                .id(event.getSeq().toString())
+                .name(CONCORDANCIA_EVENT)
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    private static SseEmitter.SseEventBuilder refreshEvent() {
+        return SseEmitter.event().name(REFRESH_EVENT).data(REFRESH_EVENT);
+    }
+
+    public static String topic(Long scorecardId) {
+        return "/topic/scorecards/" + scorecardId;
+    }
+
+    public static Map<String, Object> stompHeaders(String event) {
+        return Map.of(WebSocketConfig.EVENT_HEADER, event);
+    }
+
+    private SseEmitter register(Map<Long, List<SseEmitter>> registry, Long key, String kind) {
+        SseEmitter emitter = new SseEmitter(0L); // sin timeout: la conexión dura mientras el cliente esté abierto
+        List<SseEmitter> list = registry.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>());
+        list.add(emitter);
+
+        emitter.onCompletion(() -> remove(registry, key, emitter));
+        emitter.onTimeout(() -> remove(registry, key, emitter));
+        emitter.onError(e -> remove(registry, key, emitter));
+
+        log.debug("SSE suscripto para {} {}, total emitters: {}", kind, key, list.size());
+        return emitter;
+    }
+
+    private void heartbeat(Map<Long, List<SseEmitter>> registry) {
+        if (registry.isEmpty()) return;
+        registry.forEach((key, list) -> {
+            if (list.isEmpty()) return;
+            send(list, () -> SseEmitter.event().comment("heartbeat"));
+        });
+    }
+
+    // El builder no es reutilizable entre envíos: se arma uno por emitter.
+    private void send(List<SseEmitter> list, Supplier<SseEmitter.SseEventBuilder> event) {
         List<SseEmitter> dead = new CopyOnWriteArrayList<>();
         for (SseEmitter emitter : list) {
             try {
-                emitter.send(SseEmitter.event()
-                        .name("concordanciaActualizada")
-                        .data("refresh"));
+                emitter.send(event.get());
             } catch (IOException e) {
                 dead.add(emitter);
             }
         }
         list.removeAll(dead);
-        log.debug("SSE evento enviado a scorecard {}, emitters activos: {}", scorecardId, list.size());
     }
 
-    // Heartbeat cada 25s para evitar que proxies/load-balancers cierren conexiones idle.
-    // También detecta y limpia emitters muertos antes de intentar enviar un evento real.
-    @Scheduled(fixedDelay = 25_000)
-    public void sendHeartbeat() {
-        if (emitters.isEmpty()) return;
-        emitters.forEach((scorecardId, list) -> {
-            if (list.isEmpty()) return;
-            List<SseEmitter> dead = new CopyOnWriteArrayList<>();
-            for (SseEmitter emitter : list) {
-                try {
-                    emitter.send(SseEmitter.event().comment("heartbeat"));
-                } catch (IOException e) {
-                    dead.add(emitter);
-                }
-            }
-            list.removeAll(dead);
-        });
+    private void send(List<SseEmitter> list, SseEmitter emitter, Supplier<SseEmitter.SseEventBuilder> event) {
+        try {
+            emitter.send(event.get());
+        } catch (IOException e) {
+            if (list != null) list.remove(emitter);
+        }
     }
 
-    private void remove(Long scorecardId, SseEmitter emitter) {
-        List<SseEmitter> list = emitters.get(scorecardId);
+    private static int count(Map<Long, List<SseEmitter>> registry) {
+        return registry.values().stream().mapToInt(List::size).sum();
+    }
+
+    private void remove(Map<Long, List<SseEmitter>> registry, Long key, SseEmitter emitter) {
+        List<SseEmitter> list = registry.get(key);
         if (list != null) {
             list.remove(emitter);
         }
     }
+
+    /**
+     * Últimos eventos de una tarjeta, ordenados por número. Pueden llegar desordenados si dos nodos
+     * publican cambios de la misma tarjeta casi a la vez; al superar la capacidad se descartan los más viejos.
+     */
+    private static final class ReplayBuffer {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final NavigableMap<Long, ScorecardEventDTO> events = new TreeMap<>();
+        private final int capacity;
+        private volatile long lastAddedAt = System.nanoTime();
+
+        ReplayBuffer(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void add(ScorecardEventDTO event) {
+            lock.lock();
+            try {
+                events.put(event.getSeq(), event);
+                while (events.size() > capacity) {
+                    events.pollFirstEntry();
+                }
+                lastAddedAt = System.nanoTime();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /** Eventos posteriores a {@code lastSeq}, o {@code null} si el buffer ya no alcanza para cubrirlos. */
+        List<ScorecardEventDTO> since(long lastSeq) {
+            lock.lock();
+            try {
+                if (events.isEmpty() || lastSeq < events.firstKey() - 1) {
+                    return null;
+                }
+                return new ArrayList<>(events.tailMap(lastSeq, false).values());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long lastAddedAt() {
+            return lastAddedAt;
+        }
+    }
 }
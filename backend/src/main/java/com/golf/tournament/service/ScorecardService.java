@@ -1,7 +1,12 @@
 package com.golf.tournament.service;
 
+import com.golf.tournament.config.RetryOnConflict;
 import com.golf.tournament.dto.scorecard.HoleScoreDTO;
+import com.golf.tournament.dto.scorecard.HoleScoreEventDTO;
 import com.golf.tournament.dto.scorecard.ScorecardDTO;
+import com.golf.tournament.dto.scorecard.ScorecardEventDTO;
+import com.golf.tournament.dto.scorecard.ScorecardSyncRequest;
+import com.golf.tournament.dto.scorecard.ScorecardSyncResponse;
 import com.golf.tournament.dto.scorecard.UpdateScoreRequest;
 import com.golf.tournament.dto.scorecard.ConfigureScorecardRequest;
 import com.golf.tournament.exception.BadRequestException;
@@ -9,16 +14,29 @@ import com.golf.tournament.exception.ResourceNotFoundException;
 import com.golf.tournament.dto.scorecard.UpdateScorecardRequest.HoleScoreUpdate;
 import com.golf.tournament.model.*;
 import com.golf.tournament.repository.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.math.BigDecimal;
@@ -30,9 +48,11 @@ public class ScorecardService {
     private static final String IN_PROGRESS_EXISTS = "IN_PROGRESS_EXISTS";
     private static final String CONTINUE_EXISTING = "CONTINUE_EXISTING";
     private static final String START_NEW = "START_NEW";
-    private static final String CATEGORY_SEX_MALE = "M";
-    private static final String CATEGORY_SEX_FEMALE = "F";
-    private static final String CATEGORY_SEX_MIXED = "X";
+    private static final String ESTADO_NONE = "NONE";
+    private static final String TIPO_PROPIO = "PROPIO";
+    private static final String TIPO_MARCADOR = "MARCADOR";
+    static final String SYNC_OPS_PURGE_JOB = "scorecard-sync-ops-purge";
+    static final String HOLE_SCORE_COMPACTION_JOB = "hole-score-compaction";
 
     private final ScorecardRepository scorecardRepository;
     private final TournamentRepository tournamentRepository;
@@ -41,9 +61,14 @@ public class ScorecardService {
     private final CourseTeeRepository courseTeeRepository;
     private final HoleScoreRepository holeScoreRepository;
     private final TournamentInscriptionRepository inscriptionRepository;
-    private final TournamentCategoryRepository categoryRepository;
     private final HandicapConversionRepository handicapConversionRepository;
-    private final ScorecardEventService scorecardEventService;
+    private final ScorecardEventBus scorecardEventBus;
+    private final ScorecardSyncOpRepository scorecardSyncOpRepository;
+    private final HoleScoreEventRepository holeScoreEventRepository;
+    private final ClusterLockService clusterLockService;
+
+    @Value("${scorecard.sync.op-retention:7d}")
+    private Duration syncOpRetention;
 
     @Transactional
     public ScorecardDTO getOrCreateScorecard(Long tournamentId, Long playerId) {
@@ -94,9 +119,6 @@ public class ScorecardService {
             }
 
             if (CONTINUE_EXISTING.equalsIgnoreCase(inProgressAction.trim())) {
-                if (player.getHandicapIndex() != null) {
-                    assignCategoryToInscription(tournamentId, playerId, player.getHandicapIndex());
-                }
                 return convertToDTO(scorecard);
             }
 
@@ -117,9 +139,6 @@ public class ScorecardService {
             scorecard = completePendingScorecard(scorecard, tournament, player, request, sexo);
         }
 
-        if (player.getHandicapIndex() != null) {
-            assignCategoryToInscription(tournamentId, playerId, player.getHandicapIndex());
-        }
         return convertToDTO(scorecard);
     }
 
@@ -135,90 +154,7 @@ public class ScorecardService {
         return dto;
     }
 
-    private void assignCategoryToInscription(Long tournamentId, Long playerId, BigDecimal handicapIndex) {
-        TournamentInscription inscription = inscriptionRepository
-                .findByTournamentIdAndPlayerId(tournamentId, playerId)
-                .orElse(null);
-        
-        if (inscription == null) {
-            log.warn("Inscription not found for player {} in tournament {}", playerId, tournamentId);
-            return;
-        }
-        
-        List<TournamentCategory> categories = categoryRepository.findByTournamentId(tournamentId);
-        TournamentCategory matchingCategory = findCategoryForHandicap(
-                handicapIndex,
-                inscription.getPlayer().getSexo(),
-                categories
-        );
-        
-        inscription.setCategory(matchingCategory);
-        inscriptionRepository.save(inscription);
-        
-        if (matchingCategory != null) {
-            log.debug("Assigned category {} to player {} in tournament {}", 
-                     matchingCategory.getNombre(), playerId, tournamentId);
-        } else {
-            log.debug("No matching category for player {} in tournament {} (handicapIndex: {})", 
-                     playerId, tournamentId, handicapIndex);
-        }
-    }
-
-    private TournamentCategory findCategoryForHandicap(BigDecimal handicapIndex,
-                                                       String playerSex,
-                                                       List<TournamentCategory> categories) {
-        if (handicapIndex == null || categories == null || categories.isEmpty()) {
-            return null;
-        }
-
-        String normalizedPlayerSex = normalizePlayerSex(playerSex);
-        for (TournamentCategory category : categories) {
-            if (!categoryAppliesToPlayerSex(category, normalizedPlayerSex)) {
-                continue;
-            }
-            if (handicapIndex.compareTo(category.getHandicapMin()) >= 0 &&
-                handicapIndex.compareTo(category.getHandicapMax()) <= 0) {
-                return category;
-            }
-        }
-
-        return null;
-    }
-
-    private String normalizePlayerSex(String playerSex) {
-        if (playerSex == null || playerSex.trim().isBlank()) {
-            return CATEGORY_SEX_MIXED;
-        }
-
-        String normalized = playerSex.trim().toUpperCase();
-        if (CATEGORY_SEX_MALE.equals(normalized) || CATEGORY_SEX_FEMALE.equals(normalized)) {
-            return normalized;
-        }
-        return CATEGORY_SEX_MIXED;
-    }
-
-    private String normalizeCategorySex(String categorySex) {
-        if (categorySex == null || categorySex.trim().isBlank()) {
-            return CATEGORY_SEX_MIXED;
-        }
-
-        String normalized = categorySex.trim().toUpperCase();
-        if (CATEGORY_SEX_MALE.equals(normalized)
-                || CATEGORY_SEX_FEMALE.equals(normalized)
-                || CATEGORY_SEX_MIXED.equals(normalized)) {
-            return normalized;
-        }
-        return CATEGORY_SEX_MIXED;
-    }
-
-    private boolean categoryAppliesToPlayerSex(TournamentCategory category, String playerSex) {
-        String categorySex = normalizeCategorySex(category.getSexoCategoria());
-        if (CATEGORY_SEX_MIXED.equals(categorySex)) {
-            return true;
-        }
-        return categorySex.equals(playerSex);
-    }
-
+    @RetryOnConflict
     @Transactional
     public ScorecardDTO assignMarker(Long scorecardId, Long markerId) {
         Scorecard scorecard = scorecardRepository.findById(scorecardId)
@@ -265,6 +201,7 @@ public class ScorecardService {
     /**
      * Quita el jugador asignado en "marcar a…", limpia golpes cargados en esa fila y el estado de validación.
      */
+    @RetryOnConflict
     @Transactional
     public ScorecardDTO clearMarker(Long scorecardId) {
         Scorecard scorecard = scorecardRepository.findById(scorecardId)
@@ -285,66 +222,274 @@ public class ScorecardService {
         scorecard.setMarker(null);
         scorecard.setMarcadorValidado(false);
 
-        for (HoleScore hs : holeScoreRepository.findByScorecardId(scorecardId)) {
-            hs.setGolpesMarcador(null);
+        // Los golpes que había marcado quedan borrados en el historial
+        String actor = currentActor(scorecard);
+        List<HoleScoreEvent> borrados = new ArrayList<>();
+        for (Object[] fila : holeScoreRepository.findStrokesByScorecardId(scorecardId)) {
+            if (fila[2] != null) {
+                borrados.add(scoreEvent(scorecard, (Long) fila[0], TIPO_MARCADOR, null, actor));
+            }
+        }
+        recordScores(scorecard, borrados);
+
+        List<HoleScore> holeScores = holeScoreRepository.findByScorecardId(scorecardId);
+        List<HoleScoreDTO> filas = new ArrayList<>();
+        for (HoleScore hs : holeScores) {
             hs.setValidado(false);
-            holeScoreRepository.save(hs);
+            filas.add(toEventRow(hs, ESTADO_NONE));
         }
+        holeScoreRepository.saveAll(holeScores);
 
         scorecard = scorecardRepository.save(scorecard);
 
-        final Long idParaEvento = scorecard.getId();
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                scorecardEventService.notifyConcordanciaActualizada(idParaEvento);
-            }
-        });
+        publishConcordancia(scorecard, filas);
 
         return convertToDTO(scorecard);
     }
 
+    @Timed(value = "golf.scorecard.update-score", histogram = true)
+    @RetryOnConflict
     @Transactional
     public void updateScore(Long scorecardId, UpdateScoreRequest request) {
         Scorecard scorecard = scorecardRepository.findById(scorecardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Scorecard", "id", scorecardId));
         ensureScorecardConfigured(scorecard);
-        
-        Hole hole = holeRepository.findById(request.getHoleId())
-                .orElseThrow(() -> new ResourceNotFoundException("Hole", "id", request.getHoleId()));
-
-        HoleScore holeScore = holeScoreRepository.findByScorecardIdAndHoleId(scorecardId, request.getHoleId())
-                .orElseGet(() -> HoleScore.builder()
-                        .scorecard(scorecard)
-                        .hole(hole)
-                        .build());
-
-        if ("PROPIO".equalsIgnoreCase(request.getTipo())) {
-            holeScore.setGolpesPropio(request.getGolpes());
-        } else if ("MARCADOR".equalsIgnoreCase(request.getTipo())) {
-            holeScore.setGolpesMarcador(request.getGolpes());
-        } else {
-            throw new BadRequestException("Tipo de puntuación inválido. Debe ser PROPIO o MARCADOR");
+        applyScores(scorecard, List.of(request));
+        scorecardEventBus.publishLeaderboardActualizado(scorecard.getTournament().getId());
+    }
+
+    /**
+     * Varios golpes de la misma tarjeta en una sola transacción, con la misma lógica que
+     * {@link #updateScore}. Si uno falla no se guarda ninguno.
+     */
+    @Timed(value = "golf.scorecard.update-scores", histogram = true)
+    @RetryOnConflict
+    @Transactional
+    public void updateScores(Long scorecardId, List<UpdateScoreRequest> requests) {
+        Scorecard scorecard = scorecardRepository.findById(scorecardId)
+                .orElseThrow(() -> new ResourceNotFoundException("Scorecard", "id", scorecardId));
+        ensureScorecardConfigured(scorecard);
+        applyScores(scorecard, requests);
+        scorecardEventBus.publishLeaderboardActualizado(scorecard.getTournament().getId());
+    }
+
+    /**
+     * Aplica golpes cargados sin conexión. Las operaciones que ya se aplicaron en un sync anterior (por
+     * su opId) se saltean, las inválidas se informan sin cortar el lote y el resto se guarda en una
+     * transacción, en el orden del cliente. La fila de la tarjeta queda bloqueada hasta el commit, así
+     * que dos reintentos simultáneos del mismo lote no lo aplican dos veces.
+     */
+    @Timed(value = "golf.scorecard.sync", histogram = true)
+    @RetryOnConflict
+    @Transactional
+    public ScorecardSyncResponse sync(Long scorecardId, ScorecardSyncRequest request) {
+        Scorecard scorecard = scorecardRepository.findByIdForUpdate(scorecardId)
+                .orElseThrow(() -> new ResourceNotFoundException("Scorecard", "id", scorecardId));
+        ensureScorecardConfigured(scorecard);
+
+        List<ScorecardSyncRequest.Operation> operations = request.getOperations();
+        Set<String> seen = new HashSet<>(scorecardSyncOpRepository.findAppliedOpIds(scorecardId,
+                operations.stream().map(ScorecardSyncRequest.Operation::getOpId).collect(Collectors.toSet())));
+
+        List<String> applied = new ArrayList<>();
+        List<String> duplicates = new ArrayList<>();
+        Map<String, String> rejected = new LinkedHashMap<>();
+        List<UpdateScoreRequest> scores = new ArrayList<>();
+        for (ScorecardSyncRequest.Operation operation : operations) {
+            if (!seen.add(operation.getOpId())) {
+                duplicates.add(operation.getOpId());
+                continue;
+            }
+            String error = invalidScore(operation.toRequest());
+            if (error == null && holeRepository.findById(operation.getHoleId()).isEmpty()) {
+                error = new ResourceNotFoundException("Hole", "id", operation.getHoleId()).getMessage();
+            }
+            if (error != null) {
+                rejected.put(operation.getOpId(), error);
+                continue;
+            }
+            applied.add(operation.getOpId());
+            scores.add(operation.toRequest());
+        }
+
+        if (!scores.isEmpty()) {
+            applyScores(scorecard, scores);
+            scorecardSyncOpRepository.saveAll(applied.stream()
+                    .map(opId -> ScorecardSyncOp.builder().scorecard(scorecard).clientOpId(opId).build())
+                    .toList());
+            scorecardEventBus.publishLeaderboardActualizado(scorecard.getTournament().getId());
+        }
+        log.info("Sync de scorecard {}: {} aplicadas, {} repetidas, {} rechazadas",
+                scorecardId, applied.size(), duplicates.size(), rejected.size());
+
+        long eventSeq = scorecardRepository.currentEventSeq(scorecardId);
+        ScorecardDTO dto = convertToDTO(scorecard);
+        dto.setEventSeq(eventSeq);
+        return ScorecardSyncResponse.builder()
+                .eventSeq(eventSeq)
+                .applied(applied)
+                .duplicates(duplicates)
+                .rejected(rejected)
+                .scorecard(dto)
+                .build();
+    }
+
+    /** Borra las operaciones de sync viejas; para entonces el cliente ya no tiene nada que reintentar. */
+    @Scheduled(cron = "0 15 4 * * *")
+    @Transactional
+    public void purgeSyncOps() {
+        if (!clusterLockService.isLeader(SYNC_OPS_PURGE_JOB)) return;
+        int deleted = scorecardSyncOpRepository.deleteAppliedBefore(LocalDateTime.now().minus(syncOpRetention));
+        if (deleted > 0) {
+            log.info("Operaciones de sync purgadas: {}", deleted);
+        }
+    }
+
+    /** El motivo por el que el golpe no se puede guardar, o {@code null} si es válido. */
+    private String invalidScore(UpdateScoreRequest request) {
+        if (request.getHoleId() == null || request.getGolpes() == null || request.getGolpes() < 1) {
+            return "Hoyo y golpes (mínimo 1) son obligatorios";
+        }
+        if (!TIPO_PROPIO.equalsIgnoreCase(request.getTipo()) && !TIPO_MARCADOR.equalsIgnoreCase(request.getTipo())) {
+            return "Tipo de puntuación inválido. Debe ser PROPIO o MARCADOR";
+        }
+        return null;
+    }
+
+    private void applyScores(Scorecard scorecard, List<UpdateScoreRequest> requests) {
+        String actor = currentActor(scorecard);
+        List<HoleScoreEvent> events = new ArrayList<>();
+        for (UpdateScoreRequest request : requests) {
+            String error = invalidScore(request);
+            if (error != null) {
+                throw new BadRequestException(error);
+            }
+            Hole hole = holeRepository.findById(request.getHoleId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Hole", "id", request.getHoleId()));
+            events.add(scoreEvent(scorecard, hole.getId(), request.getTipo().toUpperCase(Locale.ROOT), request.getGolpes(), actor));
+        }
+        recordScores(scorecard, events);
+    }
+
+    /**
+     * Agrega los golpes al historial, los proyecta en hole_scores con un UPDATE (sin leer y volver a
+     * escribir la fila) y recalcula la concordancia una sola vez por tarjeta afectada: la propia para los
+     * hoyos con golpes de marcador y las de quienes marcan a este jugador para los hoyos con golpes
+     * propios. Un valor igual al que ya está no genera evento.
+     *
+     * La proyección no refresca entidades ya cargadas: las filas de hole_scores de estas tarjetas no
+     * tienen que estar en la sesión antes de llamarlo.
+     */
+    private void recordScores(Scorecard scorecard, List<HoleScoreEvent> events) {
+        Long scorecardId = scorecard.getId();
+        Map<String, Integer> actuales = new HashMap<>();
+        Set<Long> hoyosConFila = new HashSet<>();
+        for (Object[] fila : holeScoreRepository.findStrokesByScorecardId(scorecardId)) {
+            Long holeId = (Long) fila[0];
+            hoyosConFila.add(holeId);
+            actuales.put(holeId + "/" + TIPO_PROPIO, (Integer) fila[1]);
+            actuales.put(holeId + "/" + TIPO_MARCADOR, (Integer) fila[2]);
+        }
+
+        List<HoleScoreEvent> nuevos = new ArrayList<>();
+        Set<Long> hoyosConPropio = new LinkedHashSet<>();
+        Set<Long> hoyosConMarcador = new LinkedHashSet<>();
+        for (HoleScoreEvent event : events) {
+            String key = event.getHoleId() + "/" + event.getTipo();
+            if (Objects.equals(actuales.get(key), event.getGolpes())) {
+                continue;
+            }
+            actuales.put(key, event.getGolpes());
+            nuevos.add(event);
+            (TIPO_PROPIO.equals(event.getTipo()) ? hoyosConPropio : hoyosConMarcador).add(event.getHoleId());
+            log.info("Score updated for scorecard {} hole {}: {} = {}",
+                    scorecardId, event.getHoleId(), event.getTipo(), event.getGolpes());
+        }
+        if (nuevos.isEmpty()) {
+            return;
         }
 
-        holeScoreRepository.save(holeScore);
-        log.info("Score updated for scorecard {} hole {}: {} = {}",
-                scorecardId, request.getHoleId(), request.getTipo(), request.getGolpes());
+        Set<Long> sinFila = nuevos.stream()
+                .map(HoleScoreEvent::getHoleId)
+                .filter(holeId -> !hoyosConFila.contains(holeId))
+                .collect(Collectors.toSet());
+        if (!sinFila.isEmpty()) {
+            holeScoreRepository.insertMissingRows(scorecardId, sinFila);
+        }
+        holeScoreEventRepository.saveAll(nuevos);
+        holeScoreRepository.projectEvents(scorecardId);
 
         // Recalcular concordancia entre marcadores
-        if ("MARCADOR".equalsIgnoreCase(request.getTipo())) {
+        if (!hoyosConMarcador.isEmpty()) {
             // A actualizó los golpes que marcó para B → recalcular en la tarjeta de A
-            recomputeMarkerConcordanceForHole(scorecard, hole);
-        } else {
+            recomputeMarkerConcordance(scorecard, hoyosConMarcador);
+        }
+        if (!hoyosConPropio.isEmpty()) {
             // B actualizó su propio golpe → recalcular en todas las tarjetas donde B es el marcado
             List<Scorecard> markerScorecards = scorecardRepository
                     .findByTournamentIdAndMarkerId(scorecard.getTournament().getId(), scorecard.getPlayer().getId());
             for (Scorecard markerScorecard : markerScorecards) {
-                recomputeMarkerConcordanceForHole(markerScorecard, hole);
+                recomputeMarkerConcordance(markerScorecard, hoyosConPropio);
             }
         }
     }
 
+    private static HoleScoreEvent scoreEvent(Scorecard scorecard, Long holeId, String tipo, Integer golpes, String actor) {
+        return HoleScoreEvent.builder()
+                .scorecardId(scorecard.getId())
+                .holeId(holeId)
+                .tipo(tipo)
+                .golpes(golpes)
+                .actor(actor)
+                .build();
+    }
+
+    /** El usuario autenticado; la carga pública (por matrícula) queda a nombre del jugador de la tarjeta. */
+    private static String currentActor(Scorecard scorecard) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return "jugador:" + scorecard.getPlayer().getId();
+    }
+
+    @Transactional(readOnly = true)
+    public List<HoleScoreEventDTO> getScoreHistory(Long scorecardId) {
+        Scorecard scorecard = scorecardRepository.findById(scorecardId)
+                .orElseThrow(() -> new ResourceNotFoundException("Scorecard", "id", scorecardId));
+        Map<Long, Integer> numeroHoyo = holeRepository
+                .findByCourseIdOrderByNumeroHoyoAsc(scorecard.getTournament().getCourse().getId()).stream()
+                .collect(Collectors.toMap(Hole::getId, Hole::getNumeroHoyo));
+        return holeScoreEventRepository.findByScorecardIdOrderByIdAsc(scorecardId).stream()
+                .map(event -> HoleScoreEventDTO.builder()
+                        .id(event.getId())
+                        .holeId(event.getHoleId())
+                        .numeroHoyo(numeroHoyo.get(event.getHoleId()))
+                        .tipo(event.getTipo())
+                        .golpes(event.getGolpes())
+                        .actor(event.getActor())
+                        .createdAt(event.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Vuelve a proyectar los eventos que hole_scores todavía no tiene. La escritura ya proyecta los
+     * suyos en la misma transacción, así que normalmente no encuentra nada; para reconstruir una tarjeta
+     * desde su historial alcanza con poner en 0 propio_event_id y marcador_event_id de sus filas.
+     */
+    @Scheduled(fixedDelayString = "${scorecard.events.compaction-interval-ms:300000}")
+    @Transactional
+    public void compactHoleScores() {
+        if (!clusterLockService.isLeader(HOLE_SCORE_COMPACTION_JOB)) return;
+        int filas = holeScoreRepository.projectPendingEvents();
+        if (filas > 0) {
+            log.info("Compactación de golpes: {} fila(s) de hole_scores actualizadas desde el historial", filas);
+        }
+    }
+
+    @RetryOnConflict
     @Transactional
     public ScorecardDTO updateScorecard(Long scorecardId, com.golf.tournament.dto.scorecard.UpdateScorecardRequest request) {
         Scorecard scorecard = scorecardRepository.findById(scorecardId)
@@ -357,42 +502,27 @@ public class ScorecardService {
             log.info("HandicapCourse updated for scorecard {}: {}", scorecardId, request.getHandicapCourse());
         }
 
+        String actor = currentActor(scorecard);
+        List<HoleScoreEvent> events = new ArrayList<>();
         for (HoleScoreUpdate holeScoreUpdate : request.getHoleScores()) {
             Hole hole = holeRepository.findById(holeScoreUpdate.getHoleId())
                     .orElseThrow(() -> new ResourceNotFoundException("Hole", "id", holeScoreUpdate.getHoleId()));
 
-            HoleScore holeScore = holeScoreRepository.findByScorecardIdAndHoleId(scorecardId, holeScoreUpdate.getHoleId())
-                    .orElseGet(() -> HoleScore.builder()
-                            .scorecard(scorecard)
-                            .hole(hole)
-                            .build());
-
             if (holeScoreUpdate.getGolpesPropio() != null) {
-                holeScore.setGolpesPropio(holeScoreUpdate.getGolpesPropio());
+                events.add(scoreEvent(scorecard, hole.getId(), TIPO_PROPIO, holeScoreUpdate.getGolpesPropio(), actor));
             }
             if (holeScoreUpdate.getGolpesMarcador() != null) {
-                holeScore.setGolpesMarcador(holeScoreUpdate.getGolpesMarcador());
-            }
-
-            holeScoreRepository.save(holeScore);
-
-            // Recalcular concordancia para este hoyo (puede haber cambiado propio y/o marcador)
-            recomputeMarkerConcordanceForHole(scorecard, hole);
-
-            // Si también cambió el propio, actualizar tarjetas donde este jugador es el marcado
-            if (holeScoreUpdate.getGolpesPropio() != null) {
-                List<Scorecard> markerScorecards = scorecardRepository
-                        .findByTournamentIdAndMarkerId(scorecard.getTournament().getId(), scorecard.getPlayer().getId());
-                for (Scorecard markerScorecard : markerScorecards) {
-                    recomputeMarkerConcordanceForHole(markerScorecard, hole);
-                }
+                events.add(scoreEvent(scorecard, hole.getId(), TIPO_MARCADOR, holeScoreUpdate.getGolpesMarcador(), actor));
             }
         }
+        recordScores(scorecard, events);
 
         log.info("All scores updated for scorecard {}", scorecardId);
+        scorecardEventBus.publishLeaderboardActualizado(scorecard.getTournament().getId());
         return convertToDTO(scorecard);
     }
 
+    @RetryOnConflict
     @Transactional
     public ScorecardDTO deliverScorecard(Long scorecardId) {
         Scorecard scorecard = scorecardRepository.findById(scorecardId)
@@ -422,6 +552,7 @@ public class ScorecardService {
         scorecard = scorecardRepository.save(scorecard);
 
         log.info("Scorecard delivered: {}", scorecardId);
+        scorecardEventBus.publishLeaderboardActualizado(scorecard.getTournament().getId());
         return convertToDTO(scorecard);
     }
 
@@ -498,6 +629,7 @@ public class ScorecardService {
         scorecard = scorecardRepository.save(scorecard);
 
         log.info("Tarjeta {} cancelada para jugador {}", scorecardId, scorecard.getPlayer().getId());
+        scorecardEventBus.publishLeaderboardActualizado(scorecard.getTournament().getId());
 
         return convertToDTO(scorecard);
     }
@@ -511,6 +643,7 @@ public class ScorecardService {
         scorecard = scorecardRepository.save(scorecard);
 
         log.info("Scorecard {} disqualified for player {}", scorecardId, scorecard.getPlayer().getId());
+        scorecardEventBus.publishLeaderboardActualizado(scorecard.getTournament().getId());
         return convertToDTO(scorecard);
     }
 
@@ -536,6 +669,7 @@ public class ScorecardService {
 
         scorecard = scorecardRepository.save(scorecard);
         log.info("Scorecard {} un-disqualified for player {}", scorecardId, scorecard.getPlayer().getId());
+        scorecardEventBus.publishLeaderboardActualizado(scorecard.getTournament().getId());
         return convertToDTO(scorecard);
     }
 
@@ -676,6 +810,7 @@ public class ScorecardService {
                     .build();
             holeScoreRepository.save(holeScore);
         }
+        holeScoreRepository.resetEventWatermarks(scorecard.getId());
     }
 
     private void ensureScorecardConfigured(Scorecard scorecard) {
@@ -686,24 +821,19 @@ public class ScorecardService {
 
     /**
      * Recalcula la concordancia entre lo que el marcador (scorecardDelMarcador) cargó para el jugador B
-     * (golpesMarcador) y lo que B cargó para sí mismo (golpesPropio en la tarjeta de B) para un hoyo dado.
-     * Actualiza el campo `validado` en la fila correspondiente de scorecardDelMarcador y recalcula
-     * `marcadorValidado` en la scorecard del marcador.
+     * (golpesMarcador) y lo que B cargó para sí mismo (golpesPropio en la tarjeta de B) en los hoyos dados.
+     * Actualiza el campo `validado` en esas filas de scorecardDelMarcador, recalcula `marcadorValidado`
+     * en la scorecard del marcador y publica un solo evento con todas las filas.
      */
-    private void recomputeMarkerConcordanceForHole(Scorecard scorecardDelMarcador, Hole hole) {
+    private void recomputeMarkerConcordance(Scorecard scorecardDelMarcador, Collection<Long> holeIds) {
         if (scorecardDelMarcador.getMarker() == null) {
             return;
         }
+        // Antes de leer los golpes: si otro recálculo de esta tarjeta confirma en el medio, este falla y se reintenta
+        scorecardRepository.lockForConcordance(scorecardDelMarcador.getId());
 
-        HoleScore holeScoreDelMarcador = holeScoreRepository
-                .findByScorecardIdAndHoleId(scorecardDelMarcador.getId(), hole.getId())
-                .orElse(null);
-
-        if (holeScoreDelMarcador == null) {
-            return;
-        }
-
-        Integer golpesMarcador = holeScoreDelMarcador.getGolpesMarcador();
+        List<HoleScore> todosLosHoyos = holeScoreRepository.findByScorecardId(scorecardDelMarcador.getId());
+        Map<Long, HoleScore> filasDelMarcador = byHoleId(todosLosHoyos);
 
         // Buscar la tarjeta del jugador marcado (el que recibe los golpes)
         Scorecard scorecardDelMarcado = scorecardRepository
@@ -711,42 +841,55 @@ public class ScorecardService {
                         scorecardDelMarcador.getTournament().getId(),
                         scorecardDelMarcador.getMarker().getId())
                 .orElse(null);
-
-        Integer golpesPropioDeLMarcado = null;
-        if (scorecardDelMarcado != null) {
-            HoleScore holeScoreDelMarcado = holeScoreRepository
-                    .findByScorecardIdAndHoleId(scorecardDelMarcado.getId(), hole.getId())
-                    .orElse(null);
-            if (holeScoreDelMarcado != null) {
-                golpesPropioDeLMarcado = holeScoreDelMarcado.getGolpesPropio();
+        Map<Long, HoleScore> filasDelMarcado = scorecardDelMarcado != null
+                ? byHoleId(holeScoreRepository.findByScorecardId(scorecardDelMarcado.getId()))
+                : Map.of();
+
+        List<HoleScore> actualizadas = new ArrayList<>();
+        List<HoleScoreDTO> filasDelEvento = new ArrayList<>();
+        for (Long holeId : holeIds) {
+            HoleScore holeScoreDelMarcador = filasDelMarcador.get(holeId);
+            if (holeScoreDelMarcador == null) {
+                continue;
             }
-        }
+            Integer golpesMarcador = holeScoreDelMarcador.getGolpesMarcador();
+            HoleScore holeScoreDelMarcado = filasDelMarcado.get(holeId);
+            Integer golpesPropioDeLMarcado = holeScoreDelMarcado != null ? holeScoreDelMarcado.getGolpesPropio() : null;
 
-        boolean validado = golpesMarcador != null
-                && golpesPropioDeLMarcado != null
-                && golpesMarcador.equals(golpesPropioDeLMarcado);
+            boolean validado = golpesMarcador != null
+                    && golpesPropioDeLMarcado != null
+                    && golpesMarcador.equals(golpesPropioDeLMarcado);
+            holeScoreDelMarcador.setValidado(validado);
+            actualizadas.add(holeScoreDelMarcador);
 
-        holeScoreDelMarcador.setValidado(validado);
-        holeScoreRepository.save(holeScoreDelMarcador);
+            String estado = estadoConcordancia(golpesMarcador, scorecardDelMarcado != null, golpesPropioDeLMarcado);
+            filasDelEvento.add(toEventRow(holeScoreDelMarcador, estado));
+        }
+
+        if (actualizadas.isEmpty()) {
+            return;
+        }
+        holeScoreRepository.saveAll(actualizadas);
 
         // Recalcular marcadorValidado: true si TODOS los hoyos de esta scorecard tienen validado=true
-        List<HoleScore> todosLosHoyos = holeScoreRepository.findByScorecardId(scorecardDelMarcador.getId());
         boolean marcadorValidado = !todosLosHoyos.isEmpty()
                 && todosLosHoyos.stream().allMatch(hs -> Boolean.TRUE.equals(hs.getValidado()));
         scorecardDelMarcador.setMarcadorValidado(marcadorValidado);
         scorecardRepository.save(scorecardDelMarcador);
 
-        // Notificar al cliente DESPUÉS del commit para que el GET lea datos ya persistidos
-        final Long scorecardIdParaEvento = scorecardDelMarcador.getId();
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                scorecardEventService.notifyConcordanciaActualizada(scorecardIdParaEvento);
-            }
-        });
+        // El bus notifica DESPUÉS del commit para que el GET lea datos ya persistidos
+        publishConcordancia(scorecardDelMarcador, filasDelEvento);
 
-        log.debug("Concordancia recalculada para scorecard {} hoyo {}: validado={}, marcadorValidado={}",
-                scorecardDelMarcador.getId(), hole.getNumeroHoyo(), validado, marcadorValidado);
+        log.debug("Concordancia recalculada para scorecard {} en {} hoyo(s), marcadorValidado={}",
+                scorecardDelMarcador.getId(), actualizadas.size(), marcadorValidado);
+    }
+
+    private static Map<Long, HoleScore> byHoleId(List<HoleScore> holeScores) {
+        Map<Long, HoleScore> byHole = new HashMap<>();
+        for (HoleScore holeScore : holeScores) {
+            byHole.put(holeScore.getHole().getId(), holeScore);
+        }
+        return byHole;
     }
 
     private ScorecardDTO convertToDTO(Scorecard scorecard) {
@@ -793,29 +936,23 @@ public class ScorecardService {
                 .marcadorValidado(scorecard.getMarcadorValidado())
                 .markedPlayerScorecardStatus(
                         finalScorecardDelMarcado != null ? finalScorecardDelMarcado.getStatus().name() : null)
+                .eventSeq(scorecard.getEventSeq())
                 .build();
     }
 
     private HoleScoreDTO convertHoleScoreToDTO(HoleScore holeScore, Scorecard scorecardDelMarcado) {
-        String estadoConcordancia = "NONE";
+        String estadoConcordancia = ESTADO_NONE;
 
         if (holeScore.getGolpesMarcador() != null) {
+            Integer golpesPropioDeLMarcado = null;
             if (scorecardDelMarcado != null) {
-                Integer golpesPropioDeLMarcado = holeScoreRepository
+                golpesPropioDeLMarcado = holeScoreRepository
                         .findByScorecardIdAndHoleId(scorecardDelMarcado.getId(), holeScore.getHole().getId())
                         .map(HoleScore::getGolpesPropio)
                         .orElse(null);
-
-                if (golpesPropioDeLMarcado == null) {
-                    estadoConcordancia = "PENDING";
-                } else if (holeScore.getGolpesMarcador().equals(golpesPropioDeLMarcado)) {
-                    estadoConcordancia = "MATCH";
-                } else {
-                    estadoConcordancia = "MISMATCH";
-                }
-            } else {
-                estadoConcordancia = "PENDING";
             }
+            estadoConcordancia = estadoConcordancia(
+                    holeScore.getGolpesMarcador(), scorecardDelMarcado != null, golpesPropioDeLMarcado);
         }
 
         return HoleScoreDTO.builder()
@@ -829,4 +966,40 @@ public class ScorecardService {
                 .estadoConcordancia(estadoConcordancia)
                 .build();
     }
+
+    /** Ver {@link HoleScoreDTO#getEstadoConcordancia()}. */
+    private static String estadoConcordancia(Integer golpesMarcador, boolean hayTarjetaDelMarcado,
+                                             Integer golpesPropioDeLMarcado) {
+        if (golpesMarcador == null) {
+            return ESTADO_NONE;
+        }
+        if (!hayTarjetaDelMarcado || golpesPropioDeLMarcado == null) {
+            return "PENDING";
+        }
+        return golpesMarcador.equals(golpesPropioDeLMarcado) ? "MATCH" : "MISMATCH";
+    }
+
+    /**
+     * Numera el evento dentro de la transacción (ver {@link ScorecardRepository#nextEventSeq}) y lo
+     * publica con las filas que cambiaron; el bus lo envía después del commit.
+     */
+    private void publishConcordancia(Scorecard scorecard, List<HoleScoreDTO> filas) {
+        long seq = scorecardRepository.nextEventSeq(scorecard.getId());
+        scorecardEventBus.publishConcordanciaActualizada(ScorecardEventDTO.builder()
+                .scorecardId(scorecard.getId())
+                .seq(seq)
+                .marcadorValidado(scorecard.getMarcadorValidado())
+                .holeScores(filas)
+                .build());
+    }
+
+    private static HoleScoreDTO toEventRow(HoleScore holeScore, String estadoConcordancia) {
+        return HoleScoreDTO.builder()
+                .holeId(holeScore.getHole().getId())
+                .golpesPropio(holeScore.getGolpesPropio())
+                .golpesMarcador(holeScore.getGolpesMarcador())
+                .validado(holeScore.getValidado())
+                .estadoConcordancia(estadoConcordancia)
+                .build();
+    }
 }
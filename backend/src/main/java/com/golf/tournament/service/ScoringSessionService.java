@@ -0,0 +1,248 @@
+package com.golf.tournament.service;
+
+import com.golf.tournament.config.WebSocketConfig;
+import com.golf.tournament.dto.scorecard.ScoreAckDTO;
+import com.golf.tournament.dto.scorecard.ScoreFrameDTO;
+import com.golf.tournament.dto.scorecard.ScorecardEventDTO;
+import com.golf.tournament.dto.scorecard.UpdateScoreRequest;
+import com.golf.tournament.exception.BadRequestException;
+import com.golf.tournament.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Golpes recibidos por el canal WebSocket. Los de una misma tarjeta se juntan durante
+ * {@code scoring.ws.batch-window-ms} y se guardan en una sola transacción con
+ * {@link ScorecardService#updateScores}; si el mismo hoyo y tipo llega dos veces en la ventana, vale el
+ * último. Cada frame recibe su ack en la cola de la sesión que lo envió.
+ *
+ * Por tarjeta hay a lo sumo un lote en curso, así los golpes se aplican en el orden en que llegaron.
+ * {@code scoring.ws.threads} limita cuántas tarjetas escriben a la vez, como el bulkhead de scoring
+ * para el tráfico HTTP.
+ */
+@Slf4j
+@Service
+public class ScoringSessionService {
+
+    private static final String USER_QUEUE = "/queue/scoring";
+    private static final String ACK_EVENT = "ack";
+
+    private final ScorecardService scorecardService;
+    private final ScorecardEventService scorecardEventService;
+    private final SimpMessageSendingOperations stompMessaging;
+    private final long batchWindowMs;
+    private final ScheduledExecutorService executor;
+    private final Map<Long, CardBatch> batches = new ConcurrentHashMap<>();
+    private final DistributionSummary batchSize;
+    private final Counter framesOk;
+    private final Counter framesRejected;
+
+    public ScoringSessionService(ScorecardService scorecardService,
+                                 ScorecardEventService scorecardEventService,
+                                 SimpMessageSendingOperations stompMessaging,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${scoring.ws.batch-window-ms:25}") long batchWindowMs,
+                                 @Value("${scoring.ws.threads:4}") int threads) {
+        this.scorecardService = scorecardService;
+        this.scorecardEventService = scorecardEventService;
+        this.stompMessaging = stompMessaging;
+        this.batchWindowMs = batchWindowMs;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(threads,
+                r -> new Thread(r, "scoring-ws-" + threadNumber.incrementAndGet()));
+        this.batchSize = DistributionSummary.builder("golf.scoring.ws.batch.size")
+                .description("Frames de golpes guardados por transacción en el canal WebSocket")
+                .register(meterRegistry);
+        this.framesOk = framesCounter(meterRegistry, "ok");
+        this.framesRejected = framesCounter(meterRegistry, "rejected");
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    public void submit(Long scorecardId, ScoreFrameDTO frame, String sessionId) {
+        PendingFrame pending = new PendingFrame(frame, sessionId);
+        while (true) {
+            CardBatch batch = batches.computeIfAbsent(scorecardId, CardBatch::new);
+            switch (batch.add(pending)) {
+                case SCHEDULE -> schedule(batch);
+                case QUEUED -> { }
+                // el lote se retiró entre el get y el add: se toma el nuevo
+                case RETIRED -> { continue; }
+            }
+            return;
+        }
+    }
+
+    /** Reenvía a la sesión los eventos de la tarjeta posteriores a {@code lastSeq}, o {@code refresh}. */
+    public void resume(Long scorecardId, long lastSeq, String sessionId) {
+        List<ScorecardEventDTO> missed = scorecardEventService.eventsSince(scorecardId, lastSeq);
+        if (missed == null) {
+            sendToSession(sessionId, ScorecardEventService.REFRESH_EVENT, ScorecardEventService.REFRESH_EVENT);
+            return;
+        }
+        missed.forEach(event -> sendToSession(sessionId, ScorecardEventService.CONCORDANCIA_EVENT, event));
+    }
+
+    private void schedule(CardBatch batch) {
+        executor.schedule(() -> drain(batch), batchWindowMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void drain(CardBatch batch) {
+        List<PendingFrame> frames = batch.takeAll();
+        try {
+            apply(batch.scorecardId, frames);
+        } catch (Exception e) {
+            log.error("Error guardando golpes por WebSocket para scorecard {}", batch.scorecardId, e);
+        } finally {
+            if (batch.finishDrain(batches)) {
+                schedule(batch);
+            }
+        }
+    }
+
+    private void apply(Long scorecardId, List<PendingFrame> frames) {
+        Map<String, UpdateScoreRequest> latest = new LinkedHashMap<>();
+        for (PendingFrame pending : frames) {
+            ScoreFrameDTO frame = pending.frame();
+            String tipo = frame.getTipo() != null ? frame.getTipo().toUpperCase(Locale.ROOT) : null;
+            latest.put(frame.getHoleId() + "/" + tipo, frame.toRequest());
+        }
+        batchSize.record(latest.size());
+
+        try {
+            scorecardService.updateScores(scorecardId, new ArrayList<>(latest.values()));
+            frames.forEach(pending -> ack(pending, null));
+            return;
+        } catch (RuntimeException e) {
+            if (frames.size() == 1) {
+                ack(frames.get(0), rejection(e));
+                return;
+            }
+        }
+        // Un frame inválido hace fallar el lote entero: se aplican de a uno para responder a cada uno.
+        for (PendingFrame pending : frames) {
+            try {
+                scorecardService.updateScore(scorecardId, pending.frame().toRequest());
+                ack(pending, null);
+            } catch (RuntimeException e) {
+                ack(pending, rejection(e));
+            }
+        }
+    }
+
+    private String rejection(RuntimeException e) {
+        if (e instanceof BadRequestException || e instanceof ResourceNotFoundException) {
+            return e.getMessage();
+        }
+        log.warn("Error guardando golpes por WebSocket: {}", e.getMessage(), e);
+        return "No se pudo guardar el golpe";
+    }
+
+    private void ack(PendingFrame pending, String error) {
+        (error == null ? framesOk : framesRejected).increment();
+        ScoreFrameDTO frame = pending.frame();
+        sendToSession(pending.sessionId(), ACK_EVENT, ScoreAckDTO.builder()
+                .clientSeq(frame.getClientSeq())
+                .holeId(frame.getHoleId())
+                .tipo(frame.getTipo())
+                .ok(error == null)
+                .error(error)
+                .build());
+    }
+
+    // Sin usuario autenticado: el destino /user/{sessionId}/... se resuelve a esa sesión.
+    private void sendToSession(String sessionId, String event, Object payload) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setNativeHeader(WebSocketConfig.EVENT_HEADER, event);
+        headers.setLeaveMutable(true);
+        stompMessaging.convertAndSendToUser(sessionId, USER_QUEUE, payload, headers.getMessageHeaders());
+    }
+
+    private static Counter framesCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("golf.scoring.ws.frames")
+                .description("Frames de golpes recibidos por WebSocket, por resultado")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record PendingFrame(ScoreFrameDTO frame, String sessionId) {
+    }
+
+    private enum AddResult { SCHEDULE, QUEUED, RETIRED }
+
+    /** Frames pendientes de una tarjeta. Se retira del mapa cuando termina un lote sin nada más en cola. */
+    private static final class CardBatch {
+
+        private final Long scorecardId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private List<PendingFrame> pending = new ArrayList<>();
+        private boolean scheduled;
+        private boolean retired;
+
+        CardBatch(Long scorecardId) {
+            this.scorecardId = scorecardId;
+        }
+
+        AddResult add(PendingFrame frame) {
+            lock.lock();
+            try {
+                if (retired) return AddResult.RETIRED;
+                pending.add(frame);
+                if (scheduled) return AddResult.QUEUED;
+                scheduled = true;
+                return AddResult.SCHEDULE;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<PendingFrame> takeAll() {
+            lock.lock();
+            try {
+                List<PendingFrame> taken = pending;
+                pending = new ArrayList<>();
+                return taken;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /** {@code true} si llegaron frames durante el lote y hay que programar otro. */
+        boolean finishDrain(Map<Long, CardBatch> batches) {
+            lock.lock();
+            try {
+                if (!pending.isEmpty()) return true;
+                scheduled = false;
+                retired = true;
+                batches.remove(scorecardId, this);
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.golf.tournament.service;
 
+import com.golf.tournament.config.Coalesced;
+import com.golf.tournament.config.RequestCoalescer;
 import com.golf.tournament.dto.tournamentadmin.ScoringConfigDTO;
 import com.golf.tournament.dto.tournamentadmin.TournamentAdminPlayoffResultsDTO;
 import com.golf.tournament.exception.ResourceNotFoundException;
@@ -16,6 +18,7 @@ import com.golf.tournament.repository.TournamentAdminStageRepository;
 import com.golf.tournament.repository.TournamentAdminStageScoreRepository;
 import com.golf.tournament.repository.TournamentCategoryRepository;
 import com.golf.tournament.repository.TournamentRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -40,6 +43,7 @@ public class TournamentAdminPlayoffResultService {
     private final TournamentRepository tournamentRepository;
     private final TournamentCategoryRepository categoryRepository;
 
+    @Coalesced(value = RequestCoalescer.PLAYOFF_RESULTS, maxStalenessMs = 2000)
     @Transactional(readOnly = true)
     public TournamentAdminPlayoffResultsDTO getResults(Long tournamentAdminId) {
         TournamentAdmin admin = tournamentAdminRepository.findById(tournamentAdminId)
@@ -107,6 +111,7 @@ public class TournamentAdminPlayoffResultService {
                 .build();
     }
 
+    @Timed(value = "golf.playoff.calculate-results", histogram = true)
     @Transactional
     public TournamentAdminPlayoffResultsDTO calculateResults(Long tournamentAdminId) {
         TournamentAdmin admin = tournamentAdminRepository.findById(tournamentAdminId)
@@ -1,5 +1,7 @@
 package com.golf.tournament.service;
 
+import com.golf.tournament.config.ReadFromPrimary;
+import com.golf.tournament.dto.common.PaymentUpdateResultDTO;
 import com.golf.tournament.dto.tournamentadmin.*;
 import com.golf.tournament.exception.BadRequestException;
 import com.golf.tournament.exception.ResourceNotFoundException;
@@ -12,9 +14,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -71,7 +75,7 @@ public class TournamentAdminService {
         admin.setCantidadCuotas(request.getCantidadCuotas());
 
         if (cuotasChanged) {
-            recreatePaymentsForAllInscriptions(admin);
+            syncPaymentsWithCuotas(admin.getId());
         }
 
         admin = tournamentAdminRepository.save(admin);
@@ -139,24 +143,86 @@ public class TournamentAdminService {
         log.info("Inscripción admin eliminada: {}", inscriptionId);
     }
 
+    /** Detalle con todas las inscripciones. */
+    @ReadFromPrimary
     @Transactional(readOnly = true)
     public TournamentAdminDetailDTO getDetail(Long id) {
+        return getDetail(id, null, null, null);
+    }
+
+    /**
+     * Detalle del torneo administrativo con sus inscripciones ordenadas por (apellido, nombre), armado
+     * con una consulta que trae jugador y estado de las cuotas de cada inscripción y otra con los ids
+     * de pago de la página. Sin cursor ni tamaño devuelve todas; con alguno de los dos pagina por
+     * keyset como el listado de jugadores. {@code paymentStatus}: PAID, PARTIAL, UNPAID o ALL.
+     * Lee del primario: la UI lo vuelve a pedir apenas se guardan pagos o inscripciones.
+     */
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public TournamentAdminDetailDTO getDetail(Long id, String cursor, Integer size, String paymentStatus) {
         TournamentAdmin admin = tournamentAdminRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("TournamentAdmin", "id", id));
 
-        List<TournamentAdminInscription> inscriptions = inscriptionRepository.findByTournamentAdminId(id);
+        String status = resolvePaymentStatus(paymentStatus);
+        boolean paged = cursor != null || size != null;
+        int pageSize = paged ? KeysetCursor.resolvePageSize(size) : Integer.MAX_VALUE - 1;
+
+        List<Object[]> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = inscriptionRepository.findDetailPageFirst(id, status, pageSize + 1);
+        } else {
+            List<String> key = KeysetCursor.decode(cursor, 3);
+            rows = inscriptionRepository.findDetailPageAfter(id, status, key.get(0), key.get(1),
+                    KeysetCursor.decodeId(key.get(2)), pageSize + 1);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Object[]> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Object[] last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.encode(last[2], last[3], last[0]);
+        }
+
+        Map<Long, List<TournamentAdminInscriptionDTO.PaymentDetailDTO>> paymentsByInscription = new HashMap<>();
+        Map<Long, Long> paidMasks = new HashMap<>();
+        for (Object[] row : page) {
+            paymentsByInscription.put(((Number) row[0]).longValue(), new ArrayList<>());
+            paidMasks.put(((Number) row[0]).longValue(), ((Number) row[7]).longValue());
+        }
+        if (!page.isEmpty()) {
+            for (Object[] row : paymentRepository.findIdsByInscriptionIds(paymentsByInscription.keySet())) {
+                Long inscriptionId = (Long) row[0];
+                int cuotaNumber = (Integer) row[2];
+                paymentsByInscription.get(inscriptionId).add(TournamentAdminInscriptionDTO.PaymentDetailDTO.builder()
+                        .paymentId((Long) row[1])
+                        .cuotaNumber(cuotaNumber)
+                        .pagado((paidMasks.get(inscriptionId) & (1L << (cuotaNumber - 1))) != 0)
+                        .build());
+            }
+        }
+
+        List<TournamentAdminInscriptionDTO> inscriptionDTOs = page.stream()
+                .map(row -> TournamentAdminInscriptionDTO.builder()
+                        .inscriptionId(((Number) row[0]).longValue())
+                        .playerId(((Number) row[1]).longValue())
+                        .playerName(row[2] + " " + row[3])
+                        .matricula((String) row[4])
+                        .telefono((String) row[5])
+                        .email((String) row[6])
+                        .paidMask(((Number) row[7]).longValue())
+                        .paidCount(((Number) row[8]).intValue())
+                        .payments(paymentsByInscription.get(((Number) row[0]).longValue()))
+                        .build())
+                .collect(Collectors.toList());
 
+        Long inscriptos = inscriptionRepository.countByTournamentAdminId(id);
         Long paidCount = paymentRepository.countPaidByTournamentAdminId(id);
         BigDecimal cuotaValue = admin.getCantidadCuotas() > 0
                 ? admin.getValorInscripcion().divide(BigDecimal.valueOf(admin.getCantidadCuotas()), 2, RoundingMode.HALF_UP)
                 : BigDecimal.ZERO;
         BigDecimal totalRecaudado = cuotaValue.multiply(BigDecimal.valueOf(paidCount));
 
-        List<TournamentAdminInscriptionDTO> inscriptionDTOs = inscriptions.stream()
-                .map(this::convertInscriptionToDTO)
-                .sorted(Comparator.comparing(TournamentAdminInscriptionDTO::getPlayerName))
-                .collect(Collectors.toList());
-
         boolean canManageStages = true;
 
         return TournamentAdminDetailDTO.builder()
@@ -166,91 +232,82 @@ public class TournamentAdminService {
                 .fecha(admin.getFecha())
                 .cantidadCuotas(admin.getCantidadCuotas())
                 .valorInscripcion(admin.getValorInscripcion())
-                .currentInscriptos(inscriptions.size())
+                .currentInscriptos(inscriptos.intValue())
                 .totalRecaudado(totalRecaudado)
                 .canManageStages(canManageStages)
                 .inscriptions(inscriptionDTOs)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
                 .build();
     }
 
+    private static String resolvePaymentStatus(String paymentStatus) {
+        if (paymentStatus == null || paymentStatus.isBlank()) {
+            return "ALL";
+        }
+        String status = paymentStatus.trim().toUpperCase();
+        if (!List.of("ALL", "PAID", "PARTIAL", "UNPAID").contains(status)) {
+            throw new BadRequestException("Estado de pago inválido: " + paymentStatus);
+        }
+        return status;
+    }
+
+    /**
+     * Marca pagadas o impagas varias cuotas del torneo administrativo. Valida todas con una consulta
+     * y escribe solo las que cambian; si alguna no existe o es de otro torneo no se aplica nada.
+     */
     @Transactional
-    public void savePayments(Long tournamentAdminId, SavePaymentsRequest request) {
+    public PaymentUpdateResultDTO savePayments(Long tournamentAdminId, SavePaymentsRequest request) {
         if (!tournamentAdminRepository.existsById(tournamentAdminId)) {
             throw new ResourceNotFoundException("TournamentAdmin", "id", tournamentAdminId);
         }
 
-        for (SavePaymentsRequest.PaymentUpdate update : request.getPayments()) {
-            TournamentAdminPayment payment = paymentRepository.findById(update.getPaymentId())
-                    .orElseThrow(() -> new ResourceNotFoundException("TournamentAdminPayment", "id", update.getPaymentId()));
-
-            if (!payment.getInscription().getTournamentAdmin().getId().equals(tournamentAdminId)) {
-                throw new BadRequestException("El pago no pertenece a este torneo administrativo");
-            }
-
-            payment.setPagado(update.getPagado());
-            paymentRepository.save(payment);
+        PaymentBatch batch = PaymentBatch.of(request.getPayments(),
+                SavePaymentsRequest.PaymentUpdate::getPaymentId, SavePaymentsRequest.PaymentUpdate::getPagado);
+        if (batch.isEmpty()) {
+            return batch.apply(Map.of(), (pagado, ids) -> { });
         }
 
-        log.info("Pagos actualizados para torneo admin {}", tournamentAdminId);
+        Map<Long, Boolean> current = batch.checkOwnership(
+                paymentRepository.findPaymentStateByIds(batch.ids()), tournamentAdminId, "TournamentAdminPayment",
+                foreign -> "Los pagos " + foreign + " no pertenecen a este torneo administrativo");
+        LocalDateTime now = LocalDateTime.now();
+        PaymentUpdateResultDTO result = batch.apply(current,
+                (pagado, ids) -> paymentRepository.updatePagado(ids, pagado, now));
+
+        log.info("Pagos actualizados para torneo admin {}: {} cambiados, {} sin cambios",
+                tournamentAdminId, result.getUpdated(), result.getUnchanged());
+        return result;
     }
 
+    /**
+     * Inscribe a los inscriptos del torneo administrativo en los torneos pendientes o en curso de sus
+     * etapas, respetando el límite de inscriptos de cada uno. Todo se resuelve en la base: un conteo
+     * de pares (torneo, jugador) y un único INSERT que saltea a los ya inscriptos.
+     */
     @Transactional
     public ImportAdminInscriptionsResultDTO importInscriptionsToRelatedPendingTournaments(Long tournamentAdminId) {
-        TournamentAdmin admin = tournamentAdminRepository.findById(tournamentAdminId)
-                .orElseThrow(() -> new ResourceNotFoundException("TournamentAdmin", "id", tournamentAdminId));
-
-        List<TournamentAdminInscription> adminInscriptions = inscriptionRepository.findByTournamentAdminId(tournamentAdminId);
-
-        // Recopilar todos los torneos de las etapas del admin que estén en estado PENDING o IN_PROGRESS
-        List<Tournament> pendingRelatedTournaments = admin.getStages().stream()
-                .flatMap(s -> s.getTournaments().stream())
-                .distinct()
-                .filter(t -> "PENDING".equals(t.getEstado()) || "IN_PROGRESS".equals(t.getEstado()))
-                .collect(Collectors.toList());
+        if (!tournamentAdminRepository.existsById(tournamentAdminId)) {
+            throw new ResourceNotFoundException("TournamentAdmin", "id", tournamentAdminId);
+        }
 
-        int importedCount = 0;
-        int skippedAlready = 0;
-        int skippedByCapacity = 0;
-
-        for (Tournament tournament : pendingRelatedTournaments) {
-            Long currentCount = tournamentInscriptionRepository.countByTournamentId(tournament.getId());
-            Integer limit = tournament.getLimiteInscriptos();
-            int remainingSlots = limit != null ? Math.max(0, limit - currentCount.intValue()) : Integer.MAX_VALUE;
-
-            List<TournamentInscription> toSave = new ArrayList<>();
-            for (TournamentAdminInscription adminInscription : adminInscriptions) {
-                Long playerId = adminInscription.getPlayer().getId();
-                if (tournamentInscriptionRepository.existsByTournamentIdAndPlayerId(tournament.getId(), playerId)) {
-                    skippedAlready++;
-                    continue;
-                }
-
-                if (remainingSlots <= 0) {
-                    skippedByCapacity++;
-                    continue;
-                }
-
-                toSave.add(TournamentInscription.builder()
-                        .tournament(tournament)
-                        .player(adminInscription.getPlayer())
-                        .category(null)
-                        .build());
-                importedCount++;
-                if (limit != null) {
-                    remainingSlots--;
-                }
-            }
+        Object[] pairs = tournamentInscriptionRepository.countTournamentAdminImportPairs(tournamentAdminId).get(0);
+        int relatedTournaments = ((Number) pairs[0]).intValue();
+        int skippedAlready = ((Number) pairs[2]).intValue();
+        int candidates = ((Number) pairs[1]).intValue() - skippedAlready;
 
-            if (!toSave.isEmpty()) {
-                tournamentInscriptionRepository.saveAll(toSave);
-            }
+        int importedCount = candidates > 0 ? tournamentInscriptionRepository.insertFromTournamentAdmin(tournamentAdminId) : 0;
+        int skippedByCapacity = candidates - importedCount;
+        if (importedCount > 0) {
+            // Los torneos en curso ya no reasignan categorías al empezar
+            tournamentInscriptionRepository.reassignCategoriesForTournamentAdmin(tournamentAdminId);
         }
 
         log.info("Importación de inscriptos admin {} completada. Torneos de etapas pendientes: {}, importados: {}, repetidos: {}, sin cupo: {}",
-                tournamentAdminId, pendingRelatedTournaments.size(), importedCount, skippedAlready, skippedByCapacity);
+                tournamentAdminId, relatedTournaments, importedCount, skippedAlready, skippedByCapacity);
 
         return ImportAdminInscriptionsResultDTO.builder()
-                .relatedPendingTournaments(pendingRelatedTournaments.size())
+                .relatedPendingTournaments(relatedTournaments)
                 .importedCount(importedCount)
                 .skippedAlreadyInscribed(skippedAlready)
                 .skippedByCapacity(skippedByCapacity)
@@ -266,29 +323,11 @@ public class TournamentAdminService {
         TournamentAdmin admin = tournamentAdminRepository.findByTournamentInAnyStage(tournamentId)
                 .orElseThrow(() -> new BadRequestException("Este torneo no está asociado a ningún Torneo Administrativo"));
 
-        List<TournamentInscription> tournamentInscriptions = tournamentInscriptionRepository.findByTournamentId(tournamentId);
-
-        int imported = 0;
-        int skipped = 0;
-        List<TournamentAdminInscription> toSave = new ArrayList<>();
-
-        for (TournamentInscription inscription : tournamentInscriptions) {
-            Long playerId = inscription.getPlayer().getId();
-            if (inscriptionRepository.existsByTournamentAdminIdAndPlayerId(admin.getId(), playerId)) {
-                skipped++;
-                continue;
-            }
-            TournamentAdminInscription adminInscription = TournamentAdminInscription.builder()
-                    .tournamentAdmin(admin)
-                    .player(inscription.getPlayer())
-                    .build();
-            toSave.add(adminInscription);
-            imported++;
-        }
-
-        if (!toSave.isEmpty()) {
-            List<TournamentAdminInscription> saved = inscriptionRepository.saveAllAndFlush(toSave);
-            createPaymentsForNewInscriptions(admin, saved);
+        int total = tournamentInscriptionRepository.countByTournamentId(tournamentId).intValue();
+        int imported = total > 0 ? inscriptionRepository.insertFromTournament(admin.getId(), tournamentId) : 0;
+        int skipped = total - imported;
+        if (imported > 0) {
+            paymentRepository.insertMissingCuotas(admin.getId());
         }
 
         log.info("Exportación de inscriptos del torneo {} al admin {}. Importados: {}, ya existían: {}",
@@ -302,38 +341,14 @@ public class TournamentAdminService {
                 .build();
     }
 
-    private void createPaymentsForNewInscriptions(TournamentAdmin admin, List<TournamentAdminInscription> newInscriptions) {
-        List<TournamentAdminPayment> newPayments = new ArrayList<>();
-        for (TournamentAdminInscription inscription : newInscriptions) {
-            for (int i = 1; i <= admin.getCantidadCuotas(); i++) {
-                newPayments.add(TournamentAdminPayment.builder()
-                        .inscription(inscription)
-                        .cuotaNumber(i)
-                        .pagado(false)
-                        .build());
-            }
-        }
-        if (!newPayments.isEmpty()) {
-            paymentRepository.saveAll(newPayments);
-        }
-    }
-
-    private void recreatePaymentsForAllInscriptions(TournamentAdmin admin) {
-        List<TournamentAdminInscription> inscriptions = inscriptionRepository.findByTournamentAdminId(admin.getId());
-        for (TournamentAdminInscription inscription : inscriptions) {
-            paymentRepository.deleteAll(inscription.getPayments());
-            inscription.getPayments().clear();
-
-            List<TournamentAdminPayment> newPayments = new ArrayList<>();
-            for (int i = 1; i <= admin.getCantidadCuotas(); i++) {
-                newPayments.add(TournamentAdminPayment.builder()
-                        .inscription(inscription)
-                        .cuotaNumber(i)
-                        .pagado(false)
-                        .build());
-            }
-            paymentRepository.saveAll(newPayments);
-        }
+    /**
+     * Deja a cada inscripción con las cuotas 1..cantidadCuotas: borra las que sobran y crea sin pagar
+     * las que faltan. Las que siguen vigentes conservan su estado de pago.
+     */
+    private void syncPaymentsWithCuotas(Long tournamentAdminId) {
+        int deleted = paymentRepository.deleteCuotasBeyondLimit(tournamentAdminId);
+        int created = paymentRepository.insertMissingCuotas(tournamentAdminId);
+        log.info("Cuotas del torneo admin {} ajustadas: {} creadas, {} borradas", tournamentAdminId, created, deleted);
     }
 
     private TournamentAdminDTO convertToDTO(TournamentAdmin admin) {
@@ -356,27 +371,4 @@ public class TournamentAdminService {
                 .totalRecaudado(totalRecaudado)
                 .build();
     }
-
-    private TournamentAdminInscriptionDTO convertInscriptionToDTO(TournamentAdminInscription inscription) {
-        Player player = inscription.getPlayer();
-
-        List<TournamentAdminInscriptionDTO.PaymentDetailDTO> paymentDTOs = inscription.getPayments().stream()
-                .sorted(Comparator.comparingInt(TournamentAdminPayment::getCuotaNumber))
-                .map(p -> TournamentAdminInscriptionDTO.PaymentDetailDTO.builder()
-                        .paymentId(p.getId())
-                        .cuotaNumber(p.getCuotaNumber())
-                        .pagado(p.getPagado())
-                        .build())
-                .collect(Collectors.toList());
-
-        return TournamentAdminInscriptionDTO.builder()
-                .inscriptionId(inscription.getId())
-                .playerId(player.getId())
-                .playerName(player.getApellido() + " " + player.getNombre())
-                .matricula(player.getMatricula())
-                .telefono(player.getTelefono())
-                .email(player.getEmail())
-                .payments(paymentDTOs)
-                .build();
-    }
 }
@@ -1,5 +1,7 @@
 package com.golf.tournament.service;
 
+import com.golf.tournament.config.Coalesced;
+import com.golf.tournament.config.RequestCoalescer;
 import com.golf.tournament.dto.leaderboard.LeaderboardEntryDTO;
 import com.golf.tournament.dto.tournamentadmin.*;
 import com.golf.tournament.exception.BadRequestException;
@@ -28,6 +30,7 @@ public class TournamentAdminStageService {
     private final TournamentInscriptionRepository inscriptionRepository;
     private final TournamentScoreRepository tournamentScoreRepository;
     private final TournamentCategoryRepository categoryRepository;
+    private final CategoryIndexCache categoryIndexCache;
     private final LeaderboardService leaderboardService;
 
     @Transactional(readOnly = true)
@@ -103,6 +106,7 @@ public class TournamentAdminStageService {
         return toStageDTO(stage);
     }
 
+    @Coalesced(value = RequestCoalescer.STAGE_BOARD, maxStalenessMs = 2000)
     @Transactional(readOnly = true)
     public TournamentAdminStageBoardDTO getStageBoard(Long tournamentAdminId, Long stageId) {
         TournamentAdminStage stage = getStageOrThrow(tournamentAdminId, stageId);
@@ -147,12 +151,17 @@ public class TournamentAdminStageService {
                     .collect(Collectors.toList());
 
             // Agrupar cada jugador en la categoría del torneo más reciente según su handicapIndex actual
+            CategoryIndex categoryIndex = categoryIndexCache.forTournament(latestTournament.getId());
+            Map<Long, Set<Long>> playerIdsByCategory = new HashMap<>();
+            for (Player p : playersById.values()) {
+                Long categoryId = categoryIndex.resolveId(p.getHandicapIndex(), p.getSexo());
+                if (categoryId != null) {
+                    playerIdsByCategory.computeIfAbsent(categoryId, k -> new HashSet<>()).add(p.getId());
+                }
+            }
             categoryRows = latestCategories.stream()
                     .map(category -> {
-                        Set<Long> playerIds = playersById.values().stream()
-                                .filter(p -> playerMatchesCategory(p.getHandicapIndex(), p.getSexo(), category))
-                                .map(Player::getId)
-                                .collect(Collectors.toSet());
+                        Set<Long> playerIds = playerIdsByCategory.getOrDefault(category.getId(), Set.of());
                         List<TournamentAdminStageBoardDTO.PlayerStageRowDTO> catRows =
                                 buildCategoryBoardRows(playerIds, playersById, stageTournaments, hcpPoints);
                         return TournamentAdminStageBoardDTO.CategoryRowsDTO.builder()
@@ -377,21 +386,6 @@ public class TournamentAdminStageService {
         return tournaments;
     }
 
-    /**
-     * Determina si un jugador cae dentro del rango de una categoría según su handicapIndex.
-     * Respeta el filtro de sexo de la categoría (M, F o X).
-     */
-    private boolean playerMatchesCategory(BigDecimal handicapIndex, String playerSex, TournamentCategory category) {
-        if (handicapIndex == null) return false;
-        String sex = (playerSex == null || playerSex.isBlank()) ? "X" : playerSex.trim().toUpperCase();
-        if (!"M".equals(sex) && !"F".equals(sex)) sex = "X";
-        String catSex = (category.getSexoCategoria() == null || category.getSexoCategoria().isBlank())
-                ? "X" : category.getSexoCategoria().trim().toUpperCase();
-        if (!"X".equals(catSex) && !catSex.equals(sex)) return false;
-        return handicapIndex.compareTo(category.getHandicapMin()) >= 0
-                && handicapIndex.compareTo(category.getHandicapMax()) <= 0;
-    }
-
     /**
      * Construye filas por categoría, calculando posiciones en base a los puntos acumulados de esa categoría.
      * Usa todos los puntos HCP del jugador (independientemente del category_id, para soportar cambios de categoría).
@@ -1,16 +1,16 @@
 package com.golf.tournament.service;
 
-import com.golf.tournament.model.Scorecard;
 import com.golf.tournament.model.ScorecardStatus;
 import com.golf.tournament.model.Tournament;
 import com.golf.tournament.repository.ScorecardRepository;
-import com.golf.tournament.repository.TournamentAdminRepository;
 import com.golf.tournament.repository.TournamentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -25,8 +25,15 @@ import java.util.List;
  *  - IN_PROGRESS / PENDING_CONFIG con carga parcial              → CANCELLED
  *  - CANCELLED                                                   → sin cambios
  *
+ * Las tarjetas se resuelven con una consulta agregada (hoyos cargados por tarjeta) y dos
+ * UPDATE masivos, sin cargar tarjetas ni hoyos en memoria.
+ *
  * Además, si el torneo pertenece a un Torneo Administrativo, calcula los puntos
- * automáticamente según el tipo (FRUTALES o CLASICO).
+ * automáticamente según el tipo (FRUTALES o CLASICO). Ese cálculo se delega a
+ * {@link TournamentCloseScoringService} después del commit y corre en segundo plano,
+ * para que un torneo grande no demore el cierre de los demás.
+ *
+ * Con varias réplicas solo lo ejecuta el nodo líder del job (ver {@link ClusterLockService}).
  *
  * Se ejecuta cada minuto. Si el servidor estuvo caído y el horario ya pasó,
  * el torneo se detecta y cierra en la primera ejecución post-inicio.
@@ -37,17 +44,23 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TournamentAutoCloseService {
 
+    static final String AUTO_CLOSE_JOB = "tournament-auto-close";
+
+    private static final List<ScorecardStatus> PENDING_STATUSES =
+            List.of(ScorecardStatus.IN_PROGRESS, ScorecardStatus.PENDING_CONFIG);
+
     private final TournamentRepository tournamentRepository;
-    private final TournamentAdminRepository tournamentAdminRepository;
-    private final TournamentAdminPlayoffResultService playoffResultService;
     private final TournamentService tournamentService;
     private final ScorecardRepository scorecardRepository;
-    private final FrutalesScoreService frutalesScoreService;
-    private final ClasicScoreService clasicScoreService;
+    private final TournamentCloseScoringService tournamentCloseScoringService;
+    private final ClusterLockService clusterLockService;
+    private final ScorecardEventBus scorecardEventBus;
 
     @Scheduled(cron = "0 * * * * *")
     @Transactional
     public void autoCloseTournaments() {
+        if (!clusterLockService.isLeader(AUTO_CLOSE_JOB)) return;
+
         LocalDate today = LocalDate.now();
         LocalTime now = LocalTime.now();
 
@@ -62,7 +75,8 @@ public class TournamentAutoCloseService {
                 resolveScorecardsBeforeClose(tournament);
                 tournamentService.finalizeTournament(tournament.getId());
                 log.info("Torneo {} finalizado automáticamente", tournament.getId());
-                calculateScoresIfBelongsToAdmin(tournament);
+                scorecardEventBus.publishLeaderboardActualizado(tournament.getId());
+                scheduleScoringAfterCommit(tournament.getId());
             } catch (Exception e) {
                 log.error("Error en cierre automático del torneo {}: {}", tournament.getId(), e.getMessage(), e);
             }
@@ -78,50 +92,23 @@ public class TournamentAutoCloseService {
      */
     private void resolveScorecardsBeforeClose(Tournament tournament) {
         int holesRequired = resolveHolesRequired(tournament);
+        LocalDateTime now = LocalDateTime.now();
 
-        List<Scorecard> pending = scorecardRepository.findByTournamentIdAndStatusIn(
-                tournament.getId(),
-                List.of(ScorecardStatus.IN_PROGRESS, ScorecardStatus.PENDING_CONFIG));
+        List<Long> completeIds = scorecardRepository.findCompleteScorecardIds(
+                tournament.getId(), PENDING_STATUSES, holesRequired);
 
-        if (pending.isEmpty()) return;
+        int delivered = completeIds.isEmpty()
+                ? 0
+                : scorecardRepository.bulkUpdateStatus(completeIds, ScorecardStatus.DELIVERED, now);
+        int cancelled = scorecardRepository.bulkUpdateStatusByTournament(
+                tournament.getId(), PENDING_STATUSES, ScorecardStatus.CANCELLED, now);
 
-        LocalDateTime now = LocalDateTime.now();
-        int delivered = 0;
-        int cancelled = 0;
-
-        for (Scorecard scorecard : pending) {
-            if (isComplete(scorecard, holesRequired)) {
-                scorecard.setStatus(ScorecardStatus.DELIVERED);
-                scorecard.setDeliveredAt(now);
-                delivered++;
-            } else {
-                scorecard.setStatus(ScorecardStatus.CANCELLED);
-                if (scorecard.getDeliveredAt() == null) {
-                    scorecard.setDeliveredAt(now);
-                }
-                cancelled++;
-            }
-        }
+        if (delivered == 0 && cancelled == 0) return;
 
-        scorecardRepository.saveAll(pending);
-        scorecardRepository.flush();
         log.info("Torneo {}: {} tarjeta(s) entregadas, {} canceladas automáticamente",
                 tournament.getId(), delivered, cancelled);
     }
 
-    /**
-     * Determina si una tarjeta tiene todos los hoyos requeridos con golpesPropio cargados.
-     */
-    private boolean isComplete(Scorecard scorecard, int holesRequired) {
-        if (scorecard.getHoleScores() == null || scorecard.getHoleScores().isEmpty()) {
-            return false;
-        }
-        long filledHoles = scorecard.getHoleScores().stream()
-                .filter(hs -> hs.getGolpesPropio() != null)
-                .count();
-        return filledHoles >= holesRequired;
-    }
-
     /**
      * Determina la cantidad de hoyos requeridos para la tarjeta.
      * Prioridad: cantidadHoyosJuego del torneo; si no está definido, asume 18.
@@ -133,26 +120,15 @@ public class TournamentAutoCloseService {
         return 18;
     }
 
-    private void calculateScoresIfBelongsToAdmin(Tournament tournament) {
-        tournamentAdminRepository.findByTournamentInAnyStage(tournament.getId()).ifPresent(admin -> {
-            try {
-                String tipo = tournament.getTipo();
-                if ("FRUTALES".equals(tipo)) {
-                    frutalesScoreService.calculateScores(tournament.getId());
-                    log.info("Puntos FRUTALES calculados automáticamente para torneo {}", tournament.getId());
-                } else if ("CLASICO".equals(tipo)) {
-                    clasicScoreService.calculateScores(tournament.getId());
-                    log.info("Puntos CLASICO calculados automáticamente para torneo {}", tournament.getId());
-                }
-                // Recalcular todas las etapas y el playoff del Torneo Administrativo, igual que el
-                // botón manual "Calcular Puntos" (TournamentAdminPlayoffResultService.calculateResults
-                // ya recalcula todas las etapas antes de recalcular el playoff).
-                playoffResultService.calculateResults(admin.getId());
-                log.info("Etapas y playoff recalculados automáticamente para torneo admin {} tras cierre del torneo {}",
-                        admin.getId(), tournament.getId());
-            } catch (Exception e) {
-                log.error("Error calculando puntos automáticamente para torneo {}: {}",
-                        tournament.getId(), e.getMessage(), e);
+    /**
+     * Encola el cálculo de puntos post-cierre una vez confirmada la transacción del scheduler,
+     * para que el worker lea el torneo ya finalizado y las tarjetas ya resueltas.
+     */
+    private void scheduleScoringAfterCommit(Long tournamentId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tournamentCloseScoringService.calculateScoresIfBelongsToAdmin(tournamentId);
             }
         });
     }
@@ -0,0 +1,61 @@
+package com.golf.tournament.service;
+
+import com.golf.tournament.config.AsyncConfig;
+import com.golf.tournament.model.Tournament;
+import com.golf.tournament.repository.TournamentAdminRepository;
+import com.golf.tournament.repository.TournamentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cálculo de puntos posterior al cierre automático de un torneo. Corre en el pool
+ * {@link AsyncConfig#CLOSE_SCORING_EXECUTOR}, fuera de la transacción del scheduler, y cada
+ * cálculo usa su propia transacción.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TournamentCloseScoringService {
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentAdminRepository tournamentAdminRepository;
+    private final TournamentAdminPlayoffResultService playoffResultService;
+    private final FrutalesScoreService frutalesScoreService;
+    private final ClasicScoreService clasicScoreService;
+
+    /**
+     * Si el torneo pertenece a un Torneo Administrativo, calcula los puntos según el tipo
+     * (FRUTALES o CLASICO) y recalcula etapas y playoff del administrativo.
+     */
+    @Async(AsyncConfig.CLOSE_SCORING_EXECUTOR)
+    public void calculateScoresIfBelongsToAdmin(Long tournamentId) {
+        Tournament tournament = tournamentRepository.findById(tournamentId).orElse(null);
+        if (tournament == null) {
+            log.warn("Torneo {} no encontrado para el cálculo de puntos post-cierre", tournamentId);
+            return;
+        }
+        tournamentAdminRepository.findByTournamentInAnyStage(tournamentId).ifPresent(admin -> {
+            try {
+                String tipo = tournament.getTipo();
+                if ("FRUTALES".equals(tipo)) {
+                    frutalesScoreService.calculateScores(tournamentId);
+                    log.info("Puntos FRUTALES calculados automáticamente para torneo {}", tournamentId);
+                } else if ("CLASICO".equals(tipo)) {
+                    clasicScoreService.calculateScores(tournamentId);
+                    log.info("Puntos CLASICO calculados automáticamente para torneo {}", tournamentId);
+                }
+                // Recalcular todas las etapas y el playoff del Torneo Administrativo, igual que el
+                // botón manual "Calcular Puntos" (TournamentAdminPlayoffResultService.calculateResults
+                // ya recalcula todas las etapas antes de recalcular el playoff).
+                playoffResultService.calculateResults(admin.getId());
+                log.info("Etapas y playoff recalculados automáticamente para torneo admin {} tras cierre del torneo {}",
+                        admin.getId(), tournamentId);
+            } catch (Exception e) {
+                log.error("Error calculando puntos automáticamente para torneo {}: {}",
+                        tournamentId, e.getMessage(), e);
+            }
+        });
+    }
+}
@@ -12,7 +12,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -34,6 +38,23 @@ public class TournamentPrizeService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Premios de varios torneos agrupados por torneo, con los ganadores resueltos en una sola consulta.
+     * Los torneos sin premios no aparecen en el mapa.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<TournamentPrizeDTO>> getPrizesForTournaments(Collection<Long> tournamentIds) {
+        Map<Long, List<TournamentPrizeDTO>> result = new HashMap<>();
+        if (tournamentIds.isEmpty()) {
+            return result;
+        }
+        for (TournamentPrize prize : tournamentPrizeRepository.findWithWinnerByTournamentIdIn(tournamentIds)) {
+            result.computeIfAbsent(prize.getTournament().getId(), k -> new ArrayList<>())
+                    .add(convertToDTO(prize));
+        }
+        return result;
+    }
+
     @Transactional
     public void syncPrizesForTournament(Tournament tournament, List<String> requestedPrizeTypes) {
         if (requestedPrizeTypes == null) {
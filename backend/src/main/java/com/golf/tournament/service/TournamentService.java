@@ -1,5 +1,9 @@
 package com.golf.tournament.service;
 
+import com.golf.tournament.config.CacheConfig;
+import com.golf.tournament.config.Coalesced;
+import com.golf.tournament.config.RequestCoalescer;
+import com.golf.tournament.dto.common.CursorPageDTO;
 import com.golf.tournament.dto.tournament.*;
 import com.golf.tournament.exception.BadRequestException;
 import com.golf.tournament.exception.ResourceNotFoundException;
@@ -7,13 +11,19 @@ import com.golf.tournament.model.*;
 import com.golf.tournament.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.security.SecureRandom;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,6 +40,7 @@ public class TournamentService {
     private final TournamentPrizeService tournamentPrizeService;
     private final TournamentAdminStageRepository tournamentAdminStageRepository;
     private final TournamentAdminScoringConfigService tournamentAdminScoringConfigService;
+    private final ScorecardEventBus scorecardEventBus;
 
     private static final String CODIGO_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
     private static final int CODIGO_LENGTH = 8;
@@ -38,17 +49,101 @@ public class TournamentService {
     private static final String CATEGORY_SEX_FEMALE = "F";
     private static final String CATEGORY_SEX_MIXED = "X";
 
+    /**
+     * Listado completo de torneos. Inscriptos, categorías, premios (con ganadores) y etapa
+     * administrativa se resuelven con una consulta agrupada por tipo para todo el listado y se
+     * combinan en memoria, en lugar de consultar cada torneo por separado.
+     */
     @Transactional(readOnly = true)
     public List<TournamentDTO> getAllTournaments() {
-        return tournamentRepository.findAllOrderByFechaInicioDesc().stream()
+        List<Tournament> tournaments = tournamentRepository.findAllWithCourseOrderByFechaInicioDesc();
+        if (tournaments.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> ids = tournaments.stream().map(Tournament::getId).collect(Collectors.toList());
+
+        Map<Long, Long> inscriptosByTournament = countInscriptosByTournament(ids);
+
+        Map<Long, List<TournamentCategoryDTO>> categoriesByTournament = new HashMap<>();
+        for (TournamentCategory category : tournamentCategoryRepository.findByTournamentIdIn(ids)) {
+            categoriesByTournament.computeIfAbsent(category.getTournament().getId(), k -> new ArrayList<>())
+                    .add(convertCategoryToDTO(category));
+        }
+
+        Map<Long, List<TournamentPrizeDTO>> prizesByTournament = tournamentPrizeService.getPrizesForTournaments(ids);
+
+        Map<Long, TournamentAdminStage> stageByTournament = new HashMap<>();
+        for (Object[] row : tournamentAdminStageRepository.findByTournamentIdIn(ids)) {
+            stageByTournament.putIfAbsent((Long) row[0], (TournamentAdminStage) row[1]);
+        }
+
+        return tournaments.stream()
                 .map(tournament -> {
-                    TournamentDTO dto = convertToDTO(tournament);
-                    enrichWithAdminStage(dto, false);
+                    Long id = tournament.getId();
+                    TournamentDTO dto = convertToDTO(tournament,
+                            inscriptosByTournament.getOrDefault(id, 0L),
+                            categoriesByTournament.getOrDefault(id, new ArrayList<>()),
+                            prizesByTournament.getOrDefault(id, new ArrayList<>()));
+                    applyAdminStage(dto, stageByTournament.get(id), false);
                     return dto;
                 })
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Listado paginado por keyset ordenado por (fechaInicio desc, id desc), el mismo orden que
+     * {@link #getAllTournaments}. Devuelve la proyección liviana sin categorías ni premios y
+     * resuelve la cantidad de inscriptos de toda la página en una única consulta agrupada.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TournamentSummaryDTO> getTournamentsPage(String cursor, Integer size) {
+        int pageSize = KeysetCursor.resolvePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Tournament> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = tournamentRepository.findPageFirst(limit);
+        } else {
+            List<String> key = KeysetCursor.decode(cursor, 2);
+            LocalDate fechaInicio;
+            try {
+                fechaInicio = LocalDate.parse(key.get(0));
+            } catch (java.time.format.DateTimeParseException e) {
+                throw new BadRequestException("Cursor de paginación inválido");
+            }
+            rows = tournamentRepository.findPageAfter(fechaInicio, KeysetCursor.decodeId(key.get(1)), limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Tournament> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Tournament last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getFechaInicio(), last.getId());
+        }
+
+        Map<Long, Long> inscriptosByTournament = page.isEmpty()
+                ? new HashMap<>()
+                : countInscriptosByTournament(page.stream().map(Tournament::getId).collect(Collectors.toList()));
+
+        List<TournamentSummaryDTO> items = page.stream()
+                .map(t -> convertToSummaryDTO(t, inscriptosByTournament.getOrDefault(t.getId(), 0L)))
+                .collect(Collectors.toList());
+
+        return CursorPageDTO.<TournamentSummaryDTO>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Cacheable(CacheConfig.TOURNAMENT_COUNT)
+    @Transactional(readOnly = true)
+    public long countTournaments() {
+        return tournamentRepository.count();
+    }
+
+    @Coalesced(RequestCoalescer.TOURNAMENT)
     @Transactional(readOnly = true)
     public TournamentDTO getTournamentById(Long id) {
         Tournament tournament = tournamentRepository.findById(id)
@@ -58,6 +153,7 @@ public class TournamentService {
         return dto;
     }
 
+    @Coalesced(value = RequestCoalescer.TOURNAMENT, maxStalenessMs = 1000)
     @Transactional(readOnly = true)
     public TournamentDTO getTournamentByCodigo(String codigo) {
         Tournament tournament = tournamentRepository.findByCodigo(codigo)
@@ -68,6 +164,7 @@ public class TournamentService {
     }
 
     @Transactional
+    @CacheEvict(value = CacheConfig.TOURNAMENT_COUNT, allEntries = true)
     public TournamentDTO createTournament(CreateTournamentRequest request) {
         Course course = courseRepository.findById(request.getCourseId())
                 .orElseThrow(() -> new ResourceNotFoundException("Course", "id", request.getCourseId()));
@@ -151,6 +248,7 @@ public class TournamentService {
         // If categories changed, reassign all inscriptions
         if (categoriesChanged) {
             reassignInscriptionCategories(tournament.getId());
+            scorecardEventBus.publishReferenceDataChanged();
         }
 
         tournamentPrizeService.syncPrizesForTournament(tournament, request.getPrizes());
@@ -240,87 +338,25 @@ public class TournamentService {
     }
 
     @Transactional
+    @CacheEvict(value = CacheConfig.TOURNAMENT_COUNT, allEntries = true)
     public void deleteTournament(Long id) {
         if (!tournamentRepository.existsById(id)) {
             throw new ResourceNotFoundException("Tournament", "id", id);
         }
         tournamentRepository.deleteById(id);
+        // las categorías se borran en cascada en la base, sin pasar por el cache de segundo nivel
+        scorecardEventBus.publishReferenceDataChanged();
         log.info("Tournament deleted with id: {}", id);
     }
 
     /**
-     * Finds the appropriate category for a given handicap course value.
-     * Returns null if the handicap doesn't fall within any category range.
-     */
-    private TournamentCategory findCategoryForHandicap(java.math.BigDecimal handicapCourse,
-                                                       String playerSex,
-                                                       List<TournamentCategory> categories) {
-        if (handicapCourse == null || categories == null || categories.isEmpty()) {
-            return null;
-        }
-
-        String normalizedPlayerSex = normalizePlayerSex(playerSex);
-        for (TournamentCategory category : categories) {
-            if (!categoryAppliesToPlayerSex(category, normalizedPlayerSex)) {
-                continue;
-            }
-            // Check if handicapCourse is within the category range (inclusive)
-            if (handicapCourse.compareTo(category.getHandicapMin()) >= 0 &&
-                handicapCourse.compareTo(category.getHandicapMax()) <= 0) {
-                return category;
-            }
-        }
-
-        // No category found for this handicap
-        return null;
-    }
-
-    /**
-     * Reassigns categories to all inscriptions in a tournament based on their scorecard's handicapCourse.
-     * Only processes inscriptions that have a scorecard with a defined handicapCourse.
-     * Inscriptions without scorecard or handicapCourse will have category = null.
+     * Recalcula la categoría de todas las inscripciones del torneo con un solo UPDATE, según el
+     * handicap índice y sexo actuales de cada jugador. Sin handicap o sin categoría que lo contenga
+     * queda sin categoría.
      */
     private void reassignInscriptionCategories(Long tournamentId) {
-        log.info("Starting category reassignment for tournament {}", tournamentId);
-        
-        // Get all inscriptions for this tournament
-        List<TournamentInscription> inscriptions = tournamentInscriptionRepository.findByTournamentId(tournamentId);
-        
-        // Get all current categories for this tournament
-        List<TournamentCategory> categories = tournamentCategoryRepository.findByTournamentId(tournamentId);
-        
-        int reassignedCount = 0;
-        int withoutCategoryCount = 0;
-        
-        for (TournamentInscription inscription : inscriptions) {
-            TournamentCategory newCategory = null;
-
-            BigDecimal handicapIndex = inscription.getPlayer().getHandicapIndex();
-            if (handicapIndex != null) {
-                newCategory = findCategoryForHandicap(
-                        handicapIndex,
-                        inscription.getPlayer().getSexo(),
-                        categories
-                );
-
-                if (newCategory != null) {
-                    reassignedCount++;
-                } else {
-                    withoutCategoryCount++;
-                }
-            } else {
-                withoutCategoryCount++;
-            }
-
-            // Update inscription category (may be null)
-            inscription.setCategory(newCategory);
-        }
-        
-        // Save all updated inscriptions
-        tournamentInscriptionRepository.saveAll(inscriptions);
-        
-        log.info("Category reassignment completed for tournament {}: {} assigned, {} without category", 
-                 tournamentId, reassignedCount, withoutCategoryCount);
+        int changed = tournamentInscriptionRepository.reassignCategories(tournamentId);
+        log.info("Category reassignment completed for tournament {}: {} inscription(s) changed", tournamentId, changed);
     }
 
     private String generateUniqueCodigo() {
@@ -340,6 +376,15 @@ public class TournamentService {
         return sb.toString();
     }
 
+    /** Cantidad de inscriptos por torneo en una sola consulta agrupada (los torneos sin inscriptos no figuran). */
+    private Map<Long, Long> countInscriptosByTournament(List<Long> tournamentIds) {
+        Map<Long, Long> result = new HashMap<>();
+        for (Object[] row : tournamentInscriptionRepository.countByTournamentIds(tournamentIds)) {
+            result.put((Long) row[0], (Long) row[1]);
+        }
+        return result;
+    }
+
     private TournamentDTO convertToDTO(Tournament tournament) {
         Long inscriptos = tournamentInscriptionRepository.countByTournamentId(tournament.getId());
 
@@ -349,6 +394,11 @@ public class TournamentService {
 
         List<TournamentPrizeDTO> prizes = tournamentPrizeService.getPrizesForTournament(tournament.getId());
 
+        return convertToDTO(tournament, inscriptos, categories, prizes);
+    }
+
+    private TournamentDTO convertToDTO(Tournament tournament, Long inscriptos,
+                                       List<TournamentCategoryDTO> categories, List<TournamentPrizeDTO> prizes) {
         return TournamentDTO.builder()
                 .id(tournament.getId())
                 .nombre(tournament.getNombre())
@@ -374,16 +424,36 @@ public class TournamentService {
                 .build();
     }
 
+    private TournamentSummaryDTO convertToSummaryDTO(Tournament tournament, Long inscriptos) {
+        return TournamentSummaryDTO.builder()
+                .id(tournament.getId())
+                .nombre(tournament.getNombre())
+                .codigo(tournament.getCodigo())
+                .tipo(tournament.getTipo())
+                .modalidad(tournament.getModalidad())
+                .estado(tournament.getEstado())
+                .courseId(tournament.getCourse().getId())
+                .courseName(tournament.getCourse().getNombre())
+                .fechaInicio(tournament.getFechaInicio())
+                .fechaFin(tournament.getFechaFin())
+                .limiteInscriptos(tournament.getLimiteInscriptos())
+                .currentInscriptos(inscriptos.intValue())
+                .build();
+    }
+
     /**
      * Si el torneo pertenece a una etapa de Torneo Administrativo, completa stage/admin
      * y opcionalmente la scoring config.
      */
     private void enrichWithAdminStage(TournamentDTO dto, boolean includeScoringConfig) {
         List<TournamentAdminStage> stages = tournamentAdminStageRepository.findByTournamentId(dto.getId());
-        if (stages.isEmpty()) {
+        applyAdminStage(dto, stages.isEmpty() ? null : stages.get(0), includeScoringConfig);
+    }
+
+    private void applyAdminStage(TournamentDTO dto, TournamentAdminStage stage, boolean includeScoringConfig) {
+        if (stage == null) {
             return;
         }
-        TournamentAdminStage stage = stages.get(0);
         Long adminId = stage.getTournamentAdmin().getId();
         dto.setStageId(stage.getId());
         dto.setStageName(stage.getNombre());
@@ -405,6 +475,8 @@ public class TournamentService {
 
         tournament.setEstado("IN_PROGRESS");
         tournament = tournamentRepository.save(tournament);
+        // Los handicaps pudieron cambiar desde la inscripción: las categorías quedan fijas desde acá
+        reassignInscriptionCategories(id);
         log.info("Tournament {} started and set to IN_PROGRESS", id);
         return convertToDTO(tournament);
     }
@@ -508,24 +580,4 @@ public class TournamentService {
         }
         return normalized;
     }
-
-    private String normalizePlayerSex(String playerSex) {
-        if (playerSex == null || playerSex.trim().isBlank()) {
-            return CATEGORY_SEX_MIXED;
-        }
-
-        String normalized = playerSex.trim().toUpperCase();
-        if (CATEGORY_SEX_MALE.equals(normalized) || CATEGORY_SEX_FEMALE.equals(normalized)) {
-            return normalized;
-        }
-        return CATEGORY_SEX_MIXED;
-    }
-
-    private boolean categoryAppliesToPlayerSex(TournamentCategory category, String playerSex) {
-        String categorySex = normalizeCategorySex(category.getSexoCategoria());
-        if (CATEGORY_SEX_MIXED.equals(categorySex)) {
-            return true;
-        }
-        return categorySex.equals(playerSex);
-    }
 }
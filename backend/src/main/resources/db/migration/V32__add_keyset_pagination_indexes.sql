@@ -0,0 +1,4 @@
+-- Índices que cubren el orden de los listados paginados por keyset
+CREATE INDEX idx_players_apellido_nombre_id ON players(apellido, nombre, id);
+CREATE INDEX idx_courses_nombre_id ON courses(nombre, id);
+CREATE INDEX idx_tournaments_fecha_inicio_id ON tournaments(fecha_inicio DESC, id DESC);
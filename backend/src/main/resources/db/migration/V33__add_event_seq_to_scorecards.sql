@@ -0,0 +1,2 @@
+-- Número del último evento SSE de la tarjeta; lo usan Last-Event-ID y la repetición de eventos al reconectar
+ALTER TABLE scorecards ADD COLUMN event_seq BIGINT NOT NULL DEFAULT 0;
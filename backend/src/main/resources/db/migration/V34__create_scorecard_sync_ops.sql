@@ -0,0 +1,10 @@
+-- Operaciones de /scorecards/{id}/sync ya aplicadas, por id de operación del cliente: un reintento no se aplica dos veces
+CREATE TABLE scorecard_sync_ops (
+    id BIGSERIAL PRIMARY KEY,
+    scorecard_id BIGINT NOT NULL REFERENCES scorecards(id) ON DELETE CASCADE,
+    client_op_id VARCHAR(64) NOT NULL,
+    applied_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT uq_scorecard_sync_op UNIQUE (scorecard_id, client_op_id)
+);
+
+CREATE INDEX idx_scorecard_sync_ops_applied_at ON scorecard_sync_ops(applied_at);
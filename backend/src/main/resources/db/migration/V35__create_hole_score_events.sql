@@ -0,0 +1,16 @@
+-- Historial de golpes: cada carga o corrección es un INSERT; hole_scores queda como proyección del último valor
+CREATE TABLE hole_score_events (
+    id BIGSERIAL PRIMARY KEY,
+    scorecard_id BIGINT NOT NULL REFERENCES scorecards(id) ON DELETE CASCADE,
+    hole_id BIGINT NOT NULL REFERENCES holes(id),
+    tipo VARCHAR(10) NOT NULL,
+    golpes INTEGER,
+    actor VARCHAR(100),
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_hole_score_events_scorecard_hole ON hole_score_events(scorecard_id, hole_id, tipo, id);
+
+-- Último evento de cada tipo ya proyectado en la fila
+ALTER TABLE hole_scores ADD COLUMN propio_event_id BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE hole_scores ADD COLUMN marcador_event_id BIGINT NOT NULL DEFAULT 0;
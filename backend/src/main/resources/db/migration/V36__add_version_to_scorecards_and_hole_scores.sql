@@ -0,0 +1,3 @@
+-- Versión para el control optimista de concurrencia (@Version) de tarjetas y golpes por hoyo
+ALTER TABLE scorecards ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE hole_scores ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
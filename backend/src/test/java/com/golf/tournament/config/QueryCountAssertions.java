@@ -0,0 +1,62 @@
+package com.golf.tournament.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * API para fijar la cantidad de sentencias SQL en tests de integración, por ejemplo:
+ * <pre>
+ * MvcResult result = mockMvc.perform(get("/leaderboard/tournaments/{id}", id)).andReturn();
+ * QueryCountAssertions.assertMaxStatements(result.getResponse(), 6);
+ * </pre>
+ * o, a nivel servicio, {@code QueryCountAssertions.assertStatements(4, () -> service.call())}.
+ * Lanza {@link AssertionError} para no depender de un framework de tests en particular. Las aserciones
+ * sobre la respuesta necesitan levantar el contexto con {@code sql.budget.expose-headers=true}.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /** Cantidad de sentencias informada en el header X-Query-Count de la respuesta. */
+    public static int statementCount(HttpServletResponse response) {
+        String header = response.getHeader(QueryCountResponseAdvice.QUERY_COUNT_HEADER);
+        if (header == null) {
+            throw new AssertionError("La respuesta no tiene el header " + QueryCountResponseAdvice.QUERY_COUNT_HEADER
+                    + " (¿sql.budget.expose-headers deshabilitado o endpoint sin body?)");
+        }
+        return Integer.parseInt(header);
+    }
+
+    public static void assertStatements(HttpServletResponse response, int expected) {
+        int actual = statementCount(response);
+        if (actual != expected) {
+            throw new AssertionError("Se esperaban " + expected + " sentencias SQL pero se ejecutaron " + actual);
+        }
+    }
+
+    public static void assertMaxStatements(HttpServletResponse response, int max) {
+        int actual = statementCount(response);
+        if (actual > max) {
+            throw new AssertionError("Se esperaban como máximo " + max + " sentencias SQL pero se ejecutaron " + actual);
+        }
+    }
+
+    /** Ejecuta {@code action} en el hilo actual y devuelve cuántas sentencias SQL disparó. */
+    public static int countStatements(Runnable action) {
+        RequestStatementCounter.start();
+        try {
+            action.run();
+        } catch (RuntimeException | Error e) {
+            RequestStatementCounter.stop();
+            throw e;
+        }
+        return RequestStatementCounter.stop().count();
+    }
+
+    public static void assertStatements(int expected, Runnable action) {
+        int actual = countStatements(action);
+        if (actual != expected) {
+            throw new AssertionError("Se esperaban " + expected + " sentencias SQL pero se ejecutaron " + actual);
+        }
+    }
+}
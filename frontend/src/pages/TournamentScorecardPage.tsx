@@ -2,9 +2,10 @@ import { useState, useEffect, useRef } from 'react';
 import { useParams, useLocation } from 'react-router-dom';
 import { tournamentService } from '../services/tournamentService';
 import { courseService } from '../services/courseService';
-import { scorecardService } from '../services/scorecardService';
+import { scorecardService, SyncOperation } from '../services/scorecardService';
 import { playerService } from '../services/playerService';
-import { Tournament, Hole, Scorecard, Player } from '../types';
+import { connectScoringSocket, ScoreAck, ScoreFrame, ScoringSocket } from '../services/scoringSocket';
+import { Tournament, Hole, Scorecard, Player, ScorecardEvent } from '../types';
 import Modal from '../components/Modal';
 import { formatDateSafe } from '../utils/dateUtils';
 import './TournamentScorecardPage.css';
@@ -53,6 +54,21 @@ const TournamentScorecardPage = () => {
   const scorecardIdRef = useRef<number | null>(null);
   // Ref que siempre apunta a los scores más recientes — evita el problema de closure en setTimeout
   const scoresRef = useRef(scores);
+  // Número del último evento aplicado por hoyo (y a marcadorValidado): los eventos pueden llegar
+  // desordenados o repetidos al reconectar, y una fila solo se pisa con un evento más nuevo.
+  const appliedSeqRef = useRef<{ base: number; holes: { [holeId: number]: number }; marcadorValidado: number }>({
+    base: 0,
+    holes: {},
+    marcadorValidado: 0,
+  });
+  // Canal STOMP de la tarjeta y frames enviados que esperan su ack, por clientSeq.
+  const socketRef = useRef<ScoringSocket | null>(null);
+  const pendingFramesRef = useRef<Map<number, ScoreFrame>>(new Map());
+  const clientSeqRef = useRef(0);
+  // Golpes cargados sin socket, pendientes de enviar por /sync.
+  const syncQueueRef = useRef<SyncOperation[]>([]);
+  const syncTimeoutRef = useRef<number | null>(null);
+  const syncingRef = useRef(false);
 
   useEffect(() => {
     if (!matricula) {
@@ -90,65 +106,74 @@ const TournamentScorecardPage = () => {
     };
   }, []);
 
-  // SSE + Polling híbrido: garantiza que los colores de concordancia se actualicen
-  // incluso en mobile donde el OS puede matar la conexión SSE en background.
+  // Canal STOMP de la tarjeta + refresh de respaldo.
+  //
+  // Por el socket salen los golpes (un frame por hoyo, con ack) y llegan los eventos de concordancia
+  // con las filas que cambiaron, que se aplican sobre la tarjeta sin volver a pedirla. Al conectar y
+  // al reconectar se pide al backend lo que vino después del último evento aplicado; si ya no lo
+  // tiene, manda 'refresh'. SockJS cae a xhr-streaming donde no hay WebSocket.
   //
-  // Tres capas de actualización:
-  //   1. SSE (fast path): actualizaciones en tiempo real cuando la conexión está activa.
-  //   2. Page Visibility API: refresh inmediato cuando el usuario vuelve al primer plano.
-  //   3. Polling cada 30s: safety net garantizado, independiente del estado del SSE.
+  // Respaldo para cuando el socket no está conectado (mobile en background, proxies): al volver al
+  // primer plano y cada 30s se pide la tarjeta completa, y los golpes van a la cola de sync.
   useEffect(() => {
     if (!scorecard?.id || scorecard.status === 'DELIVERED' || scorecard.status === 'CANCELLED') return;
 
-    const apiUrl = import.meta.env.VITE_API_URL || 'http://localhost:8080/api';
-
-    // Capa 1: SSE como fast path
-    const es = new EventSource(`${apiUrl}/scorecards/${scorecard.id}/events`);
-    let isInitialOpen = true;
-
-    es.addEventListener('concordanciaActualizada', () => {
-      const id = scorecardIdRef.current;
-      if (id) refreshScorecard(id);
-    });
-
-    // Al reconectar el SSE tras una caída, traer el estado actual para recuperar
-    // eventos que llegaron durante la desconexión (ej: pantalla apagada en mobile).
-    es.onopen = () => {
-      if (!isInitialOpen) {
+    const socket = connectScoringSocket(scorecard.id, {
+      lastSeq: () => appliedSeqRef.current.marcadorValidado,
+      onEvent: applyScorecardEvent,
+      onRefresh: () => {
         const id = scorecardIdRef.current;
         if (id) refreshScorecard(id);
-      }
-      isInitialOpen = false;
-    };
+      },
+      onAck: handleScoreAck,
+      onConnectionChange: (connected) => {
+        // Los frames sin ack pueden haberse perdido con la conexión: pasan a la cola de sync.
+        if (!connected && pendingFramesRef.current.size > 0) {
+          pendingFramesRef.current.forEach(frame => queueSyncOperation(frame.holeId, frame.tipo, frame.golpes));
+          pendingFramesRef.current.clear();
+          setSaving(false);
+        }
+      },
+    });
+    socketRef.current = socket;
 
-    es.onerror = () => {
-      // El navegador reconecta automáticamente; onopen disparará el refresh al volver.
+    const refreshIfDisconnected = () => {
+      const id = scorecardIdRef.current;
+      if (id && !socket.connected()) refreshScorecard(id);
     };
 
-    // Capa 2: Page Visibility API — refresh inmediato al volver al primer plano
-    // Cubre el caso más común en mobile: usuario cambia de app o apaga la pantalla.
     const handleVisibilityChange = () => {
-      if (document.visibilityState === 'visible') {
-        const id = scorecardIdRef.current;
-        if (id) refreshScorecard(id);
-      }
+      if (document.visibilityState === 'visible') refreshIfDisconnected();
     };
     document.addEventListener('visibilitychange', handleVisibilityChange);
 
-    // Capa 3: Polling cada 30s como safety net obligatorio
-    // Garantiza convergencia incluso si SSE y visibilitychange fallan.
-    const pollInterval = window.setInterval(() => {
-      const id = scorecardIdRef.current;
-      if (id) refreshScorecard(id);
-    }, 30_000);
+    const pollInterval = window.setInterval(refreshIfDisconnected, 30_000);
 
     return () => {
-      es.close();
+      socket.close();
+      socketRef.current = null;
+      pendingFramesRef.current.clear();
       document.removeEventListener('visibilitychange', handleVisibilityChange);
       clearInterval(pollInterval);
     };
   }, [scorecard?.id, scorecard?.status]);
 
+  // Cola de golpes sin conexión: se guarda en localStorage por si se recarga la página y se envía
+  // por /sync al recuperar la conexión (o con el próximo golpe).
+  useEffect(() => {
+    if (!scorecard?.id) return;
+    const stored = localStorage.getItem(syncQueueKey(scorecard.id));
+    syncQueueRef.current = stored ? JSON.parse(stored) : [];
+    if (syncQueueRef.current.length > 0) void flushSyncQueue();
+
+    const handleOnline = () => { void flushSyncQueue(); };
+    window.addEventListener('online', handleOnline);
+    return () => {
+      window.removeEventListener('online', handleOnline);
+      if (syncTimeoutRef.current !== null) clearTimeout(syncTimeoutRef.current);
+    };
+  }, [scorecard?.id]);
+
   const loadData = async () => {
     if (!codigo) return;
     try {
@@ -168,7 +193,7 @@ const TournamentScorecardPage = () => {
       try {
         // El scorecard se crea al inscribir, pero getOrCreate cubre datos históricos
         scorecardData = await scorecardService.getOrCreate(tournamentData.id, playerData.id);
-        setScorecard(scorecardData);
+        setScorecardFromServer(scorecardData);
         scorecardIdRef.current = scorecardData.id;
         if (scorecardData.status === 'PENDING_CONFIG') {
           setError('Debe completar la configuración en la pantalla de acceso antes de cargar la tarjeta.');
@@ -233,6 +258,15 @@ const TournamentScorecardPage = () => {
       },
     }));
 
+    // Con el socket conectado, cada golpe sale como un frame propio; si no, va a la cola de
+    // sync. Borrar un golpe (sin valor) no es una operación: eso sigue yendo por REST.
+    const hole = holes.find(h => h.numeroHoyo === holeNumber);
+    if (scorecard && hole && newScore !== null && newScore >= 1) {
+      const tipo = type === 'propio' ? 'PROPIO' : 'MARCADOR';
+      if (!sendScoreFrame(hole.id, tipo, newScore)) queueSyncOperation(hole.id, tipo, newScore);
+      return;
+    }
+
     // Reprogramar el debounce unificado: cuando dispare, enviará TODOS los hoyos
     // con el estado más reciente (via scoresRef), evitando que el tipeo rápido
     // entre hoyos descarte saves intermedios.
@@ -246,10 +280,101 @@ const TournamentScorecardPage = () => {
     }
   };
 
-  // Guarda inmediatamente todos los hoyos — se llama tanto desde el debounce
-  // como desde el onBlur de cada input.
+  const sendScoreFrame = (holeId: number, tipo: 'PROPIO' | 'MARCADOR', golpes: number): boolean => {
+    const socket = socketRef.current;
+    if (!socket) return false;
+    const frame: ScoreFrame = { clientSeq: ++clientSeqRef.current, holeId, golpes, tipo };
+    if (!socket.sendScore(frame)) return false;
+    pendingFramesRef.current.set(frame.clientSeq, frame);
+    setSaving(true);
+    return true;
+  };
+
+  const handleScoreAck = (ack: ScoreAck) => {
+    const pending = pendingFramesRef.current;
+    if (!pending.delete(ack.clientSeq)) return;
+    if (pending.size === 0) setSaving(false);
+    if (ack.ok) {
+      setLastSaved(new Date());
+      return;
+    }
+    console.error('Golpe rechazado:', ack.error);
+    // Se vuelve a lo que tiene el backend para ese hoyo.
+    const id = scorecardIdRef.current;
+    if (id) refreshScorecard(id);
+  };
+
+  const syncQueueKey = (scorecardId: number) => `scorecard_sync_${scorecardId}`;
+
+  const persistSyncQueue = () => {
+    const id = scorecardIdRef.current;
+    if (!id) return;
+    if (syncQueueRef.current.length > 0) {
+      localStorage.setItem(syncQueueKey(id), JSON.stringify(syncQueueRef.current));
+    } else {
+      localStorage.removeItem(syncQueueKey(id));
+    }
+  };
+
+  const queueSyncOperation = (holeId: number, tipo: 'PROPIO' | 'MARCADOR', golpes: number) => {
+    const opId = `${Date.now().toString(36)}-${Math.random().toString(36).slice(2, 10)}`;
+    syncQueueRef.current.push({ opId, holeId, golpes, tipo });
+    persistSyncQueue();
+    if (syncTimeoutRef.current !== null) clearTimeout(syncTimeoutRef.current);
+    syncTimeoutRef.current = window.setTimeout(() => {
+      syncTimeoutRef.current = null;
+      void flushSyncQueue();
+    }, 1000);
+  };
+
+  // Envía la cola en un solo request. Las operaciones respondidas (aplicadas, repetidas o
+  // rechazadas) salen de la cola; si no hay conexión quedan para el próximo intento.
+  const flushSyncQueue = async () => {
+    const id = scorecardIdRef.current;
+    const batch = syncQueueRef.current.slice(0, 200);
+    if (!id || batch.length === 0 || syncingRef.current) return;
+
+    syncingRef.current = true;
+    let answered = false;
+    try {
+      setSaving(true);
+      const result = await scorecardService.sync(id, batch);
+      answered = true;
+      Object.entries(result.rejected).forEach(([opId, error]) => console.error('Golpe rechazado:', opId, error));
+      setLastSaved(new Date());
+      setScorecardFromServer(result.scorecard);
+    } catch (err: any) {
+      // Un 4xx no se arregla reintentando el mismo lote.
+      const status = err?.response?.status;
+      answered = status >= 400 && status < 500;
+      console.error('Error sincronizando golpes:', err);
+    } finally {
+      syncingRef.current = false;
+      setSaving(false);
+    }
+
+    if (answered) {
+      const done = new Set(batch.map(op => op.opId));
+      syncQueueRef.current = syncQueueRef.current.filter(op => !done.has(op.opId));
+      persistSyncQueue();
+      if (syncQueueRef.current.length > 0) void flushSyncQueue();
+    }
+  };
+
+  // En el onBlur solo hace falta guardar si hay cambios esperando el debounce de REST.
+  const saveOnBlur = () => {
+    if (!scorecard || scorecard.status === 'DELIVERED') return;
+    if (saveTimeoutRef.current === null) return;
+    void saveAllScoresToBackend();
+  };
+
+  // Guarda inmediatamente todos los hoyos — se llama desde el debounce y desde el onBlur.
   const saveAllScoresToBackend = async () => {
     if (!scorecard) return;
+    if (saveTimeoutRef.current !== null) {
+      clearTimeout(saveTimeoutRef.current);
+      saveTimeoutRef.current = null;
+    }
 
     const currentScores = scoresRef.current;
     const holeScoresUpdate = holes.map(hole => ({
@@ -276,12 +401,48 @@ const TournamentScorecardPage = () => {
   const refreshScorecard = async (scorecardId: number) => {
     try {
       const updated = await scorecardService.getById(scorecardId);
-      setScorecard(updated);
+      setScorecardFromServer(updated);
     } catch (err) {
       console.error('Error refrescando scorecard:', err);
     }
   };
 
+  // La tarjeta leída del backend ya incluye todo hasta su eventSeq: los eventos anteriores se ignoran.
+  const setScorecardFromServer = (updated: Scorecard) => {
+    appliedSeqRef.current = { base: updated.eventSeq ?? 0, holes: {}, marcadorValidado: updated.eventSeq ?? 0 };
+    setScorecard(updated);
+  };
+
+  // Aplica las filas del evento sobre la tarjeta actual, salvo las que ya tienen un evento más nuevo.
+  const applyScorecardEvent = (event: ScorecardEvent) => {
+    const applied = appliedSeqRef.current;
+    const rows = event.holeScores.filter(row => event.seq > (applied.holes[row.holeId] ?? applied.base));
+    rows.forEach(row => { applied.holes[row.holeId] = event.seq; });
+    const updateMarcadorValidado = event.seq > applied.marcadorValidado;
+    if (updateMarcadorValidado) applied.marcadorValidado = event.seq;
+    if (rows.length === 0 && !updateMarcadorValidado) return;
+
+    setScorecard(prev => {
+      if (!prev || prev.id !== event.scorecardId) return prev;
+      return {
+        ...prev,
+        marcadorValidado: updateMarcadorValidado ? event.marcadorValidado : prev.marcadorValidado,
+        holeScores: prev.holeScores.map(hs => {
+          const row = rows.find(r => r.holeId === hs.holeId);
+          return row
+            ? {
+                ...hs,
+                golpesPropio: row.golpesPropio ?? undefined,
+                golpesMarcador: row.golpesMarcador ?? undefined,
+                validado: row.validado,
+                estadoConcordancia: row.estadoConcordancia,
+              }
+            : hs;
+        }),
+      };
+    });
+  };
+
   const getTotalScore = (type: 'propio' | 'marcador') => {
     return holes.reduce((sum, hole) => {
       const score = scores[hole.numeroHoyo]?.[type];
@@ -385,7 +546,7 @@ const TournamentScorecardPage = () => {
     if (!scorecard?.id) return;
     try {
       const updated = await scorecardService.clearMarker(scorecard.id);
-      setScorecard(updated);
+      setScorecardFromServer(updated);
       setScores((prev) => {
         const next = { ...prev };
         holes.forEach((hole) => {
@@ -465,7 +626,7 @@ const TournamentScorecardPage = () => {
     try {
       setAssigningMarker(true);
       const updatedScorecard = await scorecardService.assignMarker(scorecard.id, markerFound.id);
-      setScorecard(updatedScorecard);
+      setScorecardFromServer(updatedScorecard);
       setMarkerModalOpen(false);
       setMarkerAssignmentError(null);
       setTimeout(() => {
@@ -751,7 +912,7 @@ const TournamentScorecardPage = () => {
                       max="15"
                       value={scores[hole.numeroHoyo]?.propio || ''}
                       onChange={(e) => updateScore(hole.numeroHoyo, 'propio', e.target.value)}
-                      onBlur={() => { if (scorecard && scorecard.status !== 'DELIVERED') void saveAllScoresToBackend(); }}
+                      onBlur={saveOnBlur}
                       className="score-input"
                       placeholder="-"
                       disabled={scorecard?.status === 'DELIVERED' || false}
@@ -767,7 +928,7 @@ const TournamentScorecardPage = () => {
                       max="15"
                       value={scores[hole.numeroHoyo]?.propio || ''}
                       onChange={(e) => updateScore(hole.numeroHoyo, 'propio', e.target.value)}
-                      onBlur={() => { if (scorecard && scorecard.status !== 'DELIVERED') void saveAllScoresToBackend(); }}
+                      onBlur={saveOnBlur}
                       className="score-input"
                       placeholder="-"
                       disabled={scorecard?.status === 'DELIVERED' || false}
@@ -798,7 +959,7 @@ const TournamentScorecardPage = () => {
                       max="15"
                       value={scores[hole.numeroHoyo]?.marcador || ''}
                       onChange={(e) => updateScore(hole.numeroHoyo, 'marcador', e.target.value)}
-                      onBlur={() => { if (scorecard && scorecard.status !== 'DELIVERED') void saveAllScoresToBackend(); }}
+                      onBlur={saveOnBlur}
                       className="score-input"
                       placeholder="-"
                       disabled={scorecard?.status === 'DELIVERED' || false}
@@ -814,7 +975,7 @@ const TournamentScorecardPage = () => {
                       max="15"
                       value={scores[hole.numeroHoyo]?.marcador || ''}
                       onChange={(e) => updateScore(hole.numeroHoyo, 'marcador', e.target.value)}
-                      onBlur={() => { if (scorecard && scorecard.status !== 'DELIVERED') void saveAllScoresToBackend(); }}
+                      onBlur={saveOnBlur}
                       className="score-input"
                       placeholder="-"
                       disabled={scorecard?.status === 'DELIVERED' || false}
@@ -18,6 +18,18 @@ export interface UpdateScorecardRequest {
   holeScores: HoleScoreUpdate[];
 }
 
+export interface SyncOperation extends UpdateScoreRequest {
+  opId: string;
+}
+
+export interface ScorecardSyncResponse {
+  eventSeq: number;
+  applied: string[];
+  duplicates: string[];
+  rejected: { [opId: string]: string };
+  scorecard: Scorecard;
+}
+
 export interface ConfigureScorecardRequest {
   teeId?: number;
   cantidadHoyosJuego?: number;
@@ -49,6 +61,12 @@ export const scorecardService = {
     await api.patch(`/scorecards/${scorecardId}/scores`, request);
   },
 
+  // Golpes cargados sin conexión; reenviar operaciones ya aplicadas no las repite.
+  sync: async (scorecardId: number, operations: SyncOperation[]): Promise<ScorecardSyncResponse> => {
+    const response = await api.post<ScorecardSyncResponse>(`/scorecards/${scorecardId}/sync`, { operations });
+    return response.data;
+  },
+
   updateScorecard: async (
     scorecardId: number,
     request: UpdateScorecardRequest
@@ -0,0 +1,106 @@
+import { Client, IMessage } from '@stomp/stompjs';
+import SockJS from 'sockjs-client';
+import { ScorecardEvent } from '../types';
+
+const API_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080/api';
+
+export interface ScoreFrame {
+  clientSeq: number;
+  holeId: number;
+  golpes: number;
+  tipo: 'PROPIO' | 'MARCADOR';
+}
+
+export interface ScoreAck {
+  clientSeq: number;
+  holeId: number;
+  tipo: 'PROPIO' | 'MARCADOR';
+  ok: boolean;
+  error?: string;
+}
+
+interface ScoringSocketHandlers {
+  // Último evento aplicado: al (re)conectar se le pide al backend lo que vino después.
+  lastSeq: () => number;
+  onEvent: (event: ScorecardEvent) => void;
+  onRefresh: () => void;
+  onAck: (ack: ScoreAck) => void;
+  onConnectionChange?: (connected: boolean) => void;
+}
+
+export interface ScoringSocket {
+  connected: () => boolean;
+  // false si no hay conexión: el llamador guarda por REST.
+  sendScore: (frame: ScoreFrame) => boolean;
+  close: () => void;
+}
+
+// Canal STOMP (sobre SockJS) de una tarjeta: golpes hacia el backend con ack por frame, y los
+// eventos de concordancia de vuelta por el mismo socket.
+export const connectScoringSocket = (scorecardId: number, handlers: ScoringSocketHandlers): ScoringSocket => {
+  let connected = false;
+
+  const setConnected = (value: boolean) => {
+    if (connected === value) return;
+    connected = value;
+    handlers.onConnectionChange?.(value);
+  };
+
+  const dispatch = (message: IMessage) => {
+    const event = message.headers['event'];
+    if (event === 'refresh') {
+      handlers.onRefresh();
+      return;
+    }
+    let body: unknown;
+    try {
+      body = JSON.parse(message.body);
+    } catch {
+      handlers.onRefresh();
+      return;
+    }
+    if (event === 'ack') {
+      handlers.onAck(body as ScoreAck);
+    } else if (event === 'concordanciaActualizada') {
+      const scorecardEvent = body as ScorecardEvent;
+      if (scorecardEvent.scorecardId === scorecardId) handlers.onEvent(scorecardEvent);
+    }
+  };
+
+  const client = new Client({
+    webSocketFactory: () => new SockJS(`${API_URL}/ws`),
+    reconnectDelay: 2000,
+    heartbeatIncoming: 10000,
+    heartbeatOutgoing: 10000,
+    onConnect: () => {
+      client.subscribe(`/topic/scorecards/${scorecardId}`, dispatch);
+      client.subscribe('/topic/scorecards', dispatch);
+      client.subscribe('/user/queue/scoring', dispatch);
+      // Los eventos publicados mientras no estábamos suscriptos: los repite el backend o manda refresh.
+      client.publish({
+        destination: `/app/scorecards/${scorecardId}/resume`,
+        body: String(handlers.lastSeq()),
+      });
+      setConnected(true);
+    },
+    onWebSocketClose: () => setConnected(false),
+    onStompError: (frame) => console.error('Error STOMP:', frame.headers['message']),
+  });
+  client.activate();
+
+  return {
+    connected: () => connected,
+    sendScore: (frame) => {
+      if (!connected) return false;
+      client.publish({
+        destination: `/app/scorecards/${scorecardId}/scores`,
+        body: JSON.stringify(frame),
+      });
+      return true;
+    },
+    close: () => {
+      setConnected(false);
+      void client.deactivate();
+    },
+  };
+};
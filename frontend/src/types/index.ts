@@ -171,6 +171,15 @@ export interface Scorecard {
   totalPar: number;
   marcadorValidado?: boolean;
   markedPlayerScorecardStatus?: string;
+  eventSeq?: number;
+}
+
+// Evento SSE concordanciaActualizada: filas de hoyos que cambiaron (solo holeId, golpes, validado y estado)
+export interface ScorecardEvent {
+  scorecardId: number;
+  seq: number;
+  marcadorValidado: boolean;
+  holeScores: Pick<HoleScore, 'holeId' | 'golpesPropio' | 'golpesMarcador' | 'validado' | 'estadoConcordancia'>[];
 }
 
 export interface HoleScore {
@@ -0,0 +1,191 @@
+package com.golf.tournament.loadtest;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Carga directa por JDBC de un torneo listo para jugar: campo de 18 hoyos con tees de caballeros
+ * y damas, tabla de conversión de handicap por tee, N jugadores, un circuito (torneo admin) con una
+ * etapa que contiene la fecha, y la inscripción de todos los jugadores en ambos.
+ *
+ * El esquema lo crea Flyway al levantar el backend: el seed asume que la base ya está migrada.
+ * Cada corrida crea entidades nuevas con un sufijo propio, así se puede repetir sin limpiar.
+ */
+final class DatabaseSeeder {
+
+    static final int[] PARS = {4, 4, 3, 5, 4, 4, 3, 5, 4, 4, 5, 3, 4, 4, 3, 4, 5, 4};
+    private static final int[] HOLE_HANDICAPS = {7, 3, 17, 1, 11, 5, 15, 9, 13, 8, 2, 18, 6, 12, 16, 4, 10, 14};
+
+    private final LoadTestConfig config;
+    private final Random random;
+
+    DatabaseSeeder(LoadTestConfig config) {
+        this.config = config;
+        this.random = new Random(config.seed());
+    }
+
+    SeededTournament seed() throws SQLException {
+        String run = Long.toString(System.currentTimeMillis() % 100_000_000L, 36).toUpperCase();
+        try (Connection connection = DriverManager.getConnection(config.jdbcUrl(), config.dbUser(), config.dbPassword())) {
+            connection.setAutoCommit(false);
+
+            long courseId = insertReturningId(connection,
+                    "INSERT INTO courses (nombre, pais, provincia, ciudad, cantidad_hoyos, course_rating, slope_rating) "
+                            + "VALUES (?, 'Argentina', 'Buenos Aires', 'Pilar', 18, 72.0, 125)",
+                    "Campo Carga " + run);
+
+            List<Long> holeIds = new ArrayList<>();
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO holes (course_id, numero_hoyo, par, handicap) VALUES (?, ?, ?, ?)", new String[]{"id"})) {
+                for (int i = 0; i < PARS.length; i++) {
+                    ps.setLong(1, courseId);
+                    ps.setInt(2, i + 1);
+                    ps.setInt(3, PARS[i]);
+                    ps.setInt(4, HOLE_HANDICAPS[i]);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                holeIds.addAll(generatedIds(ps));
+            }
+
+            long teeCaballeros = insertTee(connection, courseId, "Amarillas");
+            long teeDamas = insertTee(connection, courseId, "Rojas");
+            insertHandicapConversions(connection, teeCaballeros, 1.13);
+            insertHandicapConversions(connection, teeDamas, 1.05);
+
+            List<Long> playerIds = insertPlayers(connection, run);
+
+            String codigo = "LT" + run;
+            long tournamentId;
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO tournaments (nombre, codigo, tipo, modalidad, estado, course_id, tee_masculino_id, "
+                            + "tee_femenino_id, cantidad_hoyos_juego, fecha_inicio, limite_inscriptos) "
+                            + "VALUES (?, ?, 'FRUTALES', 'MEDAL_PLAY', 'IN_PROGRESS', ?, ?, ?, 18, ?, ?)",
+                    new String[]{"id"})) {
+                ps.setString(1, "Torneo de carga " + run);
+                ps.setString(2, codigo);
+                ps.setLong(3, courseId);
+                ps.setLong(4, teeCaballeros);
+                ps.setLong(5, teeDamas);
+                ps.setDate(6, Date.valueOf(LocalDate.now()));
+                ps.setInt(7, playerIds.size());
+                ps.executeUpdate();
+                tournamentId = generatedIds(ps).get(0);
+            }
+            batchInsertPairs(connection,
+                    "INSERT INTO tournament_inscriptions (tournament_id, player_id, pagado) VALUES (?, ?, TRUE)",
+                    tournamentId, playerIds);
+
+            long adminId = insertReturningId(connection,
+                    "INSERT INTO tournament_admins (nombre, fecha, tipo, valor_inscripcion, cantidad_cuotas) "
+                            + "VALUES (?, CURRENT_DATE, 'FRUTALES', 10000, 4)",
+                    "Circuito de carga " + run);
+            long stageId;
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO tournament_admin_stages (tournament_admin_id, nombre) VALUES (?, 'Etapa 1')",
+                    new String[]{"id"})) {
+                ps.setLong(1, adminId);
+                ps.executeUpdate();
+                stageId = generatedIds(ps).get(0);
+            }
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO tournament_admin_stage_tournaments (stage_id, tournament_id) VALUES (?, ?)")) {
+                ps.setLong(1, stageId);
+                ps.setLong(2, tournamentId);
+                ps.executeUpdate();
+            }
+            batchInsertPairs(connection,
+                    "INSERT INTO tournament_admin_inscriptions (tournament_admin_id, player_id) VALUES (?, ?)",
+                    adminId, playerIds);
+
+            connection.commit();
+            return new SeededTournament(tournamentId, codigo, playerIds, holeIds);
+        }
+    }
+
+    private long insertTee(Connection connection, long courseId, String nombre) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO course_tees (course_id, nombre, active) VALUES (?, ?, TRUE)", new String[]{"id"})) {
+            ps.setLong(1, courseId);
+            ps.setString(2, nombre);
+            ps.executeUpdate();
+            return generatedIds(ps).get(0);
+        }
+    }
+
+    /** Un rango por décima de handicap índice entre 0.0 y 54.0, como la tabla oficial por tee. */
+    private void insertHandicapConversions(Connection connection, long teeId, double factor) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO handicap_conversions (tee_id, hcp_index_from, hcp_index_to, course_handicap) VALUES (?, ?, ?, ?)")) {
+            for (int tenths = 0; tenths <= 540; tenths++) {
+                BigDecimal index = BigDecimal.valueOf(tenths, 1);
+                ps.setLong(1, teeId);
+                ps.setBigDecimal(2, index);
+                ps.setBigDecimal(3, index);
+                ps.setInt(4, (int) Math.round(tenths / 10.0 * factor));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private List<Long> insertPlayers(Connection connection, String run) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO players (nombre, apellido, matricula, sexo, handicap_index, club_origen) VALUES (?, ?, ?, ?, ?, ?)",
+                new String[]{"id"})) {
+            for (int i = 0; i < config.players(); i++) {
+                ps.setString(1, "Jugador" + i);
+                ps.setString(2, "Carga" + run);
+                ps.setString(3, "LT" + run + "-" + i);
+                ps.setString(4, random.nextDouble() < 0.2 ? "F" : "M");
+                ps.setBigDecimal(5, BigDecimal.valueOf(random.nextInt(361), 1));
+                ps.setString(6, "Club " + (i % 12));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            return generatedIds(ps);
+        }
+    }
+
+    private static void batchInsertPairs(Connection connection, String sql, long parentId, List<Long> playerIds)
+            throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (Long playerId : playerIds) {
+                ps.setLong(1, parentId);
+                ps.setLong(2, playerId);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private static long insertReturningId(Connection connection, String sql, String nombre) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"})) {
+            ps.setString(1, nombre);
+            ps.executeUpdate();
+            return generatedIds(ps).get(0);
+        }
+    }
+
+    private static List<Long> generatedIds(PreparedStatement ps) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet rs = ps.getGeneratedKeys()) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    record SeededTournament(long tournamentId, String codigo, List<Long> playerIds, List<Long> holeIds) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.golf.tournament.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Cliente HTTP del backend con las mismas llamadas que hace la app durante un torneo. Cada
+ * llamada se mide en {@link LatencyRecorder} bajo el nombre del endpoint (con los ids como
+ * plantilla), y un error HTTP o de red se cuenta como error sin cortar la corrida.
+ */
+final class GolfApiClient {
+
+    static final String CREATE_SCORECARD = "POST /scorecards/tournaments/{id}/players/{id}";
+    static final String ASSIGN_MARKER = "PATCH /scorecards/{id}/marker/{id}";
+    static final String UPDATE_SCORE = "PATCH /scorecards/{id}/scores";
+    static final String GET_SCORECARD = "GET /scorecards/{id}";
+    static final String DELIVER = "POST /scorecards/{id}/deliver";
+    static final String PUBLIC_LEADERBOARD = "GET /leaderboard/public/{codigo}";
+    static final String SCORECARD_EVENTS = "SSE /scorecards/{id}/events (conexión)";
+    static final String LEADERBOARD_EVENTS = "SSE /leaderboard/public/{codigo}/events (conexión)";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+
+    GolfApiClient(String baseUrl, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.recorder = recorder;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /** Crea (o recupera) la tarjeta del jugador y devuelve su id, o {@code null} si falló. */
+    Long createScorecard(long tournamentId, long playerId) {
+        String body = call(CREATE_SCORECARD, request("/scorecards/tournaments/" + tournamentId + "/players/" + playerId)
+                .POST(HttpRequest.BodyPublishers.noBody()));
+        if (body == null) return null;
+        try {
+            JsonNode id = objectMapper.readTree(body).get("id");
+            return id != null && id.isNumber() ? id.asLong() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    boolean assignMarker(long scorecardId, long markerPlayerId) {
+        return call(ASSIGN_MARKER, request("/scorecards/" + scorecardId + "/marker/" + markerPlayerId)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())) != null;
+    }
+
+    boolean updateScore(long scorecardId, long holeId, int golpes, String tipo) {
+        String json = "{\"holeId\":" + holeId + ",\"golpes\":" + golpes + ",\"tipo\":\"" + tipo + "\"}";
+        return call(UPDATE_SCORE, request("/scorecards/" + scorecardId + "/scores")
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(json))) != null;
+    }
+
+    boolean getScorecard(long scorecardId) {
+        return call(GET_SCORECARD, request("/scorecards/" + scorecardId).GET()) != null;
+    }
+
+    /** La tarjeta como la devuelve el backend, o {@code null} si falló. */
+    JsonNode fetchScorecard(long scorecardId) {
+        String body = call(GET_SCORECARD, request("/scorecards/" + scorecardId).GET());
+        if (body == null) return null;
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    boolean deliver(long scorecardId) {
+        return call(DELIVER, request("/scorecards/" + scorecardId + "/deliver")
+                .POST(HttpRequest.BodyPublishers.noBody())) != null;
+    }
+
+    boolean getPublicLeaderboard(String codigo) {
+        return call(PUBLIC_LEADERBOARD, request("/leaderboard/public/" + codigo).GET()) != null;
+    }
+
+    SseSubscription subscribeScorecard(long scorecardId, Consumer<String> onEvent) {
+        return subscribe(SCORECARD_EVENTS, "/scorecards/" + scorecardId + "/events", "sse.scorecard.eventos", onEvent);
+    }
+
+    SseSubscription subscribeLeaderboard(String codigo, Consumer<String> onEvent) {
+        return subscribe(LEADERBOARD_EVENTS, "/leaderboard/public/" + codigo + "/events", "sse.leaderboard.eventos", onEvent);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    /** Ejecuta la llamada y devuelve el cuerpo si respondió 2xx, {@code null} si no. */
+    private String call(String endpoint, HttpRequest.Builder builder) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            boolean ok = response.statusCode() / 100 == 2;
+            recorder.record(endpoint, System.nanoTime() - start, ok);
+            if (!ok) recorder.increment("http." + response.statusCode());
+            return ok ? response.body() : null;
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            recorder.increment("errores.red");
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Abre un stream SSE en el virtual thread actual y lo lee hasta que se cierre. La latencia que
+     * se registra es la de conexión (hasta recibir los headers); los eventos se cuentan aparte.
+     */
+    private SseSubscription subscribe(String endpoint, String path, String eventCounter, Consumer<String> onEvent) {
+        SseSubscription subscription = new SseSubscription();
+        Thread.ofVirtual().name("sse-" + path).start(() -> {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Accept", "text/event-stream")
+                    .GET()
+                    .build();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                boolean ok = response.statusCode() / 100 == 2;
+                recorder.record(endpoint, System.nanoTime() - start, ok);
+                if (!ok) {
+                    response.body().close();
+                    return;
+                }
+                subscription.attach(response.body());
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.startsWith("event:")) {
+                            recorder.increment(eventCounter);
+                            onEvent.accept(line.substring(6).trim());
+                        }
+                    }
+                }
+                if (!subscription.isClosed()) recorder.increment("sse.desconexiones");
+            } catch (IOException e) {
+                if (!subscription.isClosed()) {
+                    recorder.record(endpoint, System.nanoTime() - start, false);
+                    recorder.increment("sse.desconexiones");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        return subscription;
+    }
+
+    /** Suscripción SSE abierta; cerrarla corta la lectura del stream. */
+    static final class SseSubscription implements AutoCloseable {
+        private volatile InputStream body;
+        private volatile boolean closed;
+
+        private void attach(InputStream body) throws IOException {
+            this.body = body;
+            if (closed) body.close();
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            InputStream current = body;
+            if (current != null) {
+                try {
+                    current.close();
+                } catch (IOException ignored) {
+                    // el stream ya estaba cerrado
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.golf.tournament.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Latencias por endpoint y contadores sueltos (eventos SSE, conexiones). Guarda todas las
+ * muestras para calcular percentiles exactos al final: en una corrida de un torneo son a lo sumo
+ * unos cientos de miles.
+ *
+ * Usa {@link ReentrantLock} y no {@code synchronized} para no fijar los virtual threads al carrier.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private volatile long startedAt = System.nanoTime();
+    private volatile long finishedAt;
+
+    void start() {
+        startedAt = System.nanoTime();
+    }
+
+    void finish() {
+        finishedAt = System.nanoTime();
+    }
+
+    void record(String endpoint, long nanos, boolean ok) {
+        series.computeIfAbsent(endpoint, k -> new Series()).add(nanos, ok);
+    }
+
+    void increment(String counter) {
+        counters.computeIfAbsent(counter, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    List<EndpointSummary> summarize() {
+        double seconds = Math.max(1, (finishedAt > 0 ? finishedAt : System.nanoTime()) - startedAt) / 1e9;
+        List<EndpointSummary> summaries = new ArrayList<>();
+        new TreeMap<>(series).forEach((endpoint, s) -> summaries.add(s.summarize(endpoint, seconds)));
+        return summaries;
+    }
+
+    void printReport(PrintStream out) {
+        List<EndpointSummary> summaries = summarize();
+        out.println();
+        out.printf(Locale.ROOT, "%-44s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (EndpointSummary s : summaries) {
+            out.printf(Locale.ROOT, "%-44s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    s.endpoint(), s.count(), s.errors(), s.throughput(), s.p50(), s.p90(), s.p99(), s.max());
+        }
+        if (!counters.isEmpty()) {
+            out.println();
+            new TreeMap<>(counters).forEach((name, value) -> out.printf("%-44s %8d%n", name, value.get()));
+        }
+    }
+
+    void writeCsv(Path path) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,count,errors,throughput_rps,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+        for (EndpointSummary s : summarize()) {
+            lines.add(String.format(Locale.ROOT, "\"%s\",%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f",
+                    s.endpoint(), s.count(), s.errors(), s.throughput(), s.p50(), s.p90(), s.p99(), s.p999(), s.max()));
+        }
+        counters.forEach((name, value) -> lines.add(String.format("\"%s\",%d,,,,,,,", name, value.get())));
+        Files.write(path, lines);
+    }
+
+    record EndpointSummary(String endpoint, long count, long errors, double throughput,
+                           double p50, double p90, double p99, double p999, double max) {
+    }
+
+    private static final class Series {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long nanos, boolean ok) {
+            lock.lock();
+            try {
+                if (size == samples.length) {
+                    samples = Arrays.copyOf(samples, size * 2);
+                }
+                samples[size++] = nanos;
+                if (!ok) errors++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        EndpointSummary summarize(String endpoint, double seconds) {
+            long[] sorted;
+            long errorCount;
+            lock.lock();
+            try {
+                sorted = Arrays.copyOf(samples, size);
+                errorCount = errors;
+            } finally {
+                lock.unlock();
+            }
+            Arrays.sort(sorted);
+            return new EndpointSummary(endpoint, sorted.length, errorCount, sorted.length / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+        }
+    }
+}
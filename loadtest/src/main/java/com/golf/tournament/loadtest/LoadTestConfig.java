@@ -0,0 +1,71 @@
+package com.golf.tournament.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parámetros de una corrida. Se pasan como {@code --clave=valor}; lo que no se indique toma
+ * el valor por defecto (un torneo de 144 jugadores, salida simultánea por los 18 hoyos).
+ */
+public record LoadTestConfig(
+        String scenario,
+        String baseUrl,
+        String jdbcUrl,
+        String dbUser,
+        String dbPassword,
+        int players,
+        int spectators,
+        Duration checkInWindow,
+        Duration holeInterval,
+        Duration pollInterval,
+        double markerErrorRate,
+        long seed,
+        Path csvOut,
+        int threads,
+        int iterations,
+        int stressHoles
+) {
+
+    static final String TOURNAMENT_DAY = "tournament-day";
+    static final String MARKER_PAIR = "marker-pair";
+
+    public static LoadTestConfig fromArgs(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg + " (formato --clave=valor)");
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+                values.getOrDefault("scenario", TOURNAMENT_DAY),
+                values.getOrDefault("base-url", "http://localhost:8080/api"),
+                values.getOrDefault("jdbc-url", "jdbc:postgresql://localhost:5432/golf_tournament"),
+                values.getOrDefault("db-user", "postgres"),
+                values.getOrDefault("db-password", "postgres"),
+                Integer.parseInt(values.getOrDefault("players", "144")),
+                Integer.parseInt(values.getOrDefault("spectators", "50")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("check-in-seconds", "30"))),
+                Duration.ofMillis(Long.parseLong(values.getOrDefault("hole-interval-ms", "5000"))),
+                Duration.ofMillis(Long.parseLong(values.getOrDefault("poll-interval-ms", "10000"))),
+                Double.parseDouble(values.getOrDefault("marker-error-rate", "0.03")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                values.containsKey("csv") ? Path.of(values.get("csv")) : null,
+                Integer.parseInt(values.getOrDefault("threads", "32")),
+                Integer.parseInt(values.getOrDefault("iterations", "100")),
+                Integer.parseInt(values.getOrDefault("stress-holes", "3"))
+        );
+        if (!TOURNAMENT_DAY.equals(config.scenario()) && !MARKER_PAIR.equals(config.scenario())) {
+            throw new IllegalArgumentException("Escenario desconocido: " + config.scenario()
+                    + " (" + TOURNAMENT_DAY + " o " + MARKER_PAIR + ")");
+        }
+        if (config.players() < 2) {
+            throw new IllegalArgumentException("Se necesitan al menos 2 jugadores para armar grupos con marcador");
+        }
+        return config;
+    }
+}
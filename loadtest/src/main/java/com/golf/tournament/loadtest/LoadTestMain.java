@@ -0,0 +1,40 @@
+package com.golf.tournament.loadtest;
+
+/**
+ * Punto de entrada: siembra un torneo nuevo en la base, juega el día completo contra el backend
+ * y al final imprime el reporte de throughput y percentiles por endpoint.
+ *
+ * Con {@code --scenario=marker-pair} corre en cambio la prueba de concurrencia sobre una pareja de
+ * marcadores ({@link MarkerPairStressScenario}); si la concordancia queda mal, termina con código 1.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+
+        DatabaseSeeder.SeededTournament tournament = new DatabaseSeeder(config).seed();
+        System.out.printf("Torneo %d (código %s) sembrado con %d jugadores%n",
+                tournament.tournamentId(), tournament.codigo(), tournament.playerIds().size());
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        GolfApiClient client = new GolfApiClient(config.baseUrl(), recorder);
+        boolean consistent = true;
+        if (LoadTestConfig.MARKER_PAIR.equals(config.scenario())) {
+            consistent = new MarkerPairStressScenario(config, client, recorder).run(tournament);
+        } else {
+            new TournamentDayScenario(config, client, recorder).run(tournament);
+        }
+
+        recorder.printReport(System.out);
+        if (config.csvOut() != null) {
+            recorder.writeCsv(config.csvOut());
+            System.out.println("CSV escrito en " + config.csvOut());
+        }
+        if (!consistent) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.golf.tournament.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Prueba de concurrencia de la concordancia: dos jugadores que se marcan entre sí y muchos threads
+ * cargando a la vez golpes propios y de marcador de las dos tarjetas, siempre sobre los mismos pocos
+ * hoyos para que las transacciones choquen.
+ *
+ * No importa qué valor gana en cada hoyo, sino que al final la concordancia coincida con los golpes
+ * que quedaron: {@code validado} de cada fila igual a "el marcador cargó lo mismo que el marcado", y
+ * {@code marcadorValidado} igual a "todas las filas validadas". Después una segunda ronda, también
+ * concurrente, deja todos los golpes en par; ahí se espera todo validado en las dos tarjetas.
+ *
+ * Los hoyos que no se estresan se cargan antes, en par y coincidentes, así {@code marcadorValidado}
+ * depende solo de los hoyos en disputa.
+ */
+final class MarkerPairStressScenario {
+
+    private static final String[] TIPOS = {"PROPIO", "MARCADOR"};
+
+    private final LoadTestConfig config;
+    private final GolfApiClient client;
+    private final LatencyRecorder recorder;
+
+    MarkerPairStressScenario(LoadTestConfig config, GolfApiClient client, LatencyRecorder recorder) {
+        this.config = config;
+        this.client = client;
+        this.recorder = recorder;
+    }
+
+    /** {@code true} si la concordancia de las dos tarjetas quedó bien después de cada ronda. */
+    boolean run(DatabaseSeeder.SeededTournament tournament) throws InterruptedException {
+        long tournamentId = tournament.tournamentId();
+        long playerA = tournament.playerIds().get(0);
+        long playerB = tournament.playerIds().get(1);
+        Long cardA = client.createScorecard(tournamentId, playerA);
+        Long cardB = client.createScorecard(tournamentId, playerB);
+        if (cardA == null || cardB == null
+                || !client.assignMarker(cardA, playerB) || !client.assignMarker(cardB, playerA)) {
+            System.out.println("No se pudieron crear las tarjetas de la pareja");
+            return false;
+        }
+        long[] cards = {cardA, cardB};
+
+        List<Long> holeIds = tournament.holeIds();
+        int stressHoles = Math.min(config.stressHoles(), holeIds.size());
+        for (int h = stressHoles; h < holeIds.size(); h++) {
+            int par = par(h);
+            for (long card : cards) {
+                client.updateScore(card, holeIds.get(h), par, "PROPIO");
+                client.updateScore(card, holeIds.get(h), par, "MARCADOR");
+            }
+        }
+        System.out.printf("Tarjetas %d y %d marcándose entre sí: %d threads x %d cargas sobre %d hoyo(s)%n",
+                cardA, cardB, config.threads(), config.iterations(), stressHoles);
+
+        recorder.start();
+        hammer(thread -> {
+            Random random = new Random(config.seed() * 31 + thread);
+            for (int i = 0; i < config.iterations(); i++) {
+                int hole = random.nextInt(stressHoles);
+                client.updateScore(cards[random.nextInt(2)], holeIds.get(hole),
+                        par(hole) + random.nextInt(2), TIPOS[random.nextInt(2)]);
+            }
+        });
+        int inconsistent = checkConcordance(cardA, cardB, false);
+        System.out.printf("Ronda aleatoria: %d fila(s) o tarjeta(s) con concordancia inconsistente%n", inconsistent);
+
+        hammer(thread -> {
+            List<Runnable> writes = new ArrayList<>();
+            for (int hole = 0; hole < stressHoles; hole++) {
+                long holeId = holeIds.get(hole);
+                int par = par(hole);
+                for (long card : cards) {
+                    for (String tipo : TIPOS) {
+                        writes.add(() -> client.updateScore(card, holeId, par, tipo));
+                    }
+                }
+            }
+            Collections.shuffle(writes, new Random(config.seed() + thread));
+            writes.forEach(Runnable::run);
+        });
+        int notValidated = checkConcordance(cardA, cardB, true);
+        System.out.printf("Ronda en par: %d fila(s) o tarjeta(s) sin validar%n", notValidated);
+        recorder.finish();
+
+        return inconsistent == 0 && notValidated == 0;
+    }
+
+    /** Corre la ronda en {@code --threads} virtual threads que arrancan todos juntos. */
+    private void hammer(ThreadRound round) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < config.threads(); t++) {
+                int thread = t;
+                threads.submit(() -> {
+                    start.await();
+                    round.run(thread);
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+    }
+
+    /**
+     * Cuenta filas y tarjetas cuya concordancia no coincide con los golpes guardados. Con
+     * {@code expectAllValidated} además cuenta como error cualquier fila o tarjeta sin validar.
+     */
+    private int checkConcordance(long cardA, long cardB, boolean expectAllValidated) {
+        JsonNode a = client.fetchScorecard(cardA);
+        JsonNode b = client.fetchScorecard(cardB);
+        if (a == null || b == null) {
+            recorder.increment("concordancia.sin_lectura");
+            return 1;
+        }
+        return checkCard(a, b, expectAllValidated) + checkCard(b, a, expectAllValidated);
+    }
+
+    /** {@code marker} es la tarjeta de quien marca; {@code marked}, la del marcado. */
+    private int checkCard(JsonNode marker, JsonNode marked, boolean expectAllValidated) {
+        Map<Long, JsonNode> propios = new HashMap<>();
+        for (JsonNode row : marked.path("holeScores")) {
+            propios.put(row.path("holeId").asLong(), row.path("golpesPropio"));
+        }
+
+        int errors = 0;
+        boolean allValidated = marker.path("holeScores").size() > 0;
+        for (JsonNode row : marker.path("holeScores")) {
+            JsonNode golpesMarcador = row.path("golpesMarcador");
+            JsonNode golpesPropio = propios.getOrDefault(row.path("holeId").asLong(), null);
+            boolean expected = golpesMarcador.isNumber() && golpesPropio != null && golpesPropio.isNumber()
+                    && golpesMarcador.asInt() == golpesPropio.asInt();
+            boolean validado = row.path("validado").asBoolean(false);
+            allValidated &= validado;
+            if (validado != expected || (expectAllValidated && !validado)) {
+                recorder.increment("concordancia.filas_inconsistentes");
+                errors++;
+            }
+        }
+        boolean marcadorValidado = marker.path("marcadorValidado").asBoolean(false);
+        if (marcadorValidado != allValidated || (expectAllValidated && !marcadorValidado)) {
+            recorder.increment("concordancia.tarjetas_inconsistentes");
+            errors++;
+        }
+        return errors;
+    }
+
+    private static int par(int hole) {
+        return DatabaseSeeder.PARS[hole % DatabaseSeeder.PARS.length];
+    }
+
+    @FunctionalInterface
+    private interface ThreadRound {
+        void run(int thread);
+    }
+}
@@ -0,0 +1,183 @@
+package com.golf.tournament.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Un sábado con salida simultánea (shotgun): los jugadores llegan durante la ventana de check-in,
+ * crean su tarjeta, se les asigna a quién marcan y se suscriben a los eventos de su tarjeta. A la
+ * hora de salida todos los grupos arrancan a la vez, cada uno desde un hoyo distinto, y en cada
+ * hoyo cada jugador carga sus golpes (PROPIO) y los de su marcado (MARCADOR). Al terminar los 18
+ * hoyos entregan la tarjeta.
+ *
+ * En paralelo, los espectadores siguen el leaderboard público: lo consultan periódicamente y,
+ * además, lo refrescan cuando llega un evento SSE (como mucho uno por segundo cada uno).
+ *
+ * Cada jugador y cada espectador corre en su propio virtual thread.
+ */
+final class TournamentDayScenario {
+
+    private static final int GROUP_SIZE = 4;
+    private static final Duration CORRECTION_DELAY = Duration.ofSeconds(1);
+    private static final long SPECTATOR_MIN_REFRESH_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final LoadTestConfig config;
+    private final GolfApiClient client;
+    private final LatencyRecorder recorder;
+
+    TournamentDayScenario(LoadTestConfig config, GolfApiClient client, LatencyRecorder recorder) {
+        this.config = config;
+        this.client = client;
+        this.recorder = recorder;
+    }
+
+    void run(DatabaseSeeder.SeededTournament tournament) throws InterruptedException {
+        List<Long> playerIds = tournament.playerIds();
+        int holes = tournament.holeIds().size();
+        int[][] strokes = generateStrokes(playerIds.size(), holes);
+        int[] markedIndex = buildMarkerAssignments(playerIds.size());
+
+        long scenarioStart = System.nanoTime();
+        long shotgunAt = scenarioStart + config.checkInWindow().toNanos();
+        long roundNanos = config.holeInterval().toNanos() * holes;
+        AtomicBoolean roundOver = new AtomicBoolean(false);
+        Random jitter = new Random(config.seed() + 1);
+
+        recorder.start();
+        try (ExecutorService spectators = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int s = 0; s < config.spectators(); s++) {
+                long firstPoll = (long) (jitter.nextDouble() * config.pollInterval().toNanos());
+                spectators.submit(() -> spectate(tournament.codigo(), firstPoll, roundOver));
+            }
+
+            try (ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < playerIds.size(); i++) {
+                    int playerIndex = i;
+                    long arrival = scenarioStart + (long) (jitter.nextDouble() * config.checkInWindow().toNanos());
+                    int startingHole = (i / GROUP_SIZE) % holes;
+                    long seed = config.seed() * 31 + i;
+                    players.submit(() -> playRound(tournament, playerIndex, markedIndex[playerIndex], strokes,
+                            arrival, shotgunAt, startingHole, new Random(seed)));
+                }
+                System.out.printf("%d jugadores en juego, salida simultánea en %ds, vuelta de ~%ds%n",
+                        playerIds.size(), config.checkInWindow().toSeconds(), Duration.ofNanos(roundNanos).toSeconds());
+            }
+            roundOver.set(true);
+        }
+        recorder.finish();
+    }
+
+    private void playRound(DatabaseSeeder.SeededTournament tournament, int playerIndex, int marked,
+                           int[][] strokes, long arrival, long shotgunAt, int startingHole, Random random) {
+        sleepUntil(arrival);
+        long playerId = tournament.playerIds().get(playerIndex);
+        Long scorecardId = client.createScorecard(tournament.tournamentId(), playerId);
+        if (scorecardId == null) {
+            recorder.increment("jugadores.sin_tarjeta");
+            return;
+        }
+        client.assignMarker(scorecardId, tournament.playerIds().get(marked));
+
+        // los eventos traen las filas que cambiaron; la app solo vuelve a leer la tarjeta si le piden refresh
+        try (GolfApiClient.SseSubscription ignored = client.subscribeScorecard(scorecardId, event -> {
+            if ("refresh".equals(event)) client.getScorecard(scorecardId);
+        })) {
+            client.getScorecard(scorecardId);
+
+            int holes = tournament.holeIds().size();
+            for (int n = 0; n < holes; n++) {
+                int hole = (startingHole + n) % holes;
+                long holeDone = shotgunAt + config.holeInterval().toNanos() * (n + 1);
+                sleepUntil(holeDone - (long) (random.nextDouble() * config.holeInterval().toNanos() * 0.2));
+
+                long holeId = tournament.holeIds().get(hole);
+                client.updateScore(scorecardId, holeId, strokes[playerIndex][hole], "PROPIO");
+                int markedStrokes = strokes[marked][hole];
+                if (random.nextDouble() < config.markerErrorRate()) {
+                    client.updateScore(scorecardId, holeId, markedStrokes + 1, "MARCADOR");
+                    sleep(CORRECTION_DELAY.toNanos());
+                    recorder.increment("marcador.correcciones");
+                }
+                client.updateScore(scorecardId, holeId, markedStrokes, "MARCADOR");
+            }
+            client.deliver(scorecardId);
+        }
+    }
+
+    private void spectate(String codigo, long firstPollDelay, AtomicBoolean roundOver) {
+        AtomicLong lastFetch = new AtomicLong(0);
+        Runnable refresh = () -> {
+            lastFetch.set(System.nanoTime());
+            client.getPublicLeaderboard(codigo);
+        };
+        try (GolfApiClient.SseSubscription ignored = client.subscribeLeaderboard(codigo, event -> {
+            if (System.nanoTime() - lastFetch.get() >= SPECTATOR_MIN_REFRESH_NANOS) {
+                refresh.run();
+            }
+        })) {
+            sleep(firstPollDelay);
+            while (!roundOver.get()) {
+                refresh.run();
+                sleep(config.pollInterval().toNanos());
+            }
+        }
+    }
+
+    /** Golpes por jugador y hoyo, fijos por semilla: par ± 1 con algún doble bogey y birdie. */
+    private int[][] generateStrokes(int players, int holes) {
+        Random random = new Random(config.seed());
+        int[][] strokes = new int[players][holes];
+        for (int p = 0; p < players; p++) {
+            for (int h = 0; h < holes; h++) {
+                int par = DatabaseSeeder.PARS[h % DatabaseSeeder.PARS.length];
+                double r = random.nextDouble();
+                strokes[p][h] = r < 0.12 ? par - 1 : r < 0.55 ? par : r < 0.88 ? par + 1 : par + 2;
+            }
+        }
+        return strokes;
+    }
+
+    /**
+     * Índice del jugador que marca cada uno: en grupos de 4, cada uno marca al siguiente del grupo
+     * (rueda). Si el último grupo queda de 1, se suma al anterior.
+     */
+    private static int[] buildMarkerAssignments(int players) {
+        List<int[]> groups = new ArrayList<>();
+        for (int start = 0; start < players; start += GROUP_SIZE) {
+            int end = Math.min(start + GROUP_SIZE, players);
+            if (end - start == 1 && !groups.isEmpty()) {
+                int[] previous = groups.remove(groups.size() - 1);
+                groups.add(new int[]{previous[0], end});
+            } else {
+                groups.add(new int[]{start, end});
+            }
+        }
+        int[] marked = new int[players];
+        for (int[] group : groups) {
+            int size = group[1] - group[0];
+            for (int i = 0; i < size; i++) {
+                marked[group[0] + i] = group[0] + (i + 1) % size;
+            }
+        }
+        return marked;
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        sleep(nanoTime - System.nanoTime());
+    }
+
+    private static void sleep(long nanos) {
+        if (nanos <= 0) return;
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}